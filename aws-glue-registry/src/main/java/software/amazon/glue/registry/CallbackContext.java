@@ -7,4 +7,17 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+
+    Long stabilizationStartTime;
+    int stabilizationAttempts = 0;
+
+    Integer remainingSchemaCount;
+    boolean remainingSchemaCountLowerBound;
+    Integer sampledSchemaPageHash;
+    Long remainingSchemaSampleTime;
+    Double schemaDeletionRate;
+
+    //Set by HandlerTracer, so that every callback of an operation appends to the same trace.
+    String traceId;
+    int traceInvocations = 0;
 }
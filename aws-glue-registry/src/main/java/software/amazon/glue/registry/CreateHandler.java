@@ -18,18 +18,14 @@ import static java.util.stream.Collectors.toMap;
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
+            .then(progress -> HandlerTracer.span("AWS-Glue-Registry::Create", () ->
                 proxy.initiate(
                     "AWS-Glue-Registry::Create",
                     proxyClient,
@@ -37,15 +33,16 @@ public class CreateHandler extends BaseHandlerStd {
                     progress.getCallbackContext())
 
                     .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::createRegistry)
+                    .makeServiceCall((awsRequest, client) -> createRegistry(awsRequest, client, logger))
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
                     .done(awsResponse -> ProgressEvent.defaultSuccessHandler(toResourceModel(awsResponse))
-                    ));
+                    )));
     }
 
     private CreateRegistryResponse createRegistry(
         CreateRegistryRequest createRegistryRequest,
-        ProxyClient<GlueClient> proxyClient) {
+        ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         CreateRegistryResponse createRegistryResponse = null;
         try {
@@ -4,10 +4,7 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.DeleteRegistryRequest;
 import software.amazon.awssdk.services.glue.model.DeleteRegistryResponse;
-import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
-import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
 import software.amazon.awssdk.services.glue.model.RegistryId;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
@@ -22,13 +19,25 @@ import java.time.Duration;
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private static final String STABILIZE_CALL_GRAPH = "AWS-Glue-Registry::Delete::Stabilize";
     private static final Delay DELAY =
         Constant.of()
             .timeout(Duration.ofSeconds(120L))
             .delay(Duration.ofSeconds(2L))
             .build();
+    //Counts from the last poll that saw schemas go away, see RegistryDeleteProgressTracker.
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER =
+        new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L));
 
-    private Logger logger;
+    private final StabilizationScheduler stabilizationScheduler;
+
+    public DeleteHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
+
+    DeleteHandler(final StabilizationScheduler stabilizationScheduler) {
+        this.stabilizationScheduler = stabilizationScheduler;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -37,10 +46,8 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
+            .then(progress -> HandlerTracer.span("AWS-Glue-Registry::Delete", () ->
                 proxy.initiate(
                     "AWS-Glue-Registry::Delete",
                     proxyClient,
@@ -49,63 +56,27 @@ public class DeleteHandler extends BaseHandlerStd {
                 )
                     .translateToServiceRequest(this::fromResourceModel)
                     .backoffDelay(DELAY)
-                    .makeServiceCall(this::deleteRegistry)
-                    .stabilize(this::isDeleteStabilized)
-                    .done(
-                        awsResponse ->
-                            ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                .status(OperationStatus.SUCCESS)
-                                .build()));
-    }
-
-    private Boolean isDeleteStabilized(
-        final DeleteRegistryRequest deleteRegistryRequest,
-        final DeleteRegistryResponse deleteRegistryResponse,
-        final ProxyClient<GlueClient> proxyClient,
-        final ResourceModel resourceModel,
-        final CallbackContext callbackContext
-    ) {
-        final String registryName = deleteRegistryResponse.registryName();
-
-        try {
-            final GlueClient glueClient = proxyClient.client();
-            final GetRegistryRequest getRegistryRequest =
-                GetRegistryRequest
-                    .builder()
-                    .registryId(
-                        RegistryId
-                            .builder()
-                            .registryName(registryName)
-                            .build()
-                    )
-                    .build();
-
-            proxyClient
-                .injectCredentialsAndInvokeV2(getRegistryRequest, glueClient::getRegistry);
-
-            return false;
-        } catch (EntityNotFoundException e) {
-            logger.log(
-                String.format(
-                    "%s [%s] successfully deleted.",
-                    ResourceModel.TYPE_NAME,
-                    registryName
-                )
-            );
-            return true;
-        } catch (AwsServiceException e) {
-            throw new CfnGeneralServiceException(
-                String.format("%s [%s] deletion status couldn't be retrieved: %s",
-                    ResourceModel.TYPE_NAME,
-                    registryName,
-                    e.getMessage()),
-                e);
-        }
+                    .makeServiceCall((awsRequest, client) -> deleteRegistry(awsRequest, client, logger))
+                    .progress()))
+            .then(progress -> HandlerTracer.span(STABILIZE_CALL_GRAPH, () -> {
+                final RegistryDeleteProgressTracker tracker = new RegistryDeleteProgressTracker(proxyClient, logger);
+                final CallbackContext context = progress.getCallbackContext();
+                return stabilizationScheduler.stabilize(
+                    progress,
+                    progress.getResourceModel().getName(),
+                    model -> tracker.isDeleted(model.getName(), context),
+                    () -> tracker.nextDelay(context));
+            }))
+            .then(progress ->
+                ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.SUCCESS)
+                    .build());
     }
 
     private DeleteRegistryResponse deleteRegistry(
         final DeleteRegistryRequest deleteRegistryRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         DeleteRegistryResponse deleteRegistryResponse = null;
 
@@ -1,11 +1,6 @@
 package software.amazon.glue.registry;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
-import software.amazon.awssdk.services.glue.model.AccessDeniedException;
-import software.amazon.awssdk.services.glue.model.AlreadyExistsException;
-import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
-import software.amazon.awssdk.services.glue.model.InvalidInputException;
-import software.amazon.awssdk.services.glue.model.ResourceNumberLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
@@ -18,25 +13,27 @@ public class ExceptionTranslator {
     private ExceptionTranslator() {
     }
 
+    /**
+     * Retryable errors that reach this point already exhausted the in-handler retries of
+     * {@link RetryingProxyClient}, so they are reported as general service errors.
+     */
     public static void translateToCfnException(
         final AwsServiceException exception,
         final String identifier) {
-        if (exception instanceof AccessDeniedException) {
-            throw new CfnAccessDeniedException(ResourceModel.TYPE_NAME, exception);
+        switch (ErrorClassifier.classify(exception).getHandlerErrorCode()) {
+            case AccessDenied:
+                throw new CfnAccessDeniedException(ResourceModel.TYPE_NAME, exception);
+            case AlreadyExists:
+                throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, identifier, exception);
+            case NotFound:
+                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, identifier, exception);
+            case ServiceLimitExceeded:
+                throw new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, exception.getMessage(), exception);
+            case InvalidRequest:
+                throw new CfnInvalidRequestException(exception);
+            default:
+                throw new CfnGeneralServiceException(exception.getMessage(), exception);
         }
-        if (exception instanceof AlreadyExistsException) {
-            throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, identifier, exception);
-        }
-        if (exception instanceof EntityNotFoundException) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, identifier, exception);
-        }
-        if (exception instanceof ResourceNumberLimitExceededException) {
-            throw new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, exception.getMessage(), exception);
-        }
-        if (exception instanceof InvalidInputException) {
-            throw new CfnInvalidRequestException(exception);
-        }
-        throw new CfnGeneralServiceException(exception.getMessage(), exception);
     }
 
 }
@@ -0,0 +1,144 @@
+package software.amazon.glue.registry;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Appends every Glue call made through it, with its response or error and its latency, as one
+ * JSON line to a recording file. The recording can be replayed offline to benchmark handlers
+ * against real traffic shapes.
+ *
+ * Only enabled when {@value #RECORDING_FILE_ENV} or the glue.traffic.recording.file system
+ * property is set. Requests are recorded before credentials are injected, and failures to write
+ * the recording never fail the call.
+ */
+class GlueTrafficRecorder implements ProxyClient<GlueClient> {
+    static final String RECORDING_FILE_ENV = "GLUE_TRAFFIC_RECORDING_FILE";
+
+    private static final Object FILE_LOCK = new Object();
+
+    private final ProxyClient<GlueClient> delegate;
+    private final Path recording;
+
+    GlueTrafficRecorder(
+        final ProxyClient<GlueClient> delegate,
+        final Path recording) {
+        this.delegate = delegate;
+        this.recording = recording;
+    }
+
+    static ProxyClient<GlueClient> recordIfEnabled(final ProxyClient<GlueClient> proxyClient) {
+        return RecordingSetting.FILE
+            .getStringValue()
+            .filter(recording -> !recording.isEmpty())
+            .<ProxyClient<GlueClient>>map(recording -> new GlueTrafficRecorder(proxyClient, Paths.get(recording)))
+            .orElse(proxyClient);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        final long startMillis = System.currentTimeMillis();
+        final long startNanos = System.nanoTime();
+        try {
+            final ResponseT response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+            final long elapsedMillis = elapsedMillis(startNanos);
+            append(() -> GlueTrafficCodec.encode(request, response, null, startMillis, elapsedMillis));
+            return response;
+        } catch (final AwsServiceException e) {
+            final long elapsedMillis = elapsedMillis(startNanos);
+            append(() -> GlueTrafficCodec.encode(request, null, e, startMillis, elapsedMillis));
+            throw e;
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+        injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+        IterableT injectCredentialsAndInvokeIterableV2(
+        final RequestT request,
+        final Function<RequestT, IterableT> requestFunction) {
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+        injectCredentialsAndInvokeV2InputStream(
+        final RequestT request,
+        final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+        injectCredentialsAndInvokeV2Bytes(
+        final RequestT request,
+        final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public GlueClient client() {
+        return delegate.client();
+    }
+
+    private void append(final Supplier<String> record) {
+        try {
+            final byte[] line = (record.get() + "\n").getBytes(StandardCharsets.UTF_8);
+            synchronized (FILE_LOCK) {
+                Files.write(recording, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (final IOException | RuntimeException e) {
+            //Recording is best effort and must not change the outcome of the call, even if encoding fails.
+        }
+    }
+
+    private static long elapsedMillis(final long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    private enum RecordingSetting implements SystemSetting {
+        FILE;
+
+        @Override
+        public String property() {
+            return "glue.traffic.recording.file";
+        }
+
+        @Override
+        public String environmentVariable() {
+            return RECORDING_FILE_ENV;
+        }
+
+        @Override
+        public String defaultValue() {
+            return null;
+        }
+    }
+}
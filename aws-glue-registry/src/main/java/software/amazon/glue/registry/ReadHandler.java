@@ -14,8 +14,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -23,22 +21,21 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
-        return proxy.initiate(
+        return HandlerTracer.span("AWS-Glue-Registry::Read", () -> proxy.initiate(
             "AWS-Glue-Registry::Read",
             proxyClient,
             request.getDesiredResourceState(),
             callbackContext)
 
             .translateToServiceRequest(this::fromResourceModel)
-            .makeServiceCall(this::getRegistry)
-            .done(awsResponse -> ProgressEvent.defaultSuccessHandler(toResourceModel(awsResponse)));
+            .makeServiceCall((awsRequest, client) -> getRegistry(awsRequest, client, logger))
+            .done(awsResponse -> ProgressEvent.defaultSuccessHandler(toResourceModel(awsResponse))));
     }
 
     private GetRegistryResponse getRegistry(
         final GetRegistryRequest getRegistryRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
         GetRegistryResponse getRegistryResponse = null;
         final String registryName = getRegistryRequest.registryId().registryName();
 
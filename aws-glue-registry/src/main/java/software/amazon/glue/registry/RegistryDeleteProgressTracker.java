@@ -0,0 +1,162 @@
+package software.amazon.glue.registry;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Follows a registry deletion by sampling how many of its schemas are left.
+ *
+ * Each poll reads a single ListSchemas page of up to {@value #MAX_RESULTS} schemas, so a sample
+ * costs one call however big the registry is. A full page is only a lower bound of the count, so
+ * no rate is derived from a sample that was one. While the page is full, a change in the schemas
+ * it lists shows that deletion goes on.
+ *
+ * The observed deletion rate drives the next poll delay and the logged ETA. Whenever schemas went
+ * away since the previous sample the stabilization clock is restarted, so big registries that
+ * keep making progress do not time out, while a registry stuck in DELETING still fails after the
+ * stabilization timeout. The samples live in the {@link CallbackContext} to survive callbacks.
+ */
+class RegistryDeleteProgressTracker {
+    private static final Duration DEFAULT_DELAY = Duration.ofSeconds(2L);
+    private static final Duration MIN_DELAY = Duration.ofSeconds(1L);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(30L);
+    private static final int MAX_RESULTS = 100;
+
+    private final ProxyClient<GlueClient> proxyClient;
+    private final Logger logger;
+
+    RegistryDeleteProgressTracker(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+        this.proxyClient = proxyClient;
+        this.logger = logger;
+    }
+
+    boolean isDeleted(
+        final String registryName,
+        final CallbackContext callbackContext) {
+
+        final RegistryId registryId = RegistryId.builder().registryName(registryName).build();
+        try {
+            final GetRegistryResponse getRegistryResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    GetRegistryRequest.builder().registryId(registryId).build(),
+                    proxyClient.client()::getRegistry
+                );
+
+            final ListSchemasResponse listSchemasResponse = sampleSchemas(registryId);
+            record(registryName, getRegistryResponse.statusAsString(), listSchemasResponse, callbackContext);
+            return false;
+        } catch (EntityNotFoundException e) {
+            logger.log(
+                String.format(
+                    "%s [%s] successfully deleted.",
+                    ResourceModel.TYPE_NAME,
+                    registryName
+                )
+            );
+            return true;
+        } catch (AwsServiceException e) {
+            throw new CfnGeneralServiceException(
+                String.format("%s [%s] deletion status couldn't be retrieved: %s",
+                    ResourceModel.TYPE_NAME,
+                    registryName,
+                    e.getMessage()),
+                e);
+        }
+    }
+
+    /**
+     * Polls again around the time the remaining schemas are expected to be gone, within bounds.
+     */
+    Duration nextDelay(final CallbackContext callbackContext) {
+        final Double rate = callbackContext.getSchemaDeletionRate();
+        final Integer remainingSchemas = callbackContext.getRemainingSchemaCount();
+        if (rate == null || rate <= 0 || remainingSchemas == null) {
+            return DEFAULT_DELAY;
+        }
+
+        final long expectedMillis = (long) (remainingSchemas / rate * 1000);
+        return Duration.ofMillis(Math.max(MIN_DELAY.toMillis(), Math.min(MAX_DELAY.toMillis(), expectedMillis)));
+    }
+
+    private void record(
+        final String registryName,
+        final String status,
+        final ListSchemasResponse listSchemasResponse,
+        final CallbackContext callbackContext) {
+
+        final long now = System.currentTimeMillis();
+        final int remainingSchemas = listSchemasResponse.schemas().size();
+        final boolean moreSchemas = listSchemasResponse.nextToken() != null;
+        final int pageHash = pageHash(listSchemasResponse.schemas());
+        final Integer previousSchemas = callbackContext.getRemainingSchemaCount();
+        final Long previousSampleTime = callbackContext.getRemainingSchemaSampleTime();
+        final boolean previousMoreSchemas = callbackContext.isRemainingSchemaCountLowerBound();
+
+        if (previousSchemas != null && previousSampleTime != null && now > previousSampleTime) {
+            final int deleted = previousSchemas - remainingSchemas;
+            final boolean pageChanged = moreSchemas
+                && callbackContext.getSampledSchemaPageHash() != null
+                && callbackContext.getSampledSchemaPageHash() != pageHash;
+            if (deleted > 0 && !previousMoreSchemas && !moreSchemas) {
+                callbackContext.setSchemaDeletionRate(deleted * 1000.0 / (now - previousSampleTime));
+            }
+            if (deleted > 0 || pageChanged) {
+                //Still making progress, so restart the stabilization timeout.
+                callbackContext.setStabilizationStartTime(now);
+            }
+        }
+        callbackContext.setRemainingSchemaCount(remainingSchemas);
+        callbackContext.setRemainingSchemaCountLowerBound(moreSchemas);
+        callbackContext.setSampledSchemaPageHash(pageHash);
+        callbackContext.setRemainingSchemaSampleTime(now);
+
+        final Double rate = callbackContext.getSchemaDeletionRate();
+        logger.log(
+            String.format(
+                "%s [%s] is %s with %d%s schemas remaining. Deletion rate: %s schemas/s, ETA: %s.",
+                ResourceModel.TYPE_NAME,
+                registryName,
+                status,
+                remainingSchemas,
+                moreSchemas ? "+" : "",
+                rate == null ? "unknown" : String.format("%.2f", rate),
+                rate == null || rate <= 0 ? "unknown" : Duration.ofMillis((long) (remainingSchemas / rate * 1000))
+            )
+        );
+    }
+
+    private static int pageHash(final List<SchemaListItem> schemas) {
+        final List<String> schemaNames = new ArrayList<>(schemas.size());
+        for (final SchemaListItem schema : schemas) {
+            schemaNames.add(schema.schemaName());
+        }
+        return schemaNames.hashCode();
+    }
+
+    private ListSchemasResponse sampleSchemas(final RegistryId registryId) {
+        return proxyClient.injectCredentialsAndInvokeV2(
+            ListSchemasRequest
+                .builder()
+                .registryId(registryId)
+                .maxResults(MAX_RESULTS)
+                .build(),
+            proxyClient.client()::listSchemas
+        );
+    }
+}
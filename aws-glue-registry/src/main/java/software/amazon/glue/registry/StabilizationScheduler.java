@@ -0,0 +1,101 @@
+package software.amazon.glue.registry;
+
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Polls a stabilization condition without paying for long sleeps inside the handler.
+ *
+ * Waits up to the in-process threshold are slept as long as the invocation's in-process budget
+ * lasts. Longer waits are handed back to CloudFormation as IN_PROGRESS with a callback delay.
+ * The poll cursor lives in the {@link CallbackContext} so the timeout spans callbacks.
+ */
+public class StabilizationScheduler {
+    private static final Duration DEFAULT_IN_PROCESS_THRESHOLD = Duration.ofSeconds(5L);
+    private static final Duration DEFAULT_IN_PROCESS_BUDGET = Duration.ofSeconds(20L);
+
+    private final Duration delay;
+    private final Duration timeout;
+    private final Duration inProcessThreshold;
+    private final Duration inProcessBudget;
+
+    public StabilizationScheduler(
+        final Duration delay,
+        final Duration timeout) {
+        this(delay, timeout, DEFAULT_IN_PROCESS_THRESHOLD, DEFAULT_IN_PROCESS_BUDGET);
+    }
+
+    public StabilizationScheduler(
+        final Duration delay,
+        final Duration timeout,
+        final Duration inProcessThreshold,
+        final Duration inProcessBudget) {
+        this.delay = delay;
+        this.timeout = timeout;
+        this.inProcessThreshold = inProcessThreshold;
+        this.inProcessBudget = inProcessBudget;
+    }
+
+    public ProgressEvent<ResourceModel, CallbackContext> stabilize(
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final String identifier,
+        final Predicate<ResourceModel> isStabilized) {
+        return stabilize(progress, identifier, isStabilized, () -> delay);
+    }
+
+    /**
+     * @param nextDelay asked for the wait before the next poll after every poll that was not
+     *                  stabilized, so callers can adapt it to what the poll observed.
+     */
+    public ProgressEvent<ResourceModel, CallbackContext> stabilize(
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final String identifier,
+        final Predicate<ResourceModel> isStabilized,
+        final Supplier<Duration> nextDelay) {
+
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final long invocationStart = System.currentTimeMillis();
+
+        if (callbackContext.getStabilizationStartTime() == null) {
+            callbackContext.setStabilizationStartTime(invocationStart);
+        }
+
+        while (!isStabilized.test(model)) {
+            callbackContext.setStabilizationAttempts(callbackContext.getStabilizationAttempts() + 1);
+
+            final long now = System.currentTimeMillis();
+            if (now - callbackContext.getStabilizationStartTime() >= timeout.toMillis()) {
+                throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, identifier);
+            }
+
+            final Duration wait = nextDelay.get();
+            final boolean withinBudget = now - invocationStart + wait.toMillis() <= inProcessBudget.toMillis();
+            if (wait.compareTo(inProcessThreshold) > 0 || !withinBudget || !sleep(wait)) {
+                return ProgressEvent.defaultInProgressHandler(callbackContext, toCallbackDelaySeconds(wait), model);
+            }
+        }
+
+        callbackContext.setStabilizationStartTime(null);
+        callbackContext.setStabilizationAttempts(0);
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
+    private static boolean sleep(final Duration wait) {
+        try {
+            Thread.sleep(wait.toMillis());
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static int toCallbackDelaySeconds(final Duration wait) {
+        return (int) Math.max(1L, (wait.toMillis() + 999L) / 1000L);
+    }
+}
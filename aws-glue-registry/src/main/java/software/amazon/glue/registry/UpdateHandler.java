@@ -14,8 +14,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -23,10 +21,8 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
+            .then(progress -> HandlerTracer.span("AWS-Glue-Registry::Update", () ->
                 proxy.initiate(
                     "AWS-Glue-Registry::Update",
                     proxyClient,
@@ -34,16 +30,37 @@ public class UpdateHandler extends BaseHandlerStd {
                     progress.getCallbackContext())
 
                     .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::updateRegistry)
+                    .makeServiceCall((awsRequest, client) -> updateRegistry(awsRequest, client, logger))
                     //No stabilization required for Update.
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
-                    .progress())
+                    .progress()))
+            .then(progress -> reconcileTags(progress, request, proxyClient, logger))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
+    private ProgressEvent<ResourceModel, CallbackContext> reconcileTags(
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        final TagReconciler tagReconciler = new TagReconciler(
+            TagReconciler.mergeTags(
+                previousModel != null ? previousModel.getTags() : null,
+                request.getPreviousResourceTags()),
+            TagReconciler.mergeTags(
+                progress.getResourceModel().getTags(),
+                request.getDesiredResourceTags())
+        );
+        tagReconciler.reconcile(proxyClient, progress.getResourceModel().getArn(), logger);
+        return progress;
+    }
+
     private UpdateRegistryResponse updateRegistry(
         final UpdateRegistryRequest awsRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
         UpdateRegistryResponse updateRegistryResponse = null;
         GlueClient glueClient = proxyClient.client();
         try {
@@ -13,9 +13,14 @@ import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
 import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
 import software.amazon.awssdk.services.glue.model.InvalidInputException;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
 import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.RegistryStatus;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -23,10 +28,14 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -126,6 +135,262 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .contains("Invalid Registry");
     }
 
+    @Test
+    public void handleRequest_WhenStabilizationWaitExceedsInProcessThreshold_ReturnsInProgressAndResumes() {
+        handler = new DeleteHandler(
+            new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        )
+            .thenReturn(TestData.GET_REGISTRY_RESPONSE)
+            .thenThrow(EntityNotFoundException.class);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        ).thenReturn(TestData.listSchemasResponse(1));
+
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isEqualTo(2);
+        assertThat(inProgress.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(inProgress.getCallbackContext().getStabilizationStartTime()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, inProgress.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        //The delete call is not repeated on callback.
+        verify(glueClient, times(1)).deleteRegistry(TestData.DELETE_REGISTRY_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenStabilizationTimesOut_ThrowsException() {
+        handler = new DeleteHandler(new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenReturn(TestData.GET_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        ).thenReturn(TestData.listSchemasResponse(1));
+
+        assertThrows(
+            CfnNotStabilizedException.class,
+            () -> handler
+                .handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger));
+    }
+
+    @Test
+    public void handleRequest_WhenSchemasAreBeingDeleted_AdaptsDelayToDeletionRateAndExtendsTimeout() {
+        handler = new DeleteHandler(
+            new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenReturn(TestData.GET_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        )
+            .thenReturn(TestData.listSchemasResponse(3))
+            .thenReturn(TestData.listSchemasResponse(1));
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPoll =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(firstPoll.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        //No deletion rate is known yet.
+        assertThat(firstPoll.getCallbackDelaySeconds()).isEqualTo(2);
+        assertThat(firstPoll.getCallbackContext().getRemainingSchemaCount()).isEqualTo(3);
+
+        //Pretend the first sample and the start of stabilization happened a while ago.
+        final CallbackContext context = firstPoll.getCallbackContext();
+        final long stabilizationStartTime = context.getStabilizationStartTime() - 100_000L;
+        context.setStabilizationStartTime(stabilizationStartTime);
+        context.setRemainingSchemaSampleTime(context.getRemainingSchemaSampleTime() - 10_000L);
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondPoll =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, context, proxyClient, logger);
+
+        assertThat(secondPoll.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        //2 schemas in a little over 10s leaves 1 schema for about 5s.
+        assertThat(secondPoll.getCallbackDelaySeconds()).isBetween(5, 6);
+        assertThat(secondPoll.getCallbackContext().getRemainingSchemaCount()).isEqualTo(1);
+        assertThat(secondPoll.getCallbackContext().getStabilizationStartTime()).isGreaterThan(stabilizationStartTime);
+    }
+
+    @Test
+    public void handleRequest_WhenNoSchemasAreDeletedWithinTheTimeout_ThrowsException() {
+        handler = new DeleteHandler(
+            new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenReturn(TestData.GET_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        ).thenReturn(TestData.listSchemasResponse(3));
+
+        //The registry is stuck in DELETING, and the last schema went away longer ago than the timeout.
+        final CallbackContext context = new CallbackContext();
+        context.setStabilizationStartTime(System.currentTimeMillis() - 130_000L);
+        context.setRemainingSchemaCount(3);
+        context.setRemainingSchemaSampleTime(System.currentTimeMillis() - 10_000L);
+
+        assertThrows(
+            CfnNotStabilizedException.class,
+            () -> handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, context, proxyClient, logger));
+    }
+
+    @Test
+    public void handleRequest_WhenMoreSchemasThanOnePageRemain_ReadsOnlyOnePage() {
+        handler = new DeleteHandler(
+            new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenReturn(TestData.GET_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        ).thenReturn(TestData.listSchemasResponse(100).toBuilder().nextToken("next-page").build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setStabilizationStartTime(System.currentTimeMillis());
+        context.setRemainingSchemaCount(100);
+        context.setRemainingSchemaSampleTime(System.currentTimeMillis() - 10_000L);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getRemainingSchemaCount()).isEqualTo(100);
+        //A full page only bounds the count from below, so no rate is derived from it.
+        assertThat(response.getCallbackContext().getSchemaDeletionRate()).isNull();
+        verify(glueClient, times(1)).listSchemas(TestData.LIST_SCHEMAS_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenAFullPageShrinks_ExtendsTimeoutWithoutDerivingARate() {
+        handler = new DeleteHandler(
+            new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenReturn(TestData.GET_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        ).thenReturn(TestData.listSchemasResponse(40));
+
+        //The previous sample was a full page, so at least 60 schemas went away since.
+        final long stabilizationStartTime = System.currentTimeMillis() - 110_000L;
+        final CallbackContext context = new CallbackContext();
+        context.setStabilizationStartTime(stabilizationStartTime);
+        context.setRemainingSchemaCount(100);
+        context.setRemainingSchemaCountLowerBound(true);
+        context.setRemainingSchemaSampleTime(System.currentTimeMillis() - 10_000L);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getSchemaDeletionRate()).isNull();
+        assertThat(response.getCallbackContext().isRemainingSchemaCountLowerBound()).isFalse();
+        assertThat(response.getCallbackContext().getStabilizationStartTime()).isGreaterThan(stabilizationStartTime);
+    }
+
+    @Test
+    public void handleRequest_WhenFullPagesListOtherSchemas_ExtendsTimeout() {
+        handler = new DeleteHandler(
+            new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenReturn(TestData.GET_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        )
+            .thenReturn(TestData.listSchemasResponse(100).toBuilder().nextToken("next-page").build())
+            .thenReturn(TestData.listSchemasResponse(100).toBuilder().nextToken("next-page").build())
+            .thenReturn(TestData.listSchemasResponse(1, 100).toBuilder().nextToken("next-page").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPoll =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+        final CallbackContext context = firstPoll.getCallbackContext();
+        final long stabilizationStartTime = context.getStabilizationStartTime() - 100_000L;
+        context.setStabilizationStartTime(stabilizationStartTime);
+        context.setRemainingSchemaSampleTime(context.getRemainingSchemaSampleTime() - 10_000L);
+
+        //The same page again says nothing about progress.
+        final ProgressEvent<ResourceModel, CallbackContext> secondPoll =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, context, proxyClient, logger);
+        assertThat(secondPoll.getCallbackContext().getStabilizationStartTime()).isEqualTo(stabilizationStartTime);
+
+        //schema-0 is gone, so the page moved on even though it is still full.
+        context.setRemainingSchemaSampleTime(context.getRemainingSchemaSampleTime() - 10_000L);
+        final ProgressEvent<ResourceModel, CallbackContext> thirdPoll =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, context, proxyClient, logger);
+        assertThat(thirdPoll.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(thirdPoll.getCallbackContext().getStabilizationStartTime()).isGreaterThan(stabilizationStartTime);
+        assertThat(thirdPoll.getCallbackContext().getSchemaDeletionRate()).isNull();
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String REGISTRY_ARN = "arn:aws:glue:us-east-1:123456789:registry/unit-testing-registry";
@@ -160,6 +425,33 @@ public class DeleteHandlerTest extends AbstractTestBase {
         public static final GetRegistryResponse GET_REGISTRY_RESPONSE =
             GetRegistryResponse
                 .builder()
+                .status(RegistryStatus.DELETING)
+                .build();
+
+        public static final ListSchemasRequest LIST_SCHEMAS_REQUEST =
+            ListSchemasRequest
+                .builder()
+                .registryId(
+                    RegistryId.builder()
+                        .registryName(REGISTRY_NAME)
+                        .build()
+                )
+                .maxResults(100)
+                .build();
+
+        public static ListSchemasResponse listSchemasResponse(final int schemaCount) {
+            return listSchemasResponse(0, schemaCount);
+        }
+
+        public static ListSchemasResponse listSchemasResponse(final int first, final int schemaCount) {
+            final List<SchemaListItem> schemas = new ArrayList<>();
+            for (int i = first; i < first + schemaCount; i++) {
+                schemas.add(SchemaListItem.builder().registryName(REGISTRY_NAME).schemaName("schema-" + i).build());
+            }
+            return ListSchemasResponse
+                .builder()
+                .schemas(schemas)
                 .build();
+        }
     }
 }
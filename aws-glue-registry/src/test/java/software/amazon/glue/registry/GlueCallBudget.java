@@ -0,0 +1,24 @@
+package software.amazon.glue.registry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Upper bound on the Glue calls a test may make through the client given to
+ * {@link AbstractTestBase#MOCK_PROXY}. Checked by {@link GlueCallBudgetExtension}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface GlueCallBudget {
+    /**
+     * Maximum number of calls.
+     */
+    int value();
+
+    /**
+     * GlueClient method the budget applies to, e.g. "createTrigger". All methods when empty.
+     */
+    String operation() default "";
+}
@@ -0,0 +1,97 @@
+package software.amazon.glue.registry;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.glue.GlueClient;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GlueClient that answers from a {@link GlueTrafficRecorder} recording instead of the network.
+ *
+ * Calls to an operation are answered with that operation's recorded calls in order, so recorded
+ * sequences such as PENDING, PENDING, AVAILABLE replay the same way. Recorded latencies are
+ * slept, multiplied by the latency scale; a scale of 0 replays without delay.
+ */
+final class GlueTrafficReplayClient implements InvocationHandler {
+    private final Map<String, Deque<JsonNode>> recordings;
+    private final double latencyScale;
+
+    private GlueTrafficReplayClient(
+        final Map<String, Deque<JsonNode>> recordings,
+        final double latencyScale) {
+        this.recordings = recordings;
+        this.latencyScale = latencyScale;
+    }
+
+    static GlueClient create(
+        final Path recording,
+        final double latencyScale) throws IOException {
+
+        final Map<String, Deque<JsonNode>> recordings = new HashMap<>();
+        for (final String line : Files.readAllLines(recording, StandardCharsets.UTF_8)) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            final JsonNode record = GlueTrafficCodec.decode(line);
+            recordings
+                .computeIfAbsent(record.path(GlueTrafficCodec.OPERATION).asText(), operation -> new ArrayDeque<>())
+                .add(record);
+        }
+        return (GlueClient) Proxy.newProxyInstance(
+            GlueClient.class.getClassLoader(),
+            new Class<?>[] {GlueClient.class},
+            new GlueTrafficReplayClient(recordings, latencyScale));
+    }
+
+    @Override
+    public synchronized Object invoke(
+        final Object proxy,
+        final Method method,
+        final Object[] args) throws InterruptedException {
+
+        switch (method.getName()) {
+            case "serviceName":
+                return GlueClient.SERVICE_NAME;
+            case "close":
+                return null;
+            case "toString":
+                return "GlueTrafficReplayClient";
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            default:
+                break;
+        }
+        if (args == null || args.length != 1 || !(args[0] instanceof AwsRequest)) {
+            throw new UnsupportedOperationException("Replay only supports single-request calls: " + method);
+        }
+
+        final String operation = GlueTrafficCodec.operationName((AwsRequest) args[0]);
+        final Deque<JsonNode> calls = recordings.get(operation);
+        final JsonNode record = calls == null ? null : calls.poll();
+        if (record == null) {
+            throw new IllegalStateException("No recorded " + operation + " call left to replay");
+        }
+
+        final long latency = (long) (record.path(GlueTrafficCodec.LATENCY_MILLIS).asLong() * latencyScale);
+        if (latency > 0) {
+            Thread.sleep(latency);
+        }
+        if (record.has(GlueTrafficCodec.ERROR)) {
+            throw GlueTrafficCodec.decodeError(record.get(GlueTrafficCodec.ERROR));
+        }
+        return GlueTrafficCodec.decodeResponse(record.get(GlueTrafficCodec.RESPONSE), method.getReturnType());
+    }
+}
@@ -44,6 +44,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     }
 
     @Test
+    @GlueCallBudget(1)
     public void handleRequest_ReturnsRegistrySuccessfully_WhenResourceModelIsPassed() {
 
         Mockito.when(
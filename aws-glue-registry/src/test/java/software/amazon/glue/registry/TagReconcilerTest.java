@@ -0,0 +1,133 @@
+package software.amazon.glue.registry;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.AccessDeniedException;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.TagResourceResponse;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceResponse;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TagReconcilerTest extends AbstractTestBase {
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    private GlueClient glueClient;
+
+    @BeforeEach
+    public void setup() {
+        proxyClient = MOCK_PROXY(getAmazonWebServicesClientProxy(), glueClient);
+    }
+
+    @Test
+    public void mergeTags_WhenKeysConflict_StackTagsWin() {
+        assertThat(TagReconciler.mergeTags(TestData.RESOURCE_TAGS, TestData.STACK_TAGS))
+            .isEqualTo(ImmutableMap.of("team", "stack-team", "env", "prod", "stage", "beta"));
+        assertThat(TagReconciler.mergeTags(null, null)).isEmpty();
+    }
+
+    @Test
+    public void reconcile_WhenTagsChanged_SendsOneUntagAndOneTag() {
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.UNTAG_REQUEST, glueClient::untagResource))
+            .thenReturn(UntagResourceResponse.builder().build());
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.TAG_REQUEST, glueClient::tagResource))
+            .thenReturn(TagResourceResponse.builder().build());
+
+        final TagReconciler tagReconciler =
+            new TagReconciler(TestData.PREVIOUS_TAGS, TestData.DESIRED_TAGS);
+        tagReconciler.reconcile(proxyClient, TestData.REGISTRY_ARN, logger);
+
+        assertThat(tagReconciler.getTagKeysToRemove()).containsExactly("owner");
+        assertThat(tagReconciler.getTagsToAdd()).isEqualTo(ImmutableMap.of("env", "prod", "stage", "beta"));
+        verify(glueClient, times(1)).untagResource(any(UntagResourceRequest.class));
+        verify(glueClient, times(1)).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void reconcile_WhenOnlyTagsAreAdded_DoesNotUntag() {
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.TAG_REQUEST, glueClient::tagResource))
+            .thenReturn(TagResourceResponse.builder().build());
+
+        new TagReconciler(Collections.emptyMap(), TestData.DESIRED_TAGS)
+            .reconcile(proxyClient, TestData.REGISTRY_ARN, logger);
+
+        verify(glueClient, never()).untagResource(any(UntagResourceRequest.class));
+    }
+
+    @Test
+    public void reconcile_WhenTagsAreUnchanged_MakesNoCalls() {
+        final TagReconciler tagReconciler = new TagReconciler(TestData.DESIRED_TAGS, TestData.DESIRED_TAGS);
+        tagReconciler.reconcile(proxyClient, TestData.REGISTRY_ARN, logger);
+
+        assertThat(tagReconciler.hasChanges()).isFalse();
+        verify(glueClient, never()).untagResource(any(UntagResourceRequest.class));
+        verify(glueClient, never()).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void reconcile_WhenTaggingFails_ThrowsException() {
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.UNTAG_ALL_REQUEST, glueClient::untagResource))
+            .thenThrow(AccessDeniedException.builder().message("Invalid Cred").build());
+
+        final TagReconciler tagReconciler = new TagReconciler(TestData.PREVIOUS_TAGS, Collections.emptyMap());
+        assertThrows(CfnAccessDeniedException.class,
+            () -> tagReconciler.reconcile(proxyClient, TestData.REGISTRY_ARN, logger));
+    }
+
+    private static class TestData {
+        private static final String REGISTRY_ARN =
+            "arn:aws:glue:us-east-1:123456789:registry/unit-testing-registry";
+
+        private static final ImmutableList<Tag> RESOURCE_TAGS =
+            ImmutableList.of(new Tag("team", "registry-team"), new Tag("env", "prod"));
+
+        private static final ImmutableMap<String, String> STACK_TAGS =
+            ImmutableMap.of("team", "stack-team", "stage", "beta");
+
+        private static final ImmutableMap<String, String> PREVIOUS_TAGS =
+            ImmutableMap.of("env", "dev", "owner", "data-platform");
+
+        private static final ImmutableMap<String, String> DESIRED_TAGS =
+            ImmutableMap.of("env", "prod", "stage", "beta");
+
+        private static final UntagResourceRequest UNTAG_REQUEST =
+            UntagResourceRequest
+                .builder()
+                .resourceArn(REGISTRY_ARN)
+                .tagsToRemove("owner")
+                .build();
+
+        private static final UntagResourceRequest UNTAG_ALL_REQUEST =
+            UntagResourceRequest
+                .builder()
+                .resourceArn(REGISTRY_ARN)
+                .tagsToRemove(ImmutableList.copyOf(PREVIOUS_TAGS.keySet()))
+                .build();
+
+        private static final TagResourceRequest TAG_REQUEST =
+            TagResourceRequest
+                .builder()
+                .resourceArn(REGISTRY_ARN)
+                .tagsToAdd(DESIRED_TAGS)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package software.amazon.glue.registry;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedMap;
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,9 @@ import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
 import software.amazon.awssdk.services.glue.model.InvalidInputException;
 import software.amazon.awssdk.services.glue.model.RegistryId;
 import software.amazon.awssdk.services.glue.model.RegistryStatus;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.TagResourceResponse;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
 import software.amazon.awssdk.services.glue.model.UpdateRegistryRequest;
 import software.amazon.awssdk.services.glue.model.UpdateRegistryResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -28,7 +32,11 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -83,6 +91,33 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_RetagsOnlyChangedTags_WhenTagsAreUpdated() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UPDATE_REGISTRY_REQUEST,
+            glueClient::updateRegistry)
+        ).thenReturn(TestData.UPDATE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.TAG_RESOURCE_REQUEST,
+            glueClient::tagResource)
+        ).thenReturn(TagResourceResponse.builder().build());
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenReturn(TestData.GET_REGISTRY_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy, TestData.RESOURCE_HANDLER_REQUEST_WITH_TAGS, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(1)).tagResource(any(TagResourceRequest.class));
+        verify(glueClient, never()).untagResource(any(UntagResourceRequest.class));
+    }
+
     @Test
     public void handleRequest_ThrowsException_WhenUpdateRegistryFails() {
 
@@ -125,6 +160,33 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(INPUT_RESOURCE_MODEL)
                 .build();
 
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITH_TAGS =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(REGISTRY_NAME)
+                        .arn(REGISTRY_ARN)
+                        .description(NEW_REGISTRY_DESC)
+                        .tags(ImmutableList.of(new Tag("Project", "Example"), new Tag("Org", "ABC")))
+                        .build())
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(REGISTRY_NAME)
+                        .arn(REGISTRY_ARN)
+                        .description(NEW_REGISTRY_DESC)
+                        .tags(ImmutableList.of(new Tag("Project", "Example"), new Tag("Org", "XYZ")))
+                        .build())
+                .build();
+
+        public final static TagResourceRequest TAG_RESOURCE_REQUEST =
+            TagResourceRequest
+                .builder()
+                .resourceArn(REGISTRY_ARN)
+                .tagsToAdd(ImmutableMap.of("Org", "XYZ"))
+                .build();
+
         public final static UpdateRegistryRequest UPDATE_REGISTRY_REQUEST =
             UpdateRegistryRequest
                 .builder()
@@ -7,4 +7,14 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+
+    Long stabilizationStartTime;
+    int stabilizationAttempts = 0;
+
+    String schemaStatus;
+    Long schemaVersionCount;
+
+    //Set by HandlerTracer, so that every callback of an operation appends to the same trace.
+    String traceId;
+    int traceInvocations = 0;
 }
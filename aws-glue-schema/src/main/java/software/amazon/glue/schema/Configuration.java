@@ -1,5 +1,6 @@
 package software.amazon.glue.schema;
 
+import org.json.JSONObject;
 import software.amazon.glue.schema.BaseConfiguration;
 
 public class Configuration extends BaseConfiguration {
@@ -7,4 +8,13 @@ public class Configuration extends BaseConfiguration {
     public Configuration() {
         super("aws-glue-schema.json");
     }
+
+    /**
+     * Builds the schema from the constants that codegen/generate_schema_constants.py generates
+     * out of aws-glue-schema.json at build time, instead of parsing the file from the classpath.
+     */
+    @Override
+    public JSONObject resourceSchemaJsonObject() {
+        return ResourceSchemaConstants.schema();
+    }
 }
@@ -22,8 +22,6 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -31,10 +29,8 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
+            .then(progress -> HandlerTracer.span("AWS-Glue-Schema::Create", () ->
                 proxy.initiate(
                     "AWS-Glue-Schema::Create",
                     proxyClient,
@@ -42,17 +38,18 @@ public class CreateHandler extends BaseHandlerStd {
                     progress.getCallbackContext())
 
                     .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::createSchema)
+                    .makeServiceCall((awsRequest, client) -> createSchema(awsRequest, client, logger))
                     //Stabilization not required for schema creation.
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
                     .done(createSchemaResponse ->
-                        ProgressEvent.defaultSuccessHandler(toResourceModel(createSchemaResponse)))
+                        ProgressEvent.defaultSuccessHandler(toResourceModel(createSchemaResponse))))
             );
     }
 
     private CreateSchemaResponse createSchema(
         final CreateSchemaRequest createSchemaRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         CreateSchemaResponse createSchemaResponse = null;
         final GlueClient glueClient = proxyClient.client();
@@ -6,7 +6,11 @@ import software.amazon.awssdk.services.glue.model.DeleteSchemaRequest;
 import software.amazon.awssdk.services.glue.model.DeleteSchemaResponse;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
 import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
@@ -23,13 +27,30 @@ import java.time.Duration;
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private static final String STABILIZE_CALL_GRAPH = "AWS-Glue-Schema::Delete::Stabilize";
     private static final Delay DELAY =
         Constant.of()
             .timeout(Duration.ofSeconds(120L))
             .delay(Duration.ofSeconds(2L))
             .build();
+    private static final int MAX_RESULTS = 100;
+    private static final Duration DEFAULT_POLL_DELAY = Duration.ofSeconds(2L);
+    private static final Duration MIN_POLL_DELAY = Duration.ofMillis(250L);
+    private static final Duration MAX_POLL_DELAY = Duration.ofSeconds(10L);
+    //Roughly how long Glue takes to remove one version of a DELETING schema.
+    private static final Duration DELETE_TIME_PER_VERSION = Duration.ofMillis(100L);
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER =
+        new StabilizationScheduler(DEFAULT_POLL_DELAY, Duration.ofSeconds(120L));
+
+    private final StabilizationScheduler stabilizationScheduler;
+
+    public DeleteHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
 
-    private Logger logger;
+    DeleteHandler(final StabilizationScheduler stabilizationScheduler) {
+        this.stabilizationScheduler = stabilizationScheduler;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -38,30 +59,33 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
+            .then(progress -> HandlerTracer.span("AWS-Glue-Schema::Delete", () ->
                 proxy.initiate("AWS-Glue-Schema::Delete", proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                     .translateToServiceRequest(this::fromResourceModel)
                     .backoffDelay(DELAY)
-                    .makeServiceCall(this::deleteSchema)
-                    .stabilize(this::isDeleteStabilized)
-                    .done(
-                        awsResponse ->
-                            ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                .status(OperationStatus.SUCCESS)
-                                .build()));
+                    .makeServiceCall((awsRequest, client) -> deleteSchema(awsRequest, client, logger))
+                    .progress()))
+            .then(progress -> HandlerTracer.span(STABILIZE_CALL_GRAPH, () ->
+                stabilizationScheduler.stabilize(
+                    progress,
+                    progress.getResourceModel().getArn(),
+                    model -> isDeleteStabilized(proxyClient, model, progress.getCallbackContext(), logger),
+                    () -> nextPollDelay(progress.getCallbackContext()),
+                    () -> timeoutExtension(progress.getCallbackContext()))))
+            .then(progress ->
+                ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.SUCCESS)
+                    .build());
     }
 
-    private Boolean isDeleteStabilized(
-        final DeleteSchemaRequest deleteSchemaRequest,
-        final DeleteSchemaResponse deleteSchemaResponse,
+    private boolean isDeleteStabilized(
         final ProxyClient<GlueClient> proxyClient,
         final ResourceModel resourceModel,
-        final CallbackContext callbackContext) {
-        final String schemaArn = deleteSchemaResponse.schemaArn();
+        final CallbackContext callbackContext,
+        final Logger logger) {
+        final String schemaArn = resourceModel.getArn();
 
         try {
             final GlueClient glueClient = proxyClient.client();
@@ -76,9 +100,35 @@ public class DeleteHandler extends BaseHandlerStd {
                     )
                     .build();
 
-            proxyClient
-                .injectCredentialsAndInvokeV2(getSchemaRequest, glueClient::getSchema);
+            final GetSchemaResponse getSchemaResponse =
+                proxyClient
+                    .injectCredentialsAndInvokeV2(getSchemaRequest, glueClient::getSchema);
+
+            callbackContext.setSchemaStatus(getSchemaResponse.schemaStatusAsString());
+            if (getSchemaResponse.schemaStatus() != SchemaStatus.DELETING) {
+                logger.log(
+                    String.format(
+                        "%s [%s] is %s.",
+                        ResourceModel.TYPE_NAME,
+                        schemaArn,
+                        callbackContext.getSchemaStatus()
+                    )
+                );
+                return false;
+            }
 
+            if (callbackContext.getSchemaVersionCount() == null) {
+                callbackContext.setSchemaVersionCount(countSchemaVersions(proxyClient, schemaArn));
+            }
+            logger.log(
+                String.format(
+                    "%s [%s] is %s with %s versions to remove.",
+                    ResourceModel.TYPE_NAME,
+                    schemaArn,
+                    callbackContext.getSchemaStatus(),
+                    callbackContext.getSchemaVersionCount()
+                )
+            );
             return false;
         } catch (EntityNotFoundException e) {
             logger.log(
@@ -99,9 +149,72 @@ public class DeleteHandler extends BaseHandlerStd {
         }
     }
 
+    /**
+     * LatestSchemaVersion is the highest version number rather than a count, so the versions are
+     * listed once, when the schema is first seen DELETING. Later polls only read the schema.
+     */
+    private static long countSchemaVersions(
+        final ProxyClient<GlueClient> proxyClient,
+        final String schemaArn) {
+        long count = 0;
+        String nextToken = null;
+        do {
+            final ListSchemaVersionsResponse listSchemaVersionsResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    ListSchemaVersionsRequest
+                        .builder()
+                        .schemaId(
+                            SchemaId
+                                .builder()
+                                .schemaArn(schemaArn)
+                                .build()
+                        )
+                        .maxResults(MAX_RESULTS)
+                        .nextToken(nextToken)
+                        .build(),
+                    proxyClient.client()::listSchemaVersions
+                );
+            count += listSchemaVersionsResponse.schemas().size();
+            nextToken = listSchemaVersionsResponse.nextToken();
+        } while (nextToken != null);
+
+        return count;
+    }
+
+    /**
+     * While the schema is DELETING, its versions are removed one by one, so the wait scales with
+     * the number of versions: sub-second for small schemas, callbacks for large ones.
+     */
+    private static Duration nextPollDelay(final CallbackContext callbackContext) {
+        if (!SchemaStatus.DELETING.toString().equals(callbackContext.getSchemaStatus())
+            || callbackContext.getSchemaVersionCount() == null) {
+            return DEFAULT_POLL_DELAY;
+        }
+
+        final long delayMillis = expectedDeleteTime(callbackContext).toMillis();
+        return Duration.ofMillis(
+            Math.max(MIN_POLL_DELAY.toMillis(), Math.min(MAX_POLL_DELAY.toMillis(), delayMillis)));
+    }
+
+    /**
+     * Schemas with many versions get twice their expected delete time on top of the timeout, so
+     * a schema with a single version still fails after about 120s.
+     */
+    private static Duration timeoutExtension(final CallbackContext callbackContext) {
+        if (callbackContext.getSchemaVersionCount() == null) {
+            return Duration.ZERO;
+        }
+        return expectedDeleteTime(callbackContext).multipliedBy(2L);
+    }
+
+    private static Duration expectedDeleteTime(final CallbackContext callbackContext) {
+        return DELETE_TIME_PER_VERSION.multipliedBy(callbackContext.getSchemaVersionCount());
+    }
+
     private DeleteSchemaResponse deleteSchema(
         final DeleteSchemaRequest deleteSchemaRequest,
-        final ProxyClient<GlueClient> client) {
+        final ProxyClient<GlueClient> client,
+        final Logger logger) {
 
         DeleteSchemaResponse deleteSchemaResponse = null;
         final GlueClient glueClient = client.client();
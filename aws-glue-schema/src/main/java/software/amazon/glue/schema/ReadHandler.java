@@ -7,6 +7,8 @@ import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsResponse;
 import software.amazon.awssdk.services.glue.model.SchemaId;
 import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -15,10 +17,36 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.stream.Collectors.toList;
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
+/**
+ * Reads a schema together with the ID of its first version and its tags.
+ *
+ * The ARN of the model identifies all three, so GetSchemaVersion and GetTags are sent to
+ * {@link #FAN_OUT} while GetSchema runs on the handler thread, and the read takes as long as the
+ * slowest of the three calls instead of their sum. The Glue client is synchronous, so each call
+ * needs a thread of its own. A handler serves one invocation at a time, so the pool keeps one
+ * thread for each of the two calls, and the calls of any other read queue behind them.
+ *
+ * If GetSchema fails, the calls already sent are left to finish on their own. They only read,
+ * and a synchronous call cannot be abandoned once it is on the wire.
+ */
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
+    private static final String SYSTEM_TAG_PREFIX = "aws:";
+    private static final int FAN_OUT_CALLS = 2;
+    private static final ExecutorService FAN_OUT = Executors.newFixedThreadPool(FAN_OUT_CALLS, runnable -> {
+        final Thread thread = new Thread(runnable, "AWS-Glue-Schema::Read");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -27,37 +55,27 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
-        return proxy.initiate(
+        return HandlerTracer.span("AWS-Glue-Schema::Read", () -> proxy.initiate(
             "AWS-Glue-Schema::Read",
             proxyClient,
             request.getDesiredResourceState(),
             callbackContext)
             .translateToServiceRequest(this::fromResourceModel)
 
-            .makeServiceCall(this::getSchemaResponseModel)
-            .done(responseModel -> ProgressEvent.defaultSuccessHandler(responseModel));
+            .makeServiceCall((awsRequest, client) -> getSchemaResponseModel(awsRequest, client, logger))
+            .done(responseModel -> ProgressEvent.defaultSuccessHandler(responseModel)));
     }
 
     private ResourceModel getSchemaResponseModel(
         final GetSchemaRequest getSchemaRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
-        GetSchemaResponse getSchemaResponse = null;
-        GetSchemaVersionResponse getSchemaVersionResponse = null;
+        ResourceModel resourceModel = null;
         final String identifier = getSchemaRequest.schemaId().toString();
 
         try {
-            final GlueClient glueClient = proxyClient.client();
-
-            getSchemaResponse = proxyClient.injectCredentialsAndInvokeV2(getSchemaRequest, glueClient::getSchema);
-            GetSchemaVersionRequest getSchemaVersionRequest = getInitialSchemaVersionRequest(getSchemaResponse.schemaArn());
-
-            getSchemaVersionResponse = proxyClient.injectCredentialsAndInvokeV2(
-                getSchemaVersionRequest,
-                glueClient::getSchemaVersion);
-
+            resourceModel = readSchema(getSchemaRequest, proxyClient);
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
@@ -69,7 +87,64 @@ public class ReadHandler extends BaseHandlerStd {
                 identifier
             )
         );
-        return toResourceModel(getSchemaResponse, getSchemaVersionResponse.schemaVersionId());
+        return resourceModel;
+    }
+
+    private ResourceModel readSchema(
+        final GetSchemaRequest getSchemaRequest,
+        final ProxyClient<GlueClient> proxyClient) {
+
+        final String schemaArn = getSchemaRequest.schemaId().schemaArn();
+        final CompletableFuture<GetSchemaVersionResponse> initialSchemaVersion =
+            CompletableFuture.supplyAsync(() -> getInitialSchemaVersion(schemaArn, proxyClient), FAN_OUT);
+        final CompletableFuture<GetTagsResponse> tags =
+            CompletableFuture.supplyAsync(() -> getTags(schemaArn, proxyClient), FAN_OUT);
+        return toResourceModel(
+            getSchema(getSchemaRequest, proxyClient),
+            join(initialSchemaVersion),
+            join(tags));
+    }
+
+    private GetSchemaResponse getSchema(
+        final GetSchemaRequest getSchemaRequest,
+        final ProxyClient<GlueClient> proxyClient) {
+
+        return proxyClient.injectCredentialsAndInvokeV2(getSchemaRequest, proxyClient.client()::getSchema);
+    }
+
+    private GetSchemaVersionResponse getInitialSchemaVersion(
+        final String schemaArn,
+        final ProxyClient<GlueClient> proxyClient) {
+
+        return proxyClient.injectCredentialsAndInvokeV2(
+            getInitialSchemaVersionRequest(schemaArn),
+            proxyClient.client()::getSchemaVersion);
+    }
+
+    private GetTagsResponse getTags(
+        final String schemaArn,
+        final ProxyClient<GlueClient> proxyClient) {
+
+        return proxyClient.injectCredentialsAndInvokeV2(
+            GetTagsRequest
+                .builder()
+                .resourceArn(schemaArn)
+                .build(),
+            proxyClient.client()::getTags);
+    }
+
+    /**
+     * Waits for a call sent to {@link #FAN_OUT} and rethrows its failure as it was thrown.
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     private GetSchemaVersionRequest getInitialSchemaVersionRequest(
@@ -104,7 +179,11 @@ public class ReadHandler extends BaseHandlerStd {
             .build();
     }
 
-    private ResourceModel toResourceModel(final GetSchemaResponse getSchemaResponse, final String initialSchemaVersionId) {
+    private ResourceModel toResourceModel(
+        final GetSchemaResponse getSchemaResponse,
+        final GetSchemaVersionResponse initialSchemaVersion,
+        final GetTagsResponse getTagsResponse) {
+
         return ResourceModel
             .builder()
             .arn(getSchemaResponse.schemaArn())
@@ -112,7 +191,8 @@ public class ReadHandler extends BaseHandlerStd {
             .description(getSchemaResponse.description())
             .dataFormat(getSchemaResponse.dataFormatAsString())
             .compatibility(getSchemaResponse.compatibilityAsString())
-            .initialSchemaVersionId(initialSchemaVersionId)
+            .initialSchemaVersionId(initialSchemaVersion.schemaVersionId())
+            .tags(toResourceTags(getTagsResponse.tags()))
             .checkpointVersion(
                 SchemaVersion
                     .builder()
@@ -127,4 +207,23 @@ public class ReadHandler extends BaseHandlerStd {
             )
             .build();
     }
+
+    /**
+     * Leaves out the tags AWS reserves for itself, which cannot be set on the resource.
+     */
+    private List<Tag> toResourceTags(final Map<String, String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+
+        final List<Tag> resourceTags =
+            tags
+                .entrySet()
+                .stream()
+                .filter(entry -> !entry.getKey().startsWith(SYSTEM_TAG_PREFIX))
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Tag(entry.getKey(), entry.getValue()))
+                .collect(toList());
+        return resourceTags.isEmpty() ? null : resourceTags;
+    }
 }
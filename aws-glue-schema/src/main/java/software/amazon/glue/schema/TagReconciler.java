@@ -0,0 +1,120 @@
+package software.amazon.glue.schema;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
+
+/**
+ * Works out the tag changes between the previous and the desired state of a resource, stack
+ * level tags included, and applies them with at most one UntagResource and one TagResource call.
+ *
+ * A tag whose value changed is only re-tagged, TagResource overwrites it. Nothing is called
+ * when the tags did not change.
+ */
+class TagReconciler {
+    private final Map<String, String> tagsToAdd = new HashMap<>();
+    private final List<String> tagKeysToRemove = new ArrayList<>();
+
+    TagReconciler(
+        final Map<String, String> previousTags,
+        final Map<String, String> desiredTags) {
+
+        for (final Map.Entry<String, String> desiredTag : desiredTags.entrySet()) {
+            if (!Objects.equals(previousTags.get(desiredTag.getKey()), desiredTag.getValue())) {
+                tagsToAdd.put(desiredTag.getKey(), desiredTag.getValue());
+            }
+        }
+        for (final String previousKey : previousTags.keySet()) {
+            if (!desiredTags.containsKey(previousKey)) {
+                tagKeysToRemove.add(previousKey);
+            }
+        }
+    }
+
+    /**
+     * Resource tags and stack level tags as one map. Stack level tags win on conflicting keys.
+     */
+    static Map<String, String> mergeTags(
+        final Collection<Tag> resourceTags,
+        final Map<String, String> stackTags) {
+
+        final Map<String, String> tags = new HashMap<>();
+        if (resourceTags != null) {
+            for (final Tag tag : resourceTags) {
+                tags.put(tag.getKey(), tag.getValue());
+            }
+        }
+        if (stackTags != null) {
+            tags.putAll(stackTags);
+        }
+        return tags;
+    }
+
+    Map<String, String> getTagsToAdd() {
+        return tagsToAdd;
+    }
+
+    List<String> getTagKeysToRemove() {
+        return tagKeysToRemove;
+    }
+
+    boolean hasChanges() {
+        return !tagsToAdd.isEmpty() || !tagKeysToRemove.isEmpty();
+    }
+
+    void reconcile(
+        final ProxyClient<GlueClient> proxyClient,
+        final String resourceArn,
+        final Logger logger) {
+
+        if (!hasChanges()) {
+            return;
+        }
+
+        try {
+            if (!tagKeysToRemove.isEmpty()) {
+                proxyClient.injectCredentialsAndInvokeV2(
+                    UntagResourceRequest
+                        .builder()
+                        .resourceArn(resourceArn)
+                        .tagsToRemove(tagKeysToRemove)
+                        .build(),
+                    proxyClient.client()::untagResource
+                );
+            }
+            if (!tagsToAdd.isEmpty()) {
+                proxyClient.injectCredentialsAndInvokeV2(
+                    TagResourceRequest
+                        .builder()
+                        .resourceArn(resourceArn)
+                        .tagsToAdd(tagsToAdd)
+                        .build(),
+                    proxyClient.client()::tagResource
+                );
+            }
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, resourceArn);
+        }
+
+        logger.log(
+            String.format("%s [%s] tags reconciled: %d added or changed, %d removed.",
+                ResourceModel.TYPE_NAME,
+                resourceArn,
+                tagsToAdd.size(),
+                tagKeysToRemove.size()
+            )
+        );
+    }
+}
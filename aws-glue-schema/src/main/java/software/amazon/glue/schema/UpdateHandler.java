@@ -17,8 +17,6 @@ import software.amazon.glue.schema.SchemaVersion;
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -26,10 +24,8 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
+            .then(progress -> HandlerTracer.span("AWS-Glue-Schema::Update::first", () ->
                 proxy.initiate(
                     "AWS-Glue-Schema::Update::first",
                     proxyClient,
@@ -37,16 +33,37 @@ public class UpdateHandler extends BaseHandlerStd {
                     progress.getCallbackContext())
 
                     .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::updateSchema)
+                    .makeServiceCall((awsRequest, client) -> updateSchema(awsRequest, client, logger))
                     //Stabilization is not required for Schema Update.
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
-                    .progress())
+                    .progress()))
+            .then(progress -> reconcileTags(progress, request, proxyClient, logger))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
+    private ProgressEvent<ResourceModel, CallbackContext> reconcileTags(
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        final TagReconciler tagReconciler = new TagReconciler(
+            TagReconciler.mergeTags(
+                previousModel != null ? previousModel.getTags() : null,
+                request.getPreviousResourceTags()),
+            TagReconciler.mergeTags(
+                progress.getResourceModel().getTags(),
+                request.getDesiredResourceTags())
+        );
+        tagReconciler.reconcile(proxyClient, progress.getResourceModel().getArn(), logger);
+        return progress;
+    }
+
     private UpdateSchemaResponse updateSchema(
         final UpdateSchemaRequest updateSchemaRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
         final GlueClient glueClient = proxyClient.client();
 
         UpdateSchemaResponse updateSchemaResponse = null;
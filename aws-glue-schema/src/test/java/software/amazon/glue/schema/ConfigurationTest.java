@@ -0,0 +1,84 @@
+package software.amazon.glue.schema;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.IoUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigurationTest {
+
+    @Test
+    public void resourceSchemaJsonObject_EqualsParsedSchemaFile() throws Exception {
+        final JSONObject parsed = TestData.parseSchemaFile();
+
+        final JSONObject schema = new Configuration().resourceSchemaJsonObject();
+
+        assertThat(schema.similar(parsed)).isTrue();
+        assertThat(new Configuration().resourceSchemaJsonObject()).isNotSameAs(schema);
+    }
+
+    @Test
+    public void resourceSchemaConstants_AreGeneratedFromCurrentSchemaFile() throws Exception {
+        final byte[] schemaFile = TestData.readSchemaFile();
+
+        //A stale hash means the constants were compiled without running generate-sources.
+        assertThat(BinaryUtils.toHex(MessageDigest.getInstance("SHA-256").digest(schemaFile)))
+            .isEqualTo(ResourceSchemaConstants.SCHEMA_SHA256);
+    }
+
+    @Test
+    public void resourceSchemaConstants_MatchIdentifiersAndPropertyLists() throws Exception {
+        final JSONObject parsed = TestData.parseSchemaFile();
+
+        assertThat(ResourceSchemaConstants.TYPE_NAME).isEqualTo(ResourceModel.TYPE_NAME);
+        assertThat(ResourceSchemaConstants.REQUIRED).isEqualTo(TestData.strings(parsed, "required"));
+        assertThat(ResourceSchemaConstants.PRIMARY_IDENTIFIER)
+            .isEqualTo(TestData.strings(parsed, "primaryIdentifier"));
+        assertThat(ResourceSchemaConstants.CREATE_ONLY_PROPERTIES)
+            .isEqualTo(TestData.strings(parsed, "createOnlyProperties"));
+        assertThat(ResourceSchemaConstants.READ_ONLY_PROPERTIES)
+            .isEqualTo(TestData.strings(parsed, "readOnlyProperties"));
+        assertThat(ResourceSchemaConstants.WRITE_ONLY_PROPERTIES)
+            .isEqualTo(TestData.strings(parsed, "writeOnlyProperties"));
+    }
+
+    private static class TestData {
+        private static byte[] readSchemaFile() throws Exception {
+            try (InputStream schema = ConfigurationTest.class.getClassLoader()
+                .getResourceAsStream(ResourceSchemaConstants.SCHEMA_FILENAME)) {
+                return IoUtils.toByteArray(schema);
+            }
+        }
+
+        /**
+         * Parses the schema the way BaseConfiguration does.
+         */
+        private static JSONObject parseSchemaFile() throws Exception {
+            return new JSONObject(new JSONTokener(new ByteArrayInputStream(readSchemaFile())));
+        }
+
+        /**
+         * @return the pointers listed under the key, or none when the schema leaves it out.
+         */
+        private static List<String> strings(
+            final JSONObject schema,
+            final String key) {
+            final List<String> strings = new ArrayList<>();
+            final JSONArray array = schema.optJSONArray(key);
+            for (int i = 0; array != null && i < array.length(); i++) {
+                strings.add(array.getString(i));
+            }
+            return strings;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package software.amazon.glue.schema;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.AccessDeniedException;
@@ -10,10 +12,15 @@ import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
 import software.amazon.awssdk.services.glue.model.InvalidInputException;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
 import software.amazon.awssdk.services.glue.model.SchemaId;
 import software.amazon.awssdk.services.glue.model.SchemaStatus;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -27,7 +34,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -127,6 +138,181 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .contains("Invalid Schema");
     }
 
+    @Test
+    public void handleRequest_WhenStabilizationWaitExceedsInProcessThreshold_ReturnsInProgressAndResumes() {
+        handler = new DeleteHandler(
+            new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        )
+            .thenReturn(TestData.GET_SCHEMA_RESPONSE)
+            .thenThrow(EntityNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isEqualTo(2);
+        assertThat(inProgress.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(inProgress.getCallbackContext().getStabilizationStartTime()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, inProgress.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        //The delete call is not repeated on callback.
+        verify(glueClient, times(1)).deleteSchema(TestData.DELETE_SCHEMA_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenStabilizationTimesOut_ThrowsException() {
+        handler = new DeleteHandler(new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        ).thenReturn(TestData.GET_SCHEMA_RESPONSE);
+
+        assertThrows(
+            CfnNotStabilizedException.class,
+            () -> handler
+                .handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger));
+    }
+
+    @Test
+    public void handleRequest_WhenFewVersionsAreBeingDeleted_PollsWithinInvocation() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        )
+            .thenReturn(TestData.getDeletingSchemaResponse(3L))
+            .thenThrow(EntityNotFoundException.class);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMA_VERSIONS_REQUEST,
+            glueClient::listSchemaVersions)
+        ).thenReturn(TestData.listSchemaVersionsResponse(3, null));
+
+        final long start = System.currentTimeMillis();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(System.currentTimeMillis() - start).isLessThan(Duration.ofSeconds(2L).toMillis());
+    }
+
+    @Test
+    public void handleRequest_WhenManyVersionsAreBeingDeleted_CountsThemOnceAndScalesTheDelay() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        ).thenReturn(TestData.getDeletingSchemaResponse(1000L));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMA_VERSIONS_REQUEST,
+            glueClient::listSchemaVersions)
+        ).thenReturn(TestData.listSchemaVersionsResponse(100, "next-page"));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMA_VERSIONS_NEXT_PAGE_REQUEST,
+            glueClient::listSchemaVersions)
+        ).thenReturn(TestData.listSchemaVersionsResponse(50, null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPoll =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(firstPoll.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstPoll.getCallbackDelaySeconds()).isEqualTo(10);
+        assertThat(firstPoll.getCallbackContext().getSchemaStatus()).isEqualTo("DELETING");
+        //Counted from the versions, not from LatestSchemaVersion.
+        assertThat(firstPoll.getCallbackContext().getSchemaVersionCount()).isEqualTo(150L);
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondPoll =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, firstPoll.getCallbackContext(),
+                proxyClient, logger);
+
+        assertThat(secondPoll.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        //The callback only reads the schema again.
+        verify(glueClient, times(1)).listSchemaVersions(TestData.LIST_SCHEMA_VERSIONS_REQUEST);
+        verify(glueClient, times(1)).listSchemaVersions(TestData.LIST_SCHEMA_VERSIONS_NEXT_PAGE_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenManyVersionsAreBeingDeleted_ExtendsTimeoutByVersionCount() {
+        handler = new DeleteHandler(
+            new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        ).thenReturn(TestData.getDeletingSchemaResponse(1000L));
+
+        //1000 versions are expected to take 100s, so 130s in is still within 120s plus twice that.
+        final CallbackContext context = new CallbackContext();
+        context.setStabilizationStartTime(System.currentTimeMillis() - 130_000L);
+        context.setSchemaVersionCount(1000L);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+    }
+
+    @Test
+    public void handleRequest_WhenOneVersionIsBeingDeletedPastTheTimeout_ThrowsException() {
+        handler = new DeleteHandler(
+            new StabilizationScheduler(Duration.ofSeconds(2L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        ).thenReturn(TestData.getDeletingSchemaResponse(1L));
+
+        final CallbackContext context = new CallbackContext();
+        context.setStabilizationStartTime(System.currentTimeMillis() - 130_000L);
+        context.setSchemaVersionCount(1L);
+
+        assertThrows(
+            CfnNotStabilizedException.class,
+            () -> handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, context, proxyClient, logger));
+        verify(glueClient, never()).listSchemaVersions(any(ListSchemaVersionsRequest.class));
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String SCHEMA_NAME = "unit-test-schema";
@@ -174,5 +360,56 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .schemaName(SCHEMA_NAME)
                 .schemaArn(SCHEMA_ARN)
                 .build();
+
+        public static final ListSchemaVersionsRequest LIST_SCHEMA_VERSIONS_REQUEST =
+            ListSchemaVersionsRequest
+                .builder()
+                .schemaId(
+                    SchemaId
+                        .builder()
+                        .schemaArn(SCHEMA_ARN)
+                        .build()
+                )
+                .maxResults(100)
+                .build();
+
+        public static final ListSchemaVersionsRequest LIST_SCHEMA_VERSIONS_NEXT_PAGE_REQUEST =
+            LIST_SCHEMA_VERSIONS_REQUEST
+                .toBuilder()
+                .nextToken("next-page")
+                .build();
+
+        public static ListSchemaVersionsResponse listSchemaVersionsResponse(
+            final int versionCount,
+            final String nextToken) {
+            final List<SchemaVersionListItem> versions = new ArrayList<>();
+            for (long versionNumber = 1; versionNumber <= versionCount; versionNumber++) {
+                versions.add(
+                    SchemaVersionListItem
+                        .builder()
+                        .schemaArn(SCHEMA_ARN)
+                        .versionNumber(versionNumber)
+                        .status(SchemaVersionStatus.DELETING)
+                        .build()
+                );
+            }
+            return ListSchemaVersionsResponse
+                .builder()
+                .schemas(versions)
+                .nextToken(nextToken)
+                .build();
+        }
+
+        public static GetSchemaResponse getDeletingSchemaResponse(final Long latestSchemaVersion) {
+            return GetSchemaResponse
+                .builder()
+                .registryName(REGISTRY_NAME)
+                .schemaName(SCHEMA_NAME)
+                .schemaArn(SCHEMA_ARN)
+                .schemaStatus(SchemaStatus.DELETING)
+                .latestSchemaVersion(latestSchemaVersion)
+                .nextSchemaVersion(latestSchemaVersion + 1)
+                .build();
+        }
     }
 }
@@ -0,0 +1,126 @@
+package software.amazon.glue.schema;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Counts the calls made on the Glue clients handed to {@link AbstractTestBase#MOCK_PROXY} during
+ * each test, fails tests that exceed their {@link GlueCallBudget}, and writes the counts of every
+ * test class to target/glue-call-budget/&lt;TestClass&gt;.csv so they can be tracked over time.
+ *
+ * Counts come from Mockito's recorded invocations, so stubbing calls made inside when(...) are
+ * not counted.
+ */
+public class GlueCallBudgetExtension implements BeforeEachCallback, AfterEachCallback, AfterAllCallback {
+    static final Path REPORT_DIRECTORY = Paths.get("target", "glue-call-budget");
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(GlueCallBudgetExtension.class);
+    private static final Set<String> IGNORED_METHODS = new HashSet<>(Arrays.asList("serviceName", "close"));
+    private static final Set<Object> CLIENTS = Collections.synchronizedSet(
+        Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    static void track(final Object glueClient) {
+        if (Mockito.mockingDetails(glueClient).isMock()) {
+            CLIENTS.add(glueClient);
+        }
+    }
+
+    @Override
+    public void beforeEach(final ExtensionContext context) {
+        CLIENTS.clear();
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext context) {
+        final Map<String, Integer> calls = countCalls();
+        final String testName = context.getRequiredTestMethod().getName();
+
+        final Report report = context.getParent()
+            .orElse(context)
+            .getStore(NAMESPACE)
+            .getOrComputeIfAbsent(Report.class, key -> new Report(), Report.class);
+        calls.forEach((operation, count) -> report.rows.add(testName + "," + operation + "," + count));
+        CLIENTS.clear();
+
+        final Optional<GlueCallBudget> budget =
+            AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), GlueCallBudget.class);
+        if (!budget.isPresent()) {
+            return;
+        }
+        final String operation = budget.get().operation();
+        final int used = operation.isEmpty()
+            ? calls.values().stream().mapToInt(Integer::intValue).sum()
+            : calls.getOrDefault(operation, 0);
+        if (used > budget.get().value()) {
+            throw new AssertionError(
+                String.format("%s made %d Glue calls%s, budget is %d. Calls: %s",
+                    testName,
+                    used,
+                    operation.isEmpty() ? "" : " to " + operation,
+                    budget.get().value(),
+                    calls));
+        }
+    }
+
+    @Override
+    public void afterAll(final ExtensionContext context) {
+        final Report report = context.getStore(NAMESPACE).get(Report.class, Report.class);
+        if (report == null) {
+            return;
+        }
+        final List<String> lines = new ArrayList<>();
+        lines.add("test,operation,calls");
+        lines.addAll(report.rows);
+        try {
+            Files.createDirectories(REPORT_DIRECTORY);
+            Files.write(
+                REPORT_DIRECTORY.resolve(context.getRequiredTestClass().getSimpleName() + ".csv"),
+                lines,
+                StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Integer> countCalls() {
+        final Map<String, Integer> calls = new TreeMap<>();
+        synchronized (CLIENTS) {
+            for (final Object client : CLIENTS) {
+                for (final Invocation invocation : Mockito.mockingDetails(client).getInvocations()) {
+                    final String method = invocation.getMethod().getName();
+                    if (!IGNORED_METHODS.contains(method)) {
+                        calls.merge(method, 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        return calls;
+    }
+
+    private static final class Report {
+        private final List<String> rows = Collections.synchronizedList(new ArrayList<>());
+    }
+}
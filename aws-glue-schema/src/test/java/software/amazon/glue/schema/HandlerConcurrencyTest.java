@@ -0,0 +1,155 @@
+package software.amazon.glue.schema;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs many invocations of one shared handler instance at once, the way a warm Lambda container
+ * may be reused, and checks that no invocation logs through another invocation's logger.
+ */
+public class HandlerConcurrencyTest extends AbstractTestBase {
+
+    @Test
+    public void handleRequest_WhenSharedAcrossThreads_AttributesResultsAndLogsToTheirInvocation()
+        throws Exception {
+        final GlueClient glueClient = mock(GlueClient.class);
+        when(glueClient.getSchema(any(GetSchemaRequest.class))).thenAnswer(invocation ->
+            TestData.getSchemaResponse(invocation.getArgument(0, GetSchemaRequest.class)));
+        when(glueClient.getSchemaVersion(any(GetSchemaVersionRequest.class)))
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+        when(glueClient.getTags(any(GetTagsRequest.class))).thenAnswer(invocation ->
+            TestData.getTagsResponse(invocation.getArgument(0, GetTagsRequest.class)));
+        final ReadHandler handler = new ReadHandler();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(TestData.THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Invocation>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < TestData.INVOCATIONS; i++) {
+                final int index = i % TestData.SCHEMAS;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return Invocation.run(handler, glueClient, index);
+                }));
+            }
+            start.countDown();
+
+            for (final Future<Invocation> future : futures) {
+                final Invocation invocation = future.get(30, TimeUnit.SECONDS);
+                final String name = TestData.name(invocation.index);
+
+                assertThat(invocation.event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+                assertThat(invocation.event.getResourceModel().getName()).isEqualTo(name);
+                assertThat(invocation.event.getResourceModel().getTags())
+                    .extracting(Tag::getValue)
+                    .containsExactly(name);
+                assertThat(invocation.lines)
+                    .anyMatch(line -> line.contains(name) && line.contains("has successfully been read."));
+                assertThat(invocation.lines)
+                    .filteredOn(line -> line.contains(TestData.NAME_PREFIX))
+                    .allMatch(line -> line.contains(name), "only mention " + name);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * One invocation with its own proxy, callback context and logger, as the handler wrapper sets up.
+     */
+    private static final class Invocation {
+        private final int index;
+        private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        private ProgressEvent<ResourceModel, CallbackContext> event;
+
+        private Invocation(final int index) {
+            this.index = index;
+        }
+
+        private static Invocation run(
+            final ReadHandler handler,
+            final GlueClient glueClient,
+            final int index) {
+            final Invocation invocation = new Invocation(index);
+            final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+                invocation.lines::add, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+            invocation.event = handler.handleRequest(
+                proxy,
+                TestData.request(index),
+                new CallbackContext(),
+                MOCK_PROXY(proxy, glueClient),
+                invocation.lines::add);
+            return invocation;
+        }
+    }
+
+    private static class TestData {
+        private static final String NAME_PREFIX = "schema-";
+        private static final int SCHEMAS = 64;
+        private static final int INVOCATIONS = 512;
+        private static final int THREADS = 32;
+
+        private static final GetSchemaVersionResponse GET_SCHEMA_VERSION_RESPONSE =
+            GetSchemaVersionResponse.builder()
+                .schemaVersionId("123e4567-e89b-12d3-a456-426614174000")
+                .build();
+
+        //Zero padded, so that no name contains another.
+        private static String name(final int index) {
+            return String.format("%s%03d", NAME_PREFIX, index);
+        }
+
+        private static ResourceHandlerRequest<ResourceModel> request(final int index) {
+            return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().arn(arn(name(index))).build())
+                .build();
+        }
+
+        private static String arn(final String schemaName) {
+            return "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/" + schemaName;
+        }
+
+        private static GetSchemaResponse getSchemaResponse(final GetSchemaRequest request) {
+            final String schemaArn = request.schemaId().schemaArn();
+            return GetSchemaResponse.builder()
+                .schemaArn(schemaArn)
+                .schemaName(schemaArn.substring(schemaArn.lastIndexOf('/') + 1))
+                .schemaCheckpoint(1L)
+                .latestSchemaVersion(1L)
+                .build();
+        }
+
+        //Tags the schema with its own name, so that tags read for another invocation show.
+        private static GetTagsResponse getTagsResponse(final GetTagsRequest request) {
+            final String schemaArn = request.resourceArn();
+            return GetTagsResponse.builder()
+                .tags(Collections.singletonMap("name", schemaArn.substring(schemaArn.lastIndexOf('/') + 1)))
+                .build();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package software.amazon.glue.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsResponse;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HandlerTracerTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path traceDirectory;
+
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<GlueClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        System.setProperty("glue.trace.dir", traceDirectory.toString());
+        final GlueClient glueClient = mock(GlueClient.class);
+        when(glueClient.getSchema(any(GetSchemaRequest.class))).thenReturn(TestData.GET_SCHEMA_RESPONSE);
+        when(glueClient.getSchemaVersion(any(GetSchemaVersionRequest.class)))
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+        when(glueClient.getTags(any(GetTagsRequest.class))).thenReturn(GetTagsResponse.builder().build());
+        proxy = getAmazonWebServicesClientProxy();
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("glue.trace.dir");
+    }
+
+    @Test
+    public void finish_WhenCallbackCarriesTheTrace_AppendsBothInvocationsToOneChromeTrace() throws Exception {
+        final CallbackContext first = new CallbackContext();
+        assertThat(invoke(first).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final CallbackContext calledBack = new CallbackContext();
+        calledBack.setTraceId(first.getTraceId());
+        calledBack.setTraceInvocations(first.getTraceInvocations());
+        assertThat(invoke(calledBack).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        assertThat(calledBack.getTraceInvocations()).isEqualTo(2);
+        final List<JsonNode> events =
+            TestData.readTrace(traceDirectory.resolve(first.getTraceId() + ".json"));
+        assertThat(events).hasSize(12);
+        for (int invocation = 0; invocation < 2; invocation++) {
+            final List<JsonNode> invocationEvents = events.subList(6 * invocation, 6 * invocation + 6);
+            assertThat(invocationEvents.get(0).get("name").asText()).isEqualTo("thread_name");
+            assertThat(invocationEvents.subList(1, 4)).extracting(node -> node.get("name").asText())
+                .containsExactlyInAnyOrder("GetSchema", "GetSchemaVersion", "GetTags");
+            assertThat(invocationEvents.subList(4, 6)).extracting(node -> node.get("name").asText())
+                .containsExactly(TestData.READ, "ReadHandler");
+        }
+        assertThat(events.get(5).get("args").get("outcome").asText()).isEqualTo("SUCCESS");
+        assertThat(events.get(6).get("args").get("name").asText()).isEqualTo("ReadHandler #2");
+
+        //The fanned out Glue calls still nest in the call graph, and the call graph in its invocation.
+        for (int i = 7; i < 10; i++) {
+            TestData.assertWithin(events.get(i), events.get(10));
+            assertThat(events.get(i).get("tid").asInt()).isEqualTo(2);
+        }
+        TestData.assertWithin(events.get(10), events.get(11));
+    }
+
+    @Test
+    public void span_WhenCallGraphThrows_RecordsExceptionAsOutcome() {
+        final HandlerTracer tracer = HandlerTracer.start("ReadHandler", new CallbackContext());
+
+        assertThrows(CfnNotFoundException.class, () -> HandlerTracer.span(TestData.READ, () -> {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, TestData.SCHEMA_ARN);
+        }));
+        tracer.finish("EXCEPTION");
+
+        assertThat(tracer.getEvents()).hasSize(2);
+        assertThat(tracer.getEvents().get(0).get("args").get("outcome").asText()).isEqualTo("CfnNotFoundException");
+        assertThat(HandlerTracer.span("AfterFinish", () -> "untraced")).isEqualTo("untraced");
+        assertThat(tracer.getEvents()).hasSize(2);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invoke(final CallbackContext callbackContext) {
+        final HandlerTracer tracer = HandlerTracer.start("ReadHandler", callbackContext);
+        final ProgressEvent<ResourceModel, CallbackContext> event = new ReadHandler().handleRequest(
+            proxy, TestData.REQUEST, callbackContext, tracer.traceCalls(proxyClient), logger);
+        tracer.finish(String.valueOf(event.getStatus()));
+        return event;
+    }
+
+    private static class TestData {
+        private static final String SCHEMA_ARN =
+            "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+        private static final String READ = "AWS-Glue-Schema::Read";
+
+        private static final ResourceHandlerRequest<ResourceModel> REQUEST =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().arn(SCHEMA_ARN).build())
+                .build();
+
+        private static final GetSchemaResponse GET_SCHEMA_RESPONSE =
+            GetSchemaResponse.builder()
+                .schemaArn(SCHEMA_ARN)
+                .schemaName("unit-testing-schema")
+                .schemaCheckpoint(1L)
+                .latestSchemaVersion(1L)
+                .build();
+
+        private static final GetSchemaVersionResponse GET_SCHEMA_VERSION_RESPONSE =
+            GetSchemaVersionResponse.builder()
+                .schemaVersionId("123e4567-e89b-12d3-a456-426614174000")
+                .build();
+
+        /**
+         * Reads an unterminated Chrome trace the way the trace viewers do.
+         */
+        private static List<JsonNode> readTrace(final Path trace) throws Exception {
+            final String content = new String(Files.readAllBytes(trace), StandardCharsets.UTF_8).trim();
+            assertThat(content).startsWith("[").endsWith(",");
+            final List<JsonNode> events = new ArrayList<>();
+            MAPPER.readTree(content.substring(0, content.length() - 1) + "]").forEach(events::add);
+            return events;
+        }
+
+        private static void assertWithin(
+            final JsonNode inner,
+            final JsonNode outer) {
+            final long innerStart = inner.get("ts").asLong();
+            final long outerStart = outer.get("ts").asLong();
+            assertThat(innerStart).isGreaterThanOrEqualTo(outerStart);
+            assertThat(innerStart + inner.get("dur").asLong())
+                .isLessThanOrEqualTo(outerStart + outer.get("dur").asLong());
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package software.amazon.glue.schema;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.AccessDeniedException;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsResponse;
 import software.amazon.awssdk.services.glue.model.SchemaId;
 import software.amazon.awssdk.services.glue.model.SchemaStatus;
 import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -23,6 +29,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
@@ -57,6 +66,10 @@ public class ReadHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
             .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
 
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_TAGS_REQUEST, glueClient::getTags))
+            .thenReturn(TestData.GET_TAGS_RESPONSE);
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(), proxyClient,
                 logger);
@@ -70,6 +83,57 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_WhenValidSchemaArnIsProvided_SendsAllReadsAtTheSameTime() {
+        final CountDownLatch inFlight = new CountDownLatch(2);
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenAnswer(invocation -> {
+                inFlight.countDown();
+                return TestData.GET_SCHEMA_VERSION_RESPONSE;
+            });
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_TAGS_REQUEST, glueClient::getTags))
+            .thenAnswer(invocation -> {
+                inFlight.countDown();
+                return TestData.GET_TAGS_RESPONSE;
+            });
+
+        //GetSchema only returns once GetSchemaVersion and GetTags have been sent without waiting for it.
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_REQUEST_WITH_ARN, glueClient::getSchema))
+            .thenAnswer(invocation -> {
+                assertThat(inFlight.await(10, TimeUnit.SECONDS)).isTrue();
+                return TestData.GET_SCHEMA_RESPONSE;
+            });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(), proxyClient,
+                logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESPONSE_RESOURCE_MODEL);
+    }
+
+    @Test
+    public void handleRequest_WhenGetTagsFails_ThrowsTranslatedException() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_REQUEST_WITH_ARN, glueClient::getSchema))
+            .thenReturn(TestData.GET_SCHEMA_RESPONSE);
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.GET_TAGS_REQUEST, glueClient::getTags))
+            .thenThrow(AccessDeniedException.builder().message("Not authorized to perform glue:GetTags").build());
+
+        assertThrows(CfnAccessDeniedException.class, () ->
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(),
+                proxyClient, logger));
+    }
+
     @Test
     public void handleRequest_WhenGetSchemaFails_ThrowsException() {
 
@@ -188,6 +252,21 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .schemaArn(SCHEMA_ARN)
                 .build();
 
+        public final static GetTagsRequest GET_TAGS_REQUEST =
+            GetTagsRequest
+                .builder()
+                .resourceArn(SCHEMA_ARN)
+                .build();
+
+        public final static GetTagsResponse GET_TAGS_RESPONSE =
+            GetTagsResponse
+                .builder()
+                .tags(ImmutableMap.of(
+                    "Project", "Example",
+                    "aws:cloudformation:stack-name", "unit-test-stack",
+                    "Org", "ABC"))
+                .build();
+
         public final static ResourceModel GET_SCHEMA_RESPONSE_RESOURCE_MODEL =
             ResourceModel
                 .builder()
@@ -203,6 +282,7 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .dataFormat(TestData.DATA_FORMAT)
                 .arn(TestData.SCHEMA_ARN)
                 .initialSchemaVersionId(SCHEMA_VERSION_ID)
+                .tags(ImmutableList.of(new Tag("Org", "ABC"), new Tag("Project", "Example")))
                 .checkpointVersion(
                     SchemaVersion
                         .builder()
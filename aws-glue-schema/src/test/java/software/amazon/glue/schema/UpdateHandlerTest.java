@@ -1,15 +1,21 @@
 package software.amazon.glue.schema;
 
+import com.google.common.collect.ImmutableList;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.Compatibility;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsResponse;
 import software.amazon.awssdk.services.glue.model.InvalidInputException;
 import software.amazon.awssdk.services.glue.model.SchemaId;
 import software.amazon.awssdk.services.glue.model.SchemaStatus;
 import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceResponse;
 import software.amazon.awssdk.services.glue.model.UpdateSchemaRequest;
 import software.amazon.awssdk.services.glue.model.UpdateSchemaResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -30,7 +36,11 @@ import software.amazon.glue.schema.Registry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +64,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     }
 
     @Test
+    @GlueCallBudget(4)
     public void handleRequest_whenCompatibilityIsUpdatedToLatestVersion_ReturnsResponse() {
 
         when(proxyClient.injectCredentialsAndInvokeV2(
@@ -70,6 +81,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
             .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
 
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_TAGS_REQUEST, glueClient::getTags))
+            .thenReturn(TestData.GET_TAGS_RESPONSE);
+
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
             proxy,
             TestData.RESOURCE_HANDLER_REQUEST_TO_UPDATE_COMPATIBILITY_WITH_LATEST_VERSION,
@@ -104,6 +119,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
             .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
 
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_TAGS_REQUEST, glueClient::getTags))
+            .thenReturn(TestData.GET_TAGS_RESPONSE);
+
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
             proxy,
             TestData.RESOURCE_HANDLER_REQUEST_TO_UPDATE_VERSION_NUMBER,
@@ -138,6 +157,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
             .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
 
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_TAGS_REQUEST, glueClient::getTags))
+            .thenReturn(TestData.GET_TAGS_RESPONSE);
+
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
             proxy,
             TestData.RESOURCE_HANDLER_REQUEST_TO_UPDATE_DESCRIPTION,
@@ -155,6 +178,45 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_whenTagsAreRemoved_UntagsOnlyRemovedKeys() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UPDATE_SCHEMA_REQUEST_TO_UPDATE_DESCRIPTION,
+            glueClient::updateSchema)
+        ).thenReturn(TestData.UPDATE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UNTAG_RESOURCE_REQUEST,
+            glueClient::untagResource)
+        ).thenReturn(UntagResourceResponse.builder().build());
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST_WITH_ARN,
+            glueClient::getSchema)
+        ).thenReturn(TestData.GET_SCHEMA_RESPONSE_WITH_DESC_UPDATED);
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_TAGS_REQUEST, glueClient::getTags))
+            .thenReturn(TestData.GET_TAGS_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            TestData.RESOURCE_HANDLER_REQUEST_TO_REMOVE_TAG,
+            new CallbackContext(),
+            proxyClient,
+            logger
+        );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(1)).untagResource(any(UntagResourceRequest.class));
+        verify(glueClient, never()).tagResource(any(TagResourceRequest.class));
+    }
+
     @Test
     public void handleRequest_whenRegistryNameIsProvided_InvokesUpdateSchema() {
 
@@ -172,6 +234,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
             .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
 
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_TAGS_REQUEST, glueClient::getTags))
+            .thenReturn(TestData.GET_TAGS_RESPONSE);
+
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
             proxy,
             TestData.RESOURCE_HANDLER_REQUEST_WITH_REGISTRY,
@@ -454,6 +520,33 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(RESOURCE_MODEL_TO_UPDATE_DESCRIPTION)
                 .build();
 
+        public final static ResourceHandlerRequest<ResourceModel>
+            RESOURCE_HANDLER_REQUEST_TO_REMOVE_TAG =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(
+                    ResourceModel
+                        .builder()
+                        .arn(SCHEMA_ARN)
+                        .tags(ImmutableList.of(new Tag("Project", "Example"), new Tag("Org", "ABC")))
+                        .build()
+                )
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .arn(SCHEMA_ARN)
+                        .description(NEW_SCHEMA_DESC)
+                        .tags(ImmutableList.of(new Tag("Project", "Example")))
+                        .build()
+                )
+                .build();
+
+        public static final UntagResourceRequest UNTAG_RESOURCE_REQUEST =
+            UntagResourceRequest
+                .builder()
+                .resourceArn(SCHEMA_ARN)
+                .tagsToRemove("Org")
+                .build();
+
         public static final UpdateSchemaRequest
             UPDATE_SCHEMA_REQUEST_TO_UPDATE_DESCRIPTION =
             UpdateSchemaRequest
@@ -538,6 +631,17 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .updatedTime(UPDATED_TIME)
                 .build();
 
+        public static final GetTagsRequest GET_TAGS_REQUEST =
+            GetTagsRequest
+                .builder()
+                .resourceArn(SCHEMA_ARN)
+                .build();
+
+        public static final GetTagsResponse GET_TAGS_RESPONSE =
+            GetTagsResponse
+                .builder()
+                .build();
+
         public static final ResourceModel GET_SCHEMA_RESOURCE_MODEL =
             ResourceModel
                 .builder()
@@ -0,0 +1,71 @@
+package software.amazon.glue.schemaversion;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written CallbackContext serializer and deserializer with the bean ones they
+ * replaced, which a mix-in restores. Both run on the same plain ObjectMapper. Run it with -prof gc
+ * (the jmh profile default) to also compare the bytes allocated per callback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallbackContextSerializationBenchmark {
+
+    @Param({"handWritten", "bean"})
+    private String serializer;
+
+    private ObjectMapper mapper;
+    private CallbackContext callbackContext;
+    private String json;
+
+    @Setup
+    public void setup() throws IOException {
+        mapper = "bean".equals(serializer)
+            ? new ObjectMapper().addMixIn(CallbackContext.class, BeanCallbackContext.class)
+            : new ObjectMapper();
+
+        callbackContext = new CallbackContext();
+        callbackContext.setStabilizationStartTime(System.currentTimeMillis());
+        callbackContext.setStabilizationAttempts(12);
+        callbackContext.setRegisteredVersionId("b7b4a7f0-9c61-11ea-bb37-0242ac130002");
+        callbackContext.setDefinitionFingerprint(SchemaDefinitionStore.fingerprint("{\"type\":\"string\"}"));
+        json = mapper.writeValueAsString(callbackContext);
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return mapper.writeValueAsString(callbackContext);
+    }
+
+    @Benchmark
+    public CallbackContext deserialize() throws IOException {
+        return mapper.readValue(json, CallbackContext.class);
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    private abstract static class BeanCallbackContext {
+    }
+}
@@ -0,0 +1,111 @@
+package software.amazon.glue.schemaversion;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the IN_PROGRESS event that the Create handler hands back while a schema version
+ * stabilizes, with and without a slim callback payload: its serialized size, printed once per
+ * trial, and the time to serialize and deserialize it as every callback does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class CallbackPayloadBenchmark {
+    private static final String SCHEMA_ARN = "arn:aws:glue:us-east-1:123456789:schema/registry/orders";
+    private static final TypeReference<ProgressEvent<ResourceModel, CallbackContext>> EVENT_TYPE =
+        new TypeReference<ProgressEvent<ResourceModel, CallbackContext>>() {
+        };
+
+    @Param({"1000", "170000"})
+    private int definitionLength;
+
+    @Param({"false", "true"})
+    private boolean slimCallbackPayload;
+
+    private final Serializer serializer = new Serializer();
+    private ProgressEvent<ResourceModel, CallbackContext> inProgress;
+    private String payload;
+
+    @Setup
+    public void setup() throws IOException {
+        final LoggerProxy logger = new LoggerProxy();
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+            logger,
+            new Credentials("accessKey", "secretKey", "token"),
+            () -> Duration.ofMinutes(10).toMillis());
+        //The fake keeps the version PENDING, and this scheduler hands every wait back at once.
+        final CreateHandler handler = new CreateHandler(
+            new StabilizationScheduler(Duration.ofSeconds(3L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO),
+            slimCallbackPayload);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .schema(Schema.builder().schemaArn(SCHEMA_ARN).build())
+                .schemaDefinition(definition(definitionLength))
+                .build())
+            .build();
+
+        inProgress = handler.handleRequest(
+            proxy,
+            request,
+            new CallbackContext(),
+            AbstractTestBase.MOCK_PROXY(proxy, FakeSchemaRegistryClient.create().client()),
+            logger);
+        payload = serializer.serialize(inProgress);
+
+        System.out.printf(
+            "%n%s callback payload for a %d character definition: %d bytes%n",
+            slimCallbackPayload ? "Slim" : "Full",
+            definitionLength,
+            payload.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return serializer.serialize(inProgress);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> deserialize() throws IOException {
+        return serializer.deserialize(payload, EVENT_TYPE);
+    }
+
+    /**
+     * An Avro record with as many string fields as fit in the length.
+     */
+    private static String definition(final int length) {
+        final StringBuilder definition = new StringBuilder("{\"type\":\"record\",\"name\":\"Orders\",\"fields\":[");
+        for (int i = 0; definition.length() < length - 40; i++) {
+            definition
+                .append(i == 0 ? "" : ",")
+                .append("{\"name\":\"field")
+                .append(i)
+                .append("\",\"type\":\"string\"}");
+        }
+        return definition.append("]}").toString();
+    }
+}
@@ -17,13 +17,24 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
-        return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-        );
+        final HandlerLogger handlerLogger = HandlerLogger.of(logger);
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final HandlerTracer tracer = HandlerTracer.start(getClass().getSimpleName(), context);
+        ProgressEvent<ResourceModel, CallbackContext> result = null;
+        try {
+            result = handleRequest(
+                proxy,
+                request,
+                context,
+                new RetryingProxyClient(tracer.traceCalls(
+                    GlueTrafficRecorder.recordIfEnabled(proxy.newProxy(ClientBuilder::getClient)))),
+                handlerLogger
+            );
+            return result;
+        } finally {
+            tracer.finish(result == null ? "EXCEPTION" : String.valueOf(result.getStatus()));
+            handlerLogger.logDroppedLines();
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -0,0 +1,462 @@
+package software.amazon.glue.schemaversion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Registers a manifest of schema versions the way {@link CreateHandler} registers one, without
+ * going through CloudFormation one resource at a time.
+ *
+ * Versions of the same schema are registered in manifest order, each one only after the previous
+ * one is AVAILABLE, so every version evolves from the one before it. If a version fails, the
+ * rest of that schema is skipped. Different schemas run in parallel on a bounded pool, and
+ * their stabilization polls share a {@link SchemaVersionStatusMultiplexer} instead of holding
+ * a thread each. Definitions that are already registered are reported as existing. The
+ * definitions registered so far are remembered off the heap, so a definition that appears again
+ * is reported as existing without asking Glue.
+ *
+ * Run it with a manifest of one SchemaVersion resource model per line, for example
+ * {"Schema":{"SchemaArn":"arn:..."},"SchemaDefinition":"..."}, and an optional parallelism.
+ */
+public class BulkSchemaVersionRegistrar implements AutoCloseable {
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final long DEFAULT_DEFINITION_STORE_BYTES = 32L * 1024L * 1024L;
+
+    private final ProxyClient<GlueClient> proxyClient;
+    private final HandlerLogger logger;
+    private final ExecutorService workers;
+    private final SchemaVersionStatusMultiplexer multiplexer;
+    private final SchemaDefinitionStore definitions;
+
+    public BulkSchemaVersionRegistrar(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger,
+        final int parallelism) {
+        this(
+            proxyClient,
+            logger,
+            Executors.newFixedThreadPool(parallelism),
+            new SchemaVersionStatusMultiplexer(proxyClient, logger)
+        );
+    }
+
+    BulkSchemaVersionRegistrar(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger,
+        final ExecutorService workers,
+        final SchemaVersionStatusMultiplexer multiplexer) {
+        this(
+            proxyClient,
+            logger,
+            workers,
+            multiplexer,
+            new SchemaDefinitionStore(DEFAULT_DEFINITION_STORE_BYTES, false)
+        );
+    }
+
+    BulkSchemaVersionRegistrar(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger,
+        final ExecutorService workers,
+        final SchemaVersionStatusMultiplexer multiplexer,
+        final SchemaDefinitionStore definitions) {
+        this.proxyClient = proxyClient;
+        this.logger = HandlerLogger.of(logger);
+        this.workers = workers;
+        this.multiplexer = multiplexer;
+        this.definitions = definitions;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: BulkSchemaVersionRegistrar <manifest.ndjson> [parallelism]");
+            System.exit(2);
+        }
+        final int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PARALLELISM;
+        final List<ResourceModel> manifest = readManifest(args[0]);
+
+        final Report report;
+        try (GlueClient glueClient = GlueClient.create()) {
+            final ProxyClient<GlueClient> proxyClient = new RetryingProxyClient(new SdkProxyClient(glueClient));
+            try (BulkSchemaVersionRegistrar registrar =
+                     new BulkSchemaVersionRegistrar(proxyClient, System.out::println, parallelism)) {
+                report = registrar.register(manifest);
+            }
+        }
+
+        for (final Result result : report.getResults()) {
+            System.out.println(result);
+        }
+        System.out.println(report);
+        System.exit(report.getFailed() == 0 ? 0 : 1);
+    }
+
+    static List<ResourceModel> readManifest(final String path) throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final List<ResourceModel> manifest = new ArrayList<>();
+        for (final String line : Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                manifest.add(objectMapper.readValue(line, ResourceModel.class));
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Registers every entry of the manifest and waits for all of them to settle.
+     *
+     * @return one result per manifest entry, in manifest order, and the overall throughput.
+     */
+    public Report register(final List<ResourceModel> manifest) {
+        final long start = System.currentTimeMillis();
+
+        //Keyed by schema, in order of first appearance. Each schema is one chain of registrations.
+        final Map<String, CompletableFuture<Boolean>> chains = new LinkedHashMap<>();
+        final List<CompletableFuture<Result>> results = new ArrayList<>(manifest.size());
+
+        for (final ResourceModel model : manifest) {
+            final String schemaKey = schemaKey(model);
+            final CompletableFuture<Boolean> previous =
+                chains.getOrDefault(schemaKey, CompletableFuture.completedFuture(Boolean.TRUE));
+
+            final CompletableFuture<Result> result = previous.thenComposeAsync(
+                previousSucceeded -> previousSucceeded
+                    ? registerAndAwait(model)
+                    : CompletableFuture.completedFuture(Result.skipped(model)),
+                workers
+            );
+            results.add(result);
+            chains.put(schemaKey, result.thenApply(Result::isSucceeded));
+        }
+
+        final List<Result> settled = new ArrayList<>(results.size());
+        for (final CompletableFuture<Result> result : results) {
+            settled.add(result.join());
+        }
+        logger.info(() -> String.format("Schema definition store: %s", definitions));
+        return new Report(settled, Duration.ofMillis(System.currentTimeMillis() - start));
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+        multiplexer.close();
+    }
+
+    private CompletableFuture<Result> registerAndAwait(final ResourceModel model) {
+        final RegisterSchemaVersionRequest registerSchemaVersionRequest =
+            SchemaVersionRegistration.toRegisterRequest(model);
+        final RegisterSchemaVersionResponse registerSchemaVersionResponse;
+        final String schemaKey = schemaKey(model);
+        final String definition = model.getSchemaDefinition();
+
+        if (definition != null) {
+            final Optional<String> rememberedVersionId = definitions.findVersionId(schemaKey, definition);
+            if (rememberedVersionId.isPresent()) {
+                return CompletableFuture.completedFuture(Result.existing(model, rememberedVersionId.get()));
+            }
+        }
+
+        try {
+            final Optional<String> existingVersionId = SchemaVersionRegistration.findExistingVersionId(
+                proxyClient,
+                registerSchemaVersionRequest.schemaId(),
+                registerSchemaVersionRequest.schemaDefinition()
+            );
+            if (existingVersionId.isPresent()) {
+                remember(schemaKey, existingVersionId.get(), definition);
+                return CompletableFuture.completedFuture(Result.existing(model, existingVersionId.get()));
+            }
+            registerSchemaVersionResponse = SchemaVersionRegistration.register(proxyClient, registerSchemaVersionRequest);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.completedFuture(Result.failed(model, null, e));
+        }
+
+        final String versionId = registerSchemaVersionResponse.schemaVersionId();
+        logger.debug(() -> String.format("Registered %s with ID %s.", ResourceModel.TYPE_NAME, versionId));
+
+        final CompletableFuture<SchemaVersionStatus> status;
+        if (registerSchemaVersionResponse.status() == SchemaVersionStatus.PENDING) {
+            try {
+                status = multiplexer.await(schemaArn(model, versionId), versionId);
+            } catch (final RuntimeException e) {
+                return CompletableFuture.completedFuture(Result.failed(model, versionId, e));
+            }
+        } else {
+            status = CompletableFuture.completedFuture(registerSchemaVersionResponse.status());
+        }
+
+        //Settled on the workers, the multiplexer completes statuses on its scheduler while holding its monitor.
+        return status.handleAsync((registeredStatus, error) -> {
+            if (error != null) {
+                return Result.failed(model, versionId, unwrap(error));
+            }
+            try {
+                SchemaVersionRegistration.isRegistered(registeredStatus, versionId);
+                remember(schemaKey, versionId, definition);
+                return Result.registered(model, versionId);
+            } catch (final RuntimeException e) {
+                return Result.failed(model, versionId, e);
+            }
+        }, workers);
+    }
+
+    private void remember(
+        final String schemaKey,
+        final String versionId,
+        final String definition) {
+        if (definition != null) {
+            definitions.put(schemaKey, versionId, definition);
+        }
+    }
+
+    /**
+     * The multiplexer polls by schema ARN. Manifests may name schemas by registry and name instead,
+     * in which case the ARN is taken from the registered version.
+     */
+    private String schemaArn(
+        final ResourceModel model,
+        final String versionId) {
+
+        final Schema schema = model.getSchema();
+        if (schema != null && schema.getSchemaArn() != null) {
+            return schema.getSchemaArn();
+        }
+        return proxyClient.injectCredentialsAndInvokeV2(
+            GetSchemaVersionRequest.builder().schemaVersionId(versionId).build(),
+            proxyClient.client()::getSchemaVersion
+        ).schemaArn();
+    }
+
+    private static String schemaKey(final ResourceModel model) {
+        final Schema schema = model.getSchema();
+        if (schema == null) {
+            return "";
+        }
+        return schema.getSchemaArn() != null
+            ? schema.getSchemaArn()
+            : schema.getRegistryName() + "/" + schema.getSchemaName();
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Outcome of one manifest entry.
+     */
+    public static final class Result {
+        /**
+         * How a manifest entry ended.
+         */
+        public enum Outcome {
+            REGISTERED,
+            EXISTING,
+            FAILED,
+            SKIPPED
+        }
+
+        private final ResourceModel model;
+        private final Outcome outcome;
+        private final String versionId;
+        private final String message;
+
+        private Result(
+            final ResourceModel model,
+            final Outcome outcome,
+            final String versionId,
+            final String message) {
+            this.model = model;
+            this.outcome = outcome;
+            this.versionId = versionId;
+            this.message = message;
+        }
+
+        static Result registered(final ResourceModel model, final String versionId) {
+            return new Result(model, Outcome.REGISTERED, versionId, null);
+        }
+
+        static Result existing(final ResourceModel model, final String versionId) {
+            return new Result(model, Outcome.EXISTING, versionId, null);
+        }
+
+        static Result failed(final ResourceModel model, final String versionId, final Throwable error) {
+            return new Result(model, Outcome.FAILED, versionId, error.getMessage());
+        }
+
+        static Result skipped(final ResourceModel model) {
+            return new Result(model, Outcome.SKIPPED, null, "An earlier version of the schema was not registered");
+        }
+
+        public ResourceModel getModel() {
+            return model;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public String getVersionId() {
+            return versionId;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        boolean isSucceeded() {
+            return outcome == Outcome.REGISTERED || outcome == Outcome.EXISTING;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s %s%s",
+                outcome,
+                schemaKey(model),
+                versionId == null ? "-" : versionId,
+                message == null ? "" : ": " + message);
+        }
+    }
+
+    /**
+     * Results of a whole manifest and how fast it was registered.
+     */
+    public static final class Report {
+        private final List<Result> results;
+        private final Duration elapsed;
+
+        Report(final List<Result> results, final Duration elapsed) {
+            this.results = Collections.unmodifiableList(results);
+            this.elapsed = elapsed;
+        }
+
+        public List<Result> getResults() {
+            return results;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        public long getRegistered() {
+            return count(Result.Outcome.REGISTERED);
+        }
+
+        public long getFailed() {
+            return count(Result.Outcome.FAILED) + count(Result.Outcome.SKIPPED);
+        }
+
+        /**
+         * Entries settled per second, registered or not.
+         */
+        public double getVersionsPerSecond() {
+            return results.size() * 1000.0 / Math.max(1L, elapsed.toMillis());
+        }
+
+        private long count(final Result.Outcome outcome) {
+            long count = 0;
+            for (final Result result : results) {
+                if (result.getOutcome() == outcome) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%d entries in %s (%.2f versions/s): %d registered, %d existing, %d failed, %d skipped.",
+                results.size(),
+                elapsed,
+                getVersionsPerSecond(),
+                getRegistered(),
+                count(Result.Outcome.EXISTING),
+                count(Result.Outcome.FAILED),
+                count(Result.Outcome.SKIPPED));
+        }
+    }
+
+    /**
+     * Calls Glue directly with the client's own credentials, for running outside of a handler.
+     */
+    static final class SdkProxyClient implements ProxyClient<GlueClient> {
+        private final GlueClient glueClient;
+
+        SdkProxyClient(final GlueClient glueClient) {
+            this.glueClient = glueClient;
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public GlueClient client() {
+            return glueClient;
+        }
+    }
+}
@@ -1,10 +1,28 @@
 package software.amazon.glue.schemaversion;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
+@JsonSerialize(using = CallbackContextJson.Serializer.class)
+@JsonDeserialize(using = CallbackContextJson.Deserializer.class)
 public class CallbackContext extends StdCallbackContext {
+
+    Long stabilizationStartTime;
+    int stabilizationAttempts = 0;
+
+    //Set instead of the call graph when the Create handler slims its callback payload.
+    String registeredVersionId;
+    String definitionFingerprint;
+
+    //Counted by HandlerLogger#sampled, so that poll lines are sampled across callbacks.
+    int sampledLogLines = 0;
+
+    //Set by HandlerTracer, so that every callback of an operation appends to the same trace.
+    String traceId;
+    int traceInvocations = 0;
 }
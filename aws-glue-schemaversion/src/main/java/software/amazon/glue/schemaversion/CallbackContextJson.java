@@ -0,0 +1,149 @@
+package software.amazon.glue.schemaversion;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads the {@link CallbackContext} of every callback without bean introspection.
+ *
+ * The fields of this module are written and read by hand, in the same shape the bean serializer
+ * used, so callbacks serialized before this change still deserialize. The call graph belongs to
+ * {@link StdCallbackContext} and is handed, property by property, to its own bean serializer and
+ * deserializer. Both are registered on {@link CallbackContext} itself, which is how the handler
+ * wrapper's serializer picks them up, so they are public for Jackson to instantiate.
+ */
+public final class CallbackContextJson {
+    static final String STABILIZATION_START_TIME = "stabilizationStartTime";
+    static final String STABILIZATION_ATTEMPTS = "stabilizationAttempts";
+    static final String REGISTERED_VERSION_ID = "registeredVersionId";
+    static final String DEFINITION_FINGERPRINT = "definitionFingerprint";
+    static final String SAMPLED_LOG_LINES = "sampledLogLines";
+    static final String TRACE_ID = "traceId";
+    static final String TRACE_INVOCATIONS = "traceInvocations";
+
+    private CallbackContextJson() { }
+
+    public static final class Serializer extends StdSerializer<CallbackContext> {
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(CallbackContext.class);
+        }
+
+        @Override
+        public void serialize(
+            final CallbackContext callbackContext,
+            final JsonGenerator generator,
+            final SerializerProvider provider) throws IOException {
+
+            generator.writeStartObject();
+            if (callbackContext.getStabilizationStartTime() != null) {
+                generator.writeNumberField(STABILIZATION_START_TIME, callbackContext.getStabilizationStartTime());
+            }
+            generator.writeNumberField(STABILIZATION_ATTEMPTS, callbackContext.getStabilizationAttempts());
+            if (callbackContext.getRegisteredVersionId() != null) {
+                generator.writeStringField(REGISTERED_VERSION_ID, callbackContext.getRegisteredVersionId());
+            }
+            if (callbackContext.getDefinitionFingerprint() != null) {
+                generator.writeStringField(DEFINITION_FINGERPRINT, callbackContext.getDefinitionFingerprint());
+            }
+            if (callbackContext.getSampledLogLines() > 0) {
+                generator.writeNumberField(SAMPLED_LOG_LINES, callbackContext.getSampledLogLines());
+            }
+            //Only traced operations carry a trace, which keeps untraced callbacks as they were.
+            if (callbackContext.getTraceId() != null) {
+                generator.writeStringField(TRACE_ID, callbackContext.getTraceId());
+                generator.writeNumberField(TRACE_INVOCATIONS, callbackContext.getTraceInvocations());
+            }
+            provider.findValueSerializer(StdCallbackContext.class)
+                .unwrappingSerializer(NameTransformer.NOP)
+                .serialize(callbackContext, generator, provider);
+            generator.writeEndObject();
+        }
+    }
+
+    public static final class Deserializer extends StdDeserializer<CallbackContext> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(CallbackContext.class);
+        }
+
+        @Override
+        public CallbackContext deserialize(
+            final JsonParser parser,
+            final DeserializationContext context) throws IOException {
+
+            final CallbackContext callbackContext = new CallbackContext();
+            BeanDeserializerBase stdCallbackContext = null;
+            JsonToken token = parser.currentToken() == JsonToken.START_OBJECT
+                ? parser.nextToken()
+                : parser.currentToken();
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                final String field = parser.currentName();
+                final boolean isNull = parser.nextToken() == JsonToken.VALUE_NULL;
+                switch (field) {
+                    case STABILIZATION_START_TIME:
+                        callbackContext.setStabilizationStartTime(isNull ? null : parser.getLongValue());
+                        break;
+                    case STABILIZATION_ATTEMPTS:
+                        callbackContext.setStabilizationAttempts(isNull ? 0 : parser.getIntValue());
+                        break;
+                    case REGISTERED_VERSION_ID:
+                        callbackContext.setRegisteredVersionId(parser.getValueAsString());
+                        break;
+                    case DEFINITION_FINGERPRINT:
+                        callbackContext.setDefinitionFingerprint(parser.getValueAsString());
+                        break;
+                    case SAMPLED_LOG_LINES:
+                        callbackContext.setSampledLogLines(isNull ? 0 : parser.getIntValue());
+                        break;
+                    case TRACE_ID:
+                        callbackContext.setTraceId(parser.getValueAsString());
+                        break;
+                    case TRACE_INVOCATIONS:
+                        callbackContext.setTraceInvocations(isNull ? 0 : parser.getIntValue());
+                        break;
+                    default:
+                        if (stdCallbackContext == null) {
+                            stdCallbackContext = stdCallbackContext(parser, context);
+                        }
+                        final SettableBeanProperty property = stdCallbackContext.findProperty(field);
+                        if (property == null) {
+                            parser.skipChildren();
+                        } else {
+                            property.deserializeAndSet(parser, context, callbackContext);
+                        }
+                }
+            }
+            return callbackContext;
+        }
+
+        private static BeanDeserializerBase stdCallbackContext(
+            final JsonParser parser,
+            final DeserializationContext context) throws IOException {
+
+            final JsonDeserializer<Object> deserializer =
+                context.findRootValueDeserializer(context.constructType(StdCallbackContext.class));
+            if (!(deserializer instanceof BeanDeserializerBase)) {
+                throw JsonMappingException.from(
+                    parser,
+                    "Cannot read the call graph with " + deserializer.getClass().getName());
+            }
+            return (BeanDeserializerBase) deserializer;
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package software.amazon.glue.schemaversion;
 
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
 public class ClientBuilder {
+    //Glue errors are retried by RetryingProxyClient. The SDK only retries calls that got no response.
+    private static final RetryPolicy GLUE_CLIENT_RETRY_POLICY =
+        RetryPolicy.builder()
+            .retryCondition(context ->
+                !(context.exception() instanceof AwsServiceException)
+                    && RetryCondition.defaultRetryCondition().shouldRetry(context))
+            .build();
+
     private ClientBuilder() {
     }
 
@@ -13,6 +24,7 @@ public class ClientBuilder {
             GlueClient
                 .builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(configuration -> configuration.retryPolicy(GLUE_CLIENT_RETRY_POLICY))
                 .build();
     }
 }
@@ -1,8 +1,19 @@
 package software.amazon.glue.schemaversion;
 
+import org.json.JSONObject;
+
 public class Configuration extends BaseConfiguration {
 
     public Configuration() {
         super("aws-glue-schemaversion.json");
     }
+
+    /**
+     * Builds the schema from the constants that codegen/generate_schema_constants.py generates
+     * out of aws-glue-schemaversion.json at build time, instead of parsing the file from the classpath.
+     */
+    @Override
+    public JSONObject resourceSchemaJsonObject() {
+        return ResourceSchemaConstants.schema();
+    }
 }
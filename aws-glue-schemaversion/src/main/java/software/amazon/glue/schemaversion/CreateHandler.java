@@ -2,20 +2,14 @@ package software.amazon.glue.schemaversion;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
-import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
-import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
-import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionResponse;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
-import software.amazon.awssdk.services.glue.model.InvalidInputException;
 import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
-import software.amazon.awssdk.services.glue.model.SchemaId;
 import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+import software.amazon.awssdk.utils.SystemSetting;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -24,21 +18,51 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.time.Duration;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.BiFunction;
-import java.util.function.Function;
-
-import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
+/**
+ * Registers a schema version and waits for it to become available.
+ *
+ * With {@link #SLIM_CALLBACK_PAYLOAD_ENV} set to true, the schema definition, which can be up to
+ * 170,000 characters, is not carried through stabilization. Once registered, the model only keeps
+ * the VersionId and the CallbackContext only keeps the VersionId and the SHA-256 fingerprint of
+ * the definition, instead of the recorded register request and response. The final read restores
+ * the definition from GetSchemaVersion.
+ */
 public class CreateHandler extends BaseHandlerStd {
+    static final String SLIM_CALLBACK_PAYLOAD_ENV = "GLUE_SCHEMA_VERSION_SLIM_CALLBACK_PAYLOAD";
+
+    private static final String CREATE_CALL_GRAPH = "AWS-Glue-SchemaVersion::Create";
+    private static final String STABILIZE_CALL_GRAPH = "AWS-Glue-SchemaVersion::Create::Stabilize";
     private static final Constant BACK_OFF_DELAY =
         Constant
             .of()
             .timeout(Duration.ofSeconds(120L))
             .delay(Duration.ofSeconds(3L))
             .build();
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER =
+        new StabilizationScheduler(Duration.ofSeconds(3L), Duration.ofSeconds(120L));
 
-    private Logger logger;
+    private final StabilizationScheduler stabilizationScheduler;
+    private final boolean slimCallbackPayload;
+
+    public CreateHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
+
+    CreateHandler(final StabilizationScheduler stabilizationScheduler) {
+        this(
+            stabilizationScheduler,
+            PayloadSetting.SLIM.getStringValue().map(Boolean::parseBoolean).orElse(false));
+    }
+
+    CreateHandler(
+        final StabilizationScheduler stabilizationScheduler,
+        final boolean slimCallbackPayload) {
+        this.stabilizationScheduler = stabilizationScheduler;
+        this.slimCallbackPayload = slimCallbackPayload;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -47,37 +71,99 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        final HandlerLogger handlerLogger = HandlerLogger.of(logger);
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> createSchemaVersion(proxy, proxyClient, progress, "AWS-Glue-SchemaVersion::Create"))
-            .then(progress -> stabilize(proxy, proxyClient, progress, "AWS-Glue-SchemaVersion::PostCreateStabilize"))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> HandlerTracer.span(CREATE_CALL_GRAPH, () -> slimCallbackPayload
+                ? createSchemaVersionWithSlimPayload(proxyClient, progress, handlerLogger)
+                : createSchemaVersion(proxy, proxyClient, progress, CREATE_CALL_GRAPH, handlerLogger)))
+            .then(progress -> HandlerTracer.span(STABILIZE_CALL_GRAPH, () ->
+                stabilizationScheduler.stabilize(
+                    progress,
+                    progress.getResourceModel().getVersionId(),
+                    model -> isStabilized(proxyClient, model, progress.getCallbackContext(), handlerLogger))))
+            .then(progress -> verifyRestoredDefinition(
+                new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger),
+                callbackContext,
+                handlerLogger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createSchemaVersion(
         final AmazonWebServicesClientProxy proxy,
         final ProxyClient<GlueClient> proxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress,
-        final String callGraph) {
+        final String callGraph,
+        final HandlerLogger logger) {
 
         return proxy.initiate(
             callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext()
         )
-            .translateToServiceRequest(this::resourceModelToRegisterRequest)
+            .translateToServiceRequest(SchemaVersionRegistration::toRegisterRequest)
             .backoffDelay(BACK_OFF_DELAY)
-            .makeServiceCall(this::registerSchemaVersion)
+            .makeServiceCall((registerSchemaVersionRequest, client) ->
+                registerSchemaVersion(registerSchemaVersionRequest, client, logger))
             //Set VersionId in Resource model for stabilization to use it.
             .done(this::setVersionId);
     }
 
+    /**
+     * Registers the version at most once across callbacks, without recording the register request
+     * in the call graph, and drops the definition from the model that is handed back while the
+     * version stabilizes.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> createSchemaVersionWithSlimPayload(
+        final ProxyClient<GlueClient> proxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final HandlerLogger logger) {
+
+        final ResourceModel resourceModel = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+
+        if (callbackContext.getRegisteredVersionId() == null) {
+            final String schemaDefinition = resourceModel.getSchemaDefinition();
+            final RegisterSchemaVersionResponse registerSchemaVersionResponse =
+                registerSchemaVersion(SchemaVersionRegistration.toRegisterRequest(resourceModel), proxyClient, logger);
+
+            callbackContext.setRegisteredVersionId(registerSchemaVersionResponse.schemaVersionId());
+            callbackContext.setDefinitionFingerprint(
+                schemaDefinition == null ? null : SchemaDefinitionStore.fingerprint(schemaDefinition));
+        }
+
+        resourceModel.setVersionId(callbackContext.getRegisteredVersionId());
+        resourceModel.setSchemaDefinition(null);
+        return ProgressEvent.progress(resourceModel, callbackContext);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> verifyRestoredDefinition(
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final CallbackContext callbackContext,
+        final HandlerLogger logger) {
+
+        final String expected = callbackContext.getDefinitionFingerprint();
+        final ResourceModel resourceModel = progress.getResourceModel();
+        if (expected == null || resourceModel == null || resourceModel.getSchemaDefinition() == null) {
+            return progress;
+        }
+
+        final String restored = SchemaDefinitionStore.fingerprint(resourceModel.getSchemaDefinition());
+        if (!Objects.equals(expected, restored)) {
+            logger.error(() ->
+                String.format(
+                    "SchemaDefinition read back for %s with ID %s has fingerprint %s, registered %s.",
+                    ResourceModel.TYPE_NAME,
+                    resourceModel.getVersionId(),
+                    restored,
+                    expected
+                ));
+        }
+        return progress;
+    }
+
     private RegisterSchemaVersionResponse registerSchemaVersion(
         final RegisterSchemaVersionRequest registerSchemaVersionRequest,
-        final ProxyClient<GlueClient> proxyClient) {
-
-        final GlueClient glueClient = proxyClient.client();
-        RegisterSchemaVersionResponse registerSchemaVersionResponse = null;
+        final ProxyClient<GlueClient> proxyClient,
+        final HandlerLogger logger) {
 
-        final Optional<String> versionId = getSchemaVersionId(
+        final Optional<String> versionId = SchemaVersionRegistration.findExistingVersionId(
             proxyClient,
             registerSchemaVersionRequest.schemaId(),
             registerSchemaVersionRequest.schemaDefinition()
@@ -87,70 +173,27 @@ public class CreateHandler extends BaseHandlerStd {
         if (versionId.isPresent()) {
             throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, versionId.get());
         }
-        logger.log(
+        logger.info(() ->
             String.format(
                 "SchemaDefinition is not present in schemaId: %s. Proceeding to create",
-                registerSchemaVersionRequest.schemaId()
+                HandlerLogger.truncate(registerSchemaVersionRequest.schemaId())
             )
         );
 
-        try {
-            registerSchemaVersionResponse =
-                proxyClient.injectCredentialsAndInvokeV2(
-                    registerSchemaVersionRequest,
-                    glueClient::registerSchemaVersion
-                );
-        } catch (final AwsServiceException e) {
-            final SchemaId schemaId = registerSchemaVersionRequest.schemaId();
-            final String identifier = schemaId == null ? null : schemaId.toString();
-            translateToCfnException(e, identifier);
-        }
+        final RegisterSchemaVersionResponse registerSchemaVersionResponse =
+            SchemaVersionRegistration.register(proxyClient, registerSchemaVersionRequest);
 
-        logger.log(
+        final String schemaVersionId = registerSchemaVersionResponse.schemaVersionId();
+        logger.info(() ->
             String.format(
                 "Registered %s with ID %s.",
                 ResourceModel.TYPE_NAME,
-                registerSchemaVersionResponse.schemaVersionId()
+                schemaVersionId
             )
         );
         return registerSchemaVersionResponse;
     }
 
-    /**
-     * Even though, we cannot create the same schema version.
-     * This check is required to show consistent error messages to customers.
-     *
-     * @return Optional VersionId if it already exists. Absent otherwise.
-     */
-    private Optional<String> getSchemaVersionId(
-        final ProxyClient<GlueClient> proxyClient,
-        final SchemaId schemaId,
-        final String schemaDefinition) {
-        final GetSchemaByDefinitionRequest getSchemaByDefinitionRequest =
-            GetSchemaByDefinitionRequest
-                .builder()
-                .schemaDefinition(schemaDefinition)
-                .schemaId(schemaId)
-                .build();
-        final GlueClient glueClient = proxyClient.client();
-
-        try {
-            GetSchemaByDefinitionResponse response =
-                proxyClient
-                    .injectCredentialsAndInvokeV2(getSchemaByDefinitionRequest, glueClient::getSchemaByDefinition);
-            return Optional.of(response.schemaVersionId());
-        } catch (EntityNotFoundException e) {
-            return Optional.empty();
-        } catch (InvalidInputException e) {
-            throw new CfnInvalidRequestException(String.valueOf(schemaId), e);
-        } catch (AwsServiceException e) {
-            throw
-                new CfnGeneralServiceException(
-                    String.format("Error determining pre-existence of schema version: %s", e.getMessage())
-                );
-        }
-    }
-
     private ProgressEvent<ResourceModel, CallbackContext> setVersionId(
         final RegisterSchemaVersionRequest registerSchemaVersionRequest,
         final RegisterSchemaVersionResponse registerSchemaVersionResponse,
@@ -162,28 +205,11 @@ public class CreateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(resourceModel, callbackContext);
     }
 
-    private static final BiFunction<ResourceModel, ProxyClient<GlueClient>, ResourceModel> EMPTY_CALL =
-        (model, proxyClient) -> model;
-
-    private ProgressEvent<ResourceModel, CallbackContext> stabilize(
-        final AmazonWebServicesClientProxy proxy,
-        final ProxyClient<GlueClient> proxyClient,
-        final ProgressEvent<ResourceModel, CallbackContext> progress,
-        final String callGraph) {
-
-        return proxy.initiate(callGraph, proxyClient, progress.getResourceModel(),
-            progress.getCallbackContext())
-            .translateToServiceRequest(Function.identity())
-            .backoffDelay(BACK_OFF_DELAY)
-            .makeServiceCall(EMPTY_CALL)
-            .stabilize(
-                (request, response, proxyInvocation, model, callbackContext) -> isStabilized(proxyClient, response))
-            .progress();
-    }
-
     private SchemaVersionStatus getSchemaVersionRegistrationStatus(
         final GetSchemaVersionRequest request,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final CallbackContext callbackContext,
+        final HandlerLogger logger) {
 
         final GlueClient glueClient = proxyClient.client();
 
@@ -205,7 +231,7 @@ public class CreateHandler extends BaseHandlerStd {
                 e);
         }
 
-        logger.log(
+        logger.sampled(STABILIZE_CALL_GRAPH, callbackContext, () ->
             String.format(
                 "Creation status of resource %s with ID %s is %s",
                 ResourceModel.TYPE_NAME,
@@ -223,55 +249,39 @@ public class CreateHandler extends BaseHandlerStd {
             .build();
     }
 
-    private Boolean isStabilized(
+    private boolean isStabilized(
         final ProxyClient<GlueClient> proxyClient,
-        final ResourceModel resourceModel) {
+        final ResourceModel resourceModel,
+        final CallbackContext callbackContext,
+        final HandlerLogger logger) {
 
         final SchemaVersionStatus status =
             getSchemaVersionRegistrationStatus(
                 resourceModelToGetRequest(resourceModel),
-                proxyClient
+                proxyClient,
+                callbackContext,
+                logger
             );
 
-        switch (status) {
-            case AVAILABLE:
-                return true;
-            case PENDING:
-                return false;
-            case FAILURE:
-                throw new CfnGeneralServiceException(
-                    String.format("Couldn't create %s due to schema evolution failure", ResourceModel.TYPE_NAME));
-            case DELETING:
-                throw new CfnResourceConflictException(
-                    ResourceModel.TYPE_NAME,
-                    resourceModel.getVersionId(),
-                    String.format("Another process is deleting this %s", ResourceModel.TYPE_NAME));
-            default:
-                throw new CfnGeneralServiceException(
-                    String
-                        .format("%s creation request accepted but current status is unknown", ResourceModel.TYPE_NAME));
-        }
+        return SchemaVersionRegistration.isRegistered(status, resourceModel.getVersionId());
     }
 
-    private RegisterSchemaVersionRequest resourceModelToRegisterRequest(final ResourceModel resourceModel) {
-        final Schema schemaId = resourceModel.getSchema();
-
-        final String schemaArn = schemaId != null ? schemaId.getSchemaArn() : null;
-        final String schemaName = schemaId != null ? schemaId.getSchemaName() : null;
-        final String registryName = schemaId != null ? schemaId.getRegistryName() : null;
-
-        return
-            RegisterSchemaVersionRequest
-                .builder()
-                .schemaId(
-                    SchemaId
-                        .builder()
-                        .registryName(registryName)
-                        .schemaName(schemaName)
-                        .schemaArn(schemaArn)
-                        .build()
-                )
-                .schemaDefinition(resourceModel.getSchemaDefinition())
-                .build();
+    private enum PayloadSetting implements SystemSetting {
+        SLIM;
+
+        @Override
+        public String property() {
+            return "glue.schemaversion.slimCallbackPayload";
+        }
+
+        @Override
+        public String environmentVariable() {
+            return SLIM_CALLBACK_PAYLOAD_ENV;
+        }
+
+        @Override
+        public String defaultValue() {
+            return "false";
+        }
     }
 }
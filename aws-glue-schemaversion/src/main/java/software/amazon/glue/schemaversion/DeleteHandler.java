@@ -1,5 +1,6 @@
 package software.amazon.glue.schemaversion;
 
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
@@ -7,7 +8,9 @@ import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsResponse;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.GlueException;
 import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionErrorItem;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
@@ -23,12 +26,24 @@ import java.time.Duration;
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
+    private static final String STABILIZE_CALL_GRAPH = "AWS-Glue-SchemaVersion::Delete::Stabilize";
     private static final Delay DELAY =
         Constant.of()
             .timeout(Duration.ofSeconds(120L))
             .delay(Duration.ofSeconds(4L))
             .build();
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER =
+        new StabilizationScheduler(Duration.ofSeconds(4L), Duration.ofSeconds(120L));
+
+    private final StabilizationScheduler stabilizationScheduler;
+
+    public DeleteHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
+
+    DeleteHandler(final StabilizationScheduler stabilizationScheduler) {
+        this.stabilizationScheduler = stabilizationScheduler;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -36,29 +51,34 @@ public class DeleteHandler extends BaseHandlerStd {
         final CallbackContext callbackContext,
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
-        this.logger = logger;
+        final HandlerLogger handlerLogger = HandlerLogger.of(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
+            .then(progress -> HandlerTracer.span("AWS-Glue-SchemaVersion::Delete", () ->
                 proxy.initiate("AWS-Glue-SchemaVersion::Delete", proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                     .translateToServiceRequest(this::getSchemaVersionRequest)
                     .backoffDelay(DELAY)
-                    .makeServiceCall(this::deleteSchemaVersion)
-                    .stabilize(this::isDeleteStabilized)
-                    .done(
-                        awsResponse ->
-                            ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                .status(OperationStatus.SUCCESS)
-                                .build()));
+                    .makeServiceCall((getSchemaVersionRequest, client) ->
+                        deleteSchemaVersion(
+                            progress.getResourceModel(), getSchemaVersionRequest, client, handlerLogger))
+                    .progress()))
+            .then(progress -> HandlerTracer.span(STABILIZE_CALL_GRAPH, () ->
+                stabilizationScheduler.stabilize(
+                    progress,
+                    progress.getResourceModel().getVersionId(),
+                    model -> isDeleteStabilized(proxyClient, model, progress.getCallbackContext(), handlerLogger))))
+            .then(progress ->
+                ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.SUCCESS)
+                    .build());
     }
 
-    private Boolean isDeleteStabilized(
-        final GetSchemaVersionRequest getSchemaVersionRequest,
-        final DeleteSchemaVersionsResponse deleteSchemaVersionsResponse,
+    private boolean isDeleteStabilized(
         final ProxyClient<GlueClient> proxyClient,
         final ResourceModel resourceModel,
-        final CallbackContext callbackContext) {
+        final CallbackContext callbackContext,
+        final HandlerLogger logger) {
 
         final String versionId = resourceModel.getVersionId();
         try {
@@ -66,11 +86,11 @@ public class DeleteHandler extends BaseHandlerStd {
 
             proxyClient
                 .injectCredentialsAndInvokeV2(
-                    getSchemaVersionRequest,
+                    getSchemaVersionRequest(resourceModel),
                     glueClient::getSchemaVersion
                 );
 
-            logger.log(
+            logger.sampled(STABILIZE_CALL_GRAPH, callbackContext, () ->
                 String.format("%s [%s] is not deleted yet",
                     ResourceModel.TYPE_NAME,
                     versionId
@@ -95,47 +115,21 @@ public class DeleteHandler extends BaseHandlerStd {
         }
     }
 
-    /**
-     * HACK: We only have DeleteSchemaVersions API that takes
-     * schema version number as input. We need to fetch the version number first by using
-     * the versionId.
-     *
-     * @param getSchemaVersionRequest {@link GetSchemaVersionRequest}.
-     * @param client                  ProxyClient
-     * @return DeleteSchemaVersionsResponse
-     */
     private DeleteSchemaVersionsResponse deleteSchemaVersion(
+        final ResourceModel model,
         final GetSchemaVersionRequest getSchemaVersionRequest,
-        final ProxyClient<GlueClient> client) {
+        final ProxyClient<GlueClient> client,
+        final HandlerLogger logger) {
 
         final GlueClient glueClient = client.client();
         final String identifier = getSchemaVersionRequest.schemaVersionId();
 
         DeleteSchemaVersionsResponse deleteSchemaVersionsResponse = null;
         try {
-            final GetSchemaVersionResponse getSchemaVersionResponse =
-                client.injectCredentialsAndInvokeV2(
-                    getSchemaVersionRequest, glueClient::getSchemaVersion);
-
-            final Long versionNumber = getSchemaVersionResponse.versionNumber();
-
-            logger.log(
-                String.format(
-                    "Fetched version number %s for %s [%s]",
-                    versionNumber,
-                    ResourceModel.TYPE_NAME,
-                    identifier
-                )
-            );
-
             final DeleteSchemaVersionsRequest deleteSchemaVersionsRequest =
-                deleteSchemaVersionRequest(
-                    Schema
-                        .builder()
-                        .schemaArn(getSchemaVersionResponse.schemaArn())
-                        .build(),
-                    versionNumber
-                );
+                hasVersionCoordinates(model)
+                    ? deleteSchemaVersionRequest(model.getSchema(), model.getVersionNumber().longValue())
+                    : lookUpDeleteSchemaVersionRequest(getSchemaVersionRequest, client, logger);
 
             deleteSchemaVersionsResponse =
                 client.injectCredentialsAndInvokeV2(deleteSchemaVersionsRequest, glueClient::deleteSchemaVersions);
@@ -143,6 +137,7 @@ public class DeleteHandler extends BaseHandlerStd {
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
+        throwOnSchemaVersionErrors(deleteSchemaVersionsResponse, identifier);
 
         logger.log(
             String.format(
@@ -154,6 +149,83 @@ public class DeleteHandler extends BaseHandlerStd {
         return deleteSchemaVersionsResponse;
     }
 
+    /**
+     * DeleteSchemaVersions reports versions it couldn't delete, including ones that no longer
+     * exist, in the response instead of failing the call.
+     */
+    private void throwOnSchemaVersionErrors(
+        final DeleteSchemaVersionsResponse deleteSchemaVersionsResponse,
+        final String identifier) {
+
+        if (!deleteSchemaVersionsResponse.hasSchemaVersionErrors()) {
+            return;
+        }
+        for (final SchemaVersionErrorItem error : deleteSchemaVersionsResponse.schemaVersionErrors()) {
+            if (error.errorDetails() == null || error.errorDetails().errorCode() == null) {
+                continue;
+            }
+            translateToCfnException(
+                GlueException
+                    .builder()
+                    .message(error.errorDetails().errorMessage())
+                    .awsErrorDetails(
+                        AwsErrorDetails
+                            .builder()
+                            .errorCode(error.errorDetails().errorCode())
+                            .errorMessage(error.errorDetails().errorMessage())
+                            .serviceName("Glue")
+                            .build()
+                    )
+                    .build(),
+                identifier
+            );
+        }
+    }
+
+    private boolean hasVersionCoordinates(final ResourceModel model) {
+        return model.getVersionNumber() != null
+            && model.getSchema() != null
+            && (model.getSchema().getSchemaArn() != null || model.getSchema().getSchemaName() != null);
+    }
+
+    /**
+     * HACK: We only have DeleteSchemaVersions API that takes
+     * schema version number as input. Resources created before VersionNumber was recorded
+     * need to fetch the version number first by using the versionId.
+     *
+     * @param getSchemaVersionRequest {@link GetSchemaVersionRequest}.
+     * @param client                  ProxyClient
+     * @return DeleteSchemaVersionsRequest
+     */
+    private DeleteSchemaVersionsRequest lookUpDeleteSchemaVersionRequest(
+        final GetSchemaVersionRequest getSchemaVersionRequest,
+        final ProxyClient<GlueClient> client,
+        final HandlerLogger logger) {
+
+        final GetSchemaVersionResponse getSchemaVersionResponse =
+            client.injectCredentialsAndInvokeV2(
+                getSchemaVersionRequest, client.client()::getSchemaVersion);
+
+        final Long versionNumber = getSchemaVersionResponse.versionNumber();
+
+        logger.log(
+            String.format(
+                "Fetched version number %s for %s [%s]",
+                versionNumber,
+                ResourceModel.TYPE_NAME,
+                getSchemaVersionRequest.schemaVersionId()
+            )
+        );
+
+        return deleteSchemaVersionRequest(
+            Schema
+                .builder()
+                .schemaArn(getSchemaVersionResponse.schemaArn())
+                .build(),
+            versionNumber
+        );
+    }
+
     private GetSchemaVersionRequest getSchemaVersionRequest(final ResourceModel model) {
         return GetSchemaVersionRequest
             .builder()
@@ -161,20 +233,25 @@ public class DeleteHandler extends BaseHandlerStd {
             .build();
     }
 
+    /**
+     * Glue identifies the schema either by its ARN or by its name and registry name, not by both.
+     */
     private DeleteSchemaVersionsRequest deleteSchemaVersionRequest(
         final Schema schemaId,
         final Long versionNumber) {
+        final SchemaId.Builder schemaIdBuilder = SchemaId.builder();
+        if (schemaId.getSchemaArn() != null) {
+            schemaIdBuilder.schemaArn(schemaId.getSchemaArn());
+        } else {
+            schemaIdBuilder
+                .schemaName(schemaId.getSchemaName())
+                .registryName(schemaId.getRegistryName());
+        }
+
         return DeleteSchemaVersionsRequest
             .builder()
             .versions(String.valueOf(versionNumber))
-            .schemaId(
-                SchemaId
-                    .builder()
-                    .schemaArn(schemaId.getSchemaArn())
-                    .schemaName(schemaId.getSchemaName())
-                    .registryName(schemaId.getRegistryName())
-                    .build()
-            )
+            .schemaId(schemaIdBuilder.build())
             .build();
     }
 }
@@ -0,0 +1,154 @@
+package software.amazon.glue.schemaversion;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.model.GlueException;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+import java.time.Instant;
+
+/**
+ * Encodes Glue calls as single-line JSON records and decodes them back into SDK objects.
+ *
+ * Requests and responses are written through their SDK builders, whose bean-style getters and
+ * setters cover every modeled member. Errors are written as type, error code, message and status.
+ */
+final class GlueTrafficCodec {
+    static final String OPERATION = "operation";
+    static final String START_MILLIS = "startMillis";
+    static final String LATENCY_MILLIS = "latencyMillis";
+    static final String REQUEST = "request";
+    static final String RESPONSE = "response";
+    static final String ERROR = "error";
+
+    private static final String MODEL_PACKAGE = GlueException.class.getPackage().getName();
+    private static final ObjectMapper MAPPER =
+        new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .registerModule(
+                new SimpleModule()
+                    .addSerializer(Instant.class, ToStringSerializer.instance)
+                    .addDeserializer(Instant.class, new InstantDeserializer()));
+
+    private GlueTrafficCodec() { }
+
+    static String operationName(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        return requestName.endsWith("Request")
+            ? requestName.substring(0, requestName.length() - "Request".length())
+            : requestName;
+    }
+
+    static String encode(
+        final AwsRequest request,
+        final AwsResponse response,
+        final AwsServiceException error,
+        final long startMillis,
+        final long latencyMillis) {
+
+        final ObjectNode record = MAPPER.createObjectNode();
+        record.put(OPERATION, operationName(request));
+        record.put(START_MILLIS, startMillis);
+        record.put(LATENCY_MILLIS, latencyMillis);
+        record.set(REQUEST, MAPPER.valueToTree(request.toBuilder()));
+        if (response != null) {
+            record.set(RESPONSE, MAPPER.valueToTree(response.toBuilder()));
+        }
+        if (error != null) {
+            final ObjectNode errorNode = record.putObject(ERROR);
+            errorNode.put("type", error.getClass().getSimpleName());
+            errorNode.put("message", error.getMessage());
+            errorNode.put("statusCode", error.statusCode());
+            if (error.awsErrorDetails() != null) {
+                errorNode.put("errorCode", error.awsErrorDetails().errorCode());
+            }
+        }
+        try {
+            return MAPPER.writeValueAsString(record);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode Glue call " + operationName(request), e);
+        }
+    }
+
+    static JsonNode decode(final String line) {
+        try {
+            return MAPPER.readTree(line);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed Glue traffic record: " + line, e);
+        }
+    }
+
+    static <ResponseT> ResponseT decodeResponse(
+        final JsonNode response,
+        final Class<ResponseT> responseClass) {
+        try {
+            final Class<?> builderClass = (Class<?>) responseClass.getMethod("serializableBuilderClass").invoke(null);
+            final SdkBuilder<?, ?> builder = (SdkBuilder<?, ?>) MAPPER.treeToValue(response, builderClass);
+            return responseClass.cast(builder.build());
+        } catch (final ReflectiveOperationException | JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not decode " + responseClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Rebuilds the modeled Glue exception when the recorded type is one, so handlers catching
+     * e.g. EntityNotFoundException behave as they did when the traffic was recorded.
+     */
+    static AwsServiceException decodeError(final JsonNode error) {
+        final String message = error.path("message").asText(null);
+        final AwsServiceException.Builder builder = errorBuilder(error.path("type").asText());
+        return builder
+            .message(message)
+            .statusCode(error.path("statusCode").asInt())
+            .awsErrorDetails(
+                AwsErrorDetails
+                    .builder()
+                    .errorCode(error.path("errorCode").asText(null))
+                    .errorMessage(message)
+                    .serviceName("Glue")
+                    .build())
+            .build();
+    }
+
+    private static AwsServiceException.Builder errorBuilder(final String type) {
+        try {
+            final Class<?> errorClass = Class.forName(MODEL_PACKAGE + "." + type);
+            if (AwsServiceException.class.isAssignableFrom(errorClass)) {
+                return (AwsServiceException.Builder) errorClass.getMethod("builder").invoke(null);
+            }
+        } catch (final ReflectiveOperationException e) {
+            //Not a modeled Glue exception, fall back to the generic one.
+        }
+        return AwsServiceException.builder();
+    }
+
+    private static final class InstantDeserializer extends FromStringDeserializer<Instant> {
+        private static final long serialVersionUID = 1L;
+
+        private InstantDeserializer() {
+            super(Instant.class);
+        }
+
+        @Override
+        protected Instant _deserialize(
+            final String value,
+            final DeserializationContext context) {
+            return Instant.parse(value);
+        }
+    }
+}
@@ -13,8 +13,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -22,23 +20,24 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
-        return proxy.initiate(
-            "AWS-Glue-SchemaVersion::Read",
-            proxyClient,
-            request.getDesiredResourceState(),
-            callbackContext)
+        return HandlerTracer.span("AWS-Glue-SchemaVersion::Read", () ->
+            proxy.initiate(
+                "AWS-Glue-SchemaVersion::Read",
+                proxyClient,
+                request.getDesiredResourceState(),
+                callbackContext)
 
-            .translateToServiceRequest(this::fromResourceModel)
-            .makeServiceCall(this::getSchemaVersion)
-            .done(response ->
-                ProgressEvent.defaultSuccessHandler(toResourceModel(response)));
+                .translateToServiceRequest(this::fromResourceModel)
+                .makeServiceCall((getSchemaVersionRequest, client) ->
+                    getSchemaVersion(getSchemaVersionRequest, client, logger))
+                .done(response ->
+                    ProgressEvent.defaultSuccessHandler(toResourceModel(response))));
     }
 
     private GetSchemaVersionResponse getSchemaVersion(
         final GetSchemaVersionRequest request,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         GetSchemaVersionResponse getSchemaVersionResponse = null;
         String identifier = "";
@@ -82,7 +81,12 @@ public class ReadHandler extends BaseHandlerStd {
             )
             .schemaDefinition(getSchemaVersionResponse.schemaDefinition())
             .versionId(getSchemaVersionResponse.schemaVersionId())
+            .versionNumber(toVersionNumber(getSchemaVersionResponse.versionNumber()))
             .build();
     }
 
+    private static Integer toVersionNumber(final Long versionNumber) {
+        return versionNumber == null ? null : Math.toIntExact(versionNumber);
+    }
+
 }
@@ -0,0 +1,152 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Retries Glue calls that fail with an error the {@link ErrorClassifier} considers retryable,
+ * using exponential backoff with full jitter, as long as the retry budget of the call lasts.
+ * Terminal errors and errors left after the last attempt are rethrown unchanged.
+ *
+ * Only reads and idempotent writes are retried on any retryable error. Other calls, such as
+ * CreateTrigger or RegisterSchemaVersion, may have taken effect before an internal error or a
+ * timeout, so they are only retried when throttled. The Glue client leaves service errors to this
+ * class (see ClientBuilder), so {@value #MAX_ATTEMPTS} is the total number of attempts.
+ */
+class RetryingProxyClient implements ProxyClient<GlueClient> {
+    static final int MAX_ATTEMPTS = 4;
+
+    private static final Duration BASE_DELAY = Duration.ofMillis(200L);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(3L);
+    private static final Duration DEFAULT_BUDGET = Duration.ofSeconds(10L);
+    private static final String OPERATION_TIMEOUT = "OperationTimeoutException";
+    private static final String[] READ_PREFIXES = {"Get", "BatchGet", "List", "Query"};
+    //RegisterSchemaVersion and DeleteSchemaVersions may have taken effect before failing.
+    private static final Set<Class<? extends AwsRequest>> IDEMPOTENT_WRITES = Collections.emptySet();
+
+    private final ProxyClient<GlueClient> delegate;
+    private final Duration budget;
+
+    RetryingProxyClient(final ProxyClient<GlueClient> delegate) {
+        this(delegate, DEFAULT_BUDGET);
+    }
+
+    RetryingProxyClient(
+        final ProxyClient<GlueClient> delegate,
+        final Duration budget) {
+        this.delegate = delegate;
+        this.budget = budget;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        final long deadline = System.currentTimeMillis() + budget.toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+            } catch (final AwsServiceException e) {
+                if (attempt >= MAX_ATTEMPTS || !isRetryable(request, e)) {
+                    throw e;
+                }
+                final long delay = jitteredDelay(attempt);
+                if (System.currentTimeMillis() + delay > deadline || !sleep(delay)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+        injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+        IterableT injectCredentialsAndInvokeIterableV2(
+        final RequestT request,
+        final Function<RequestT, IterableT> requestFunction) {
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+        injectCredentialsAndInvokeV2InputStream(
+        final RequestT request,
+        final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+        injectCredentialsAndInvokeV2Bytes(
+        final RequestT request,
+        final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public GlueClient client() {
+        return delegate.client();
+    }
+
+    static boolean isRetryable(
+        final AwsRequest request,
+        final AwsServiceException exception) {
+        final ErrorClassifier.Classification classification = ErrorClassifier.classify(exception);
+        if (isIdempotent(request)) {
+            return classification.isRetryable();
+        }
+        //Throttled calls were turned away before Glue acted on them. Timed out ones may not have been.
+        return classification.getHandlerErrorCode() == HandlerErrorCode.Throttling
+            && !OPERATION_TIMEOUT.equals(ErrorClassifier.errorCode(exception));
+    }
+
+    private static boolean isIdempotent(final AwsRequest request) {
+        if (IDEMPOTENT_WRITES.contains(request.getClass())) {
+            return true;
+        }
+        final String operation = request.getClass().getSimpleName();
+        for (final String prefix : READ_PREFIXES) {
+            if (operation.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long jitteredDelay(final int attempt) {
+        final long ceiling = Math.min(MAX_DELAY.toMillis(), BASE_DELAY.toMillis() << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static boolean sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package software.amazon.glue.schemaversion;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Keeps recently seen schema definitions outside of the heap, so that definitions of up to 170,000
+ * characters can be remembered without growing the heap of a small Lambda.
+ *
+ * Each definition is stored as UTF-8 bytes in its own direct buffer, indexed by the schema it
+ * belongs to and its SHA-256 fingerprint, and by its schema version ID. When the stored bytes
+ * exceed the limit, the least recently used definitions are evicted. Stored bytes are handed out
+ * as read-only views, so hashing and comparing them copies nothing, unless the store compresses
+ * definitions, in which case they are inflated on access.
+ */
+final class SchemaDefinitionStore {
+    private static final int MIN_COMPRESSED_LENGTH = 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long maxBytes;
+    private final boolean compress;
+
+    //Guarded by this. In access order, least recently used first.
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Entry> entriesByVersionId = new HashMap<>();
+    private long residentBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxBytes the most bytes of definitions to keep off the heap
+     * @param compress whether to deflate definitions that are large enough to benefit from it
+     */
+    SchemaDefinitionStore(final long maxBytes, final boolean compress) {
+        this.maxBytes = maxBytes;
+        this.compress = compress;
+    }
+
+    /**
+     * Stores the definition of a schema version, evicting the least recently used definitions
+     * if needed. Definitions larger than the whole store are not stored.
+     *
+     * @return the fingerprint of the definition.
+     */
+    synchronized String put(
+        final String schemaArn,
+        final String versionId,
+        final String definition) {
+
+        final ByteBuffer utf8 = encode(definition);
+        final String fingerprint = fingerprint(utf8);
+        final ByteBuffer stored = store(utf8);
+        if (stored.capacity() > maxBytes) {
+            return fingerprint;
+        }
+
+        remove(entries.get(new Key(schemaArn, fingerprint)));
+        remove(entriesByVersionId.get(versionId));
+
+        final Entry entry = new Entry(new Key(schemaArn, fingerprint), versionId, stored, utf8.remaining());
+        entries.put(entry.key, entry);
+        entriesByVersionId.put(versionId, entry);
+        residentBytes += stored.capacity();
+        evict();
+        return fingerprint;
+    }
+
+    /**
+     * Finds the version of the schema with exactly this definition. A matching fingerprint is
+     * confirmed by comparing the bytes, so a collision is never reported as a match.
+     */
+    synchronized Optional<String> findVersionId(
+        final String schemaArn,
+        final String definition) {
+
+        final ByteBuffer utf8 = encode(definition);
+        final Entry entry = entries.get(new Key(schemaArn, fingerprint(utf8)));
+        if (entry == null || !utf8.equals(read(entry))) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.versionId);
+    }
+
+    /**
+     * @return a read-only view of the UTF-8 bytes of the definition of the schema version.
+     */
+    synchronized Optional<ByteBuffer> getDefinitionBytes(final String versionId) {
+        final Entry entry = entriesByVersionId.get(versionId);
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        //Touch the entry so that it counts as recently used.
+        entries.get(entry.key);
+        return Optional.of(read(entry));
+    }
+
+    synchronized Optional<String> getDefinition(final String versionId) {
+        return getDefinitionBytes(versionId).map(bytes -> StandardCharsets.UTF_8.decode(bytes).toString());
+    }
+
+    /**
+     * @return the lowercase hex SHA-256 of the bytes, without consuming them.
+     */
+    static String fingerprint(final ByteBuffer utf8) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        digest.update(utf8.duplicate());
+
+        final byte[] hash = digest.digest();
+        final char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    static String fingerprint(final String definition) {
+        return fingerprint(encode(definition));
+    }
+
+    synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    synchronized long getEvictions() {
+        return evictions;
+    }
+
+    synchronized double getHitRate() {
+        return hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(
+            "%d definitions in %d of %d bytes off heap, %.2f hit rate, %d evicted.",
+            entries.size(),
+            residentBytes,
+            maxBytes,
+            getHitRate(),
+            evictions);
+    }
+
+    private void evict() {
+        final Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+        while (residentBytes > maxBytes && leastRecentlyUsed.hasNext()) {
+            final Entry entry = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            entriesByVersionId.remove(entry.versionId);
+            residentBytes -= entry.bytes.capacity();
+            evictions++;
+        }
+    }
+
+    private void remove(final Entry entry) {
+        if (entry != null) {
+            entries.remove(entry.key);
+            entriesByVersionId.remove(entry.versionId);
+            residentBytes -= entry.bytes.capacity();
+        }
+    }
+
+    /**
+     * Copies the bytes into a direct buffer of exactly their size, deflated if that makes them smaller.
+     */
+    private ByteBuffer store(final ByteBuffer utf8) {
+        ByteBuffer source = utf8.duplicate();
+        if (compress && utf8.remaining() >= MIN_COMPRESSED_LENGTH) {
+            final byte[] deflated = deflate(utf8);
+            if (deflated.length < utf8.remaining()) {
+                source = ByteBuffer.wrap(deflated);
+            }
+        }
+        final ByteBuffer stored = ByteBuffer.allocateDirect(source.remaining());
+        //Written through a duplicate so that the stored buffer stays positioned at its start.
+        stored.duplicate().put(source);
+        return stored;
+    }
+
+    private static ByteBuffer read(final Entry entry) {
+        if (!entry.isCompressed()) {
+            return entry.bytes.asReadOnlyBuffer();
+        }
+        return ByteBuffer.wrap(inflate(entry.bytes, entry.length)).asReadOnlyBuffer();
+    }
+
+    private static byte[] deflate(final ByteBuffer utf8) {
+        final byte[] input = new byte[utf8.remaining()];
+        utf8.duplicate().get(input);
+
+        final Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            final ByteArrayOutputStream deflated = new ByteArrayOutputStream(input.length / 4);
+            final byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                deflated.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return deflated.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final ByteBuffer stored, final int length) {
+        final byte[] input = new byte[stored.capacity()];
+        stored.duplicate().get(input);
+
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            final byte[] inflated = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                offset += inflater.inflate(inflated, offset, length - offset);
+            }
+            return inflated;
+        } catch (final DataFormatException e) {
+            throw new IllegalStateException("Stored schema definition is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static ByteBuffer encode(final String definition) {
+        return StandardCharsets.UTF_8.encode(CharBuffer.wrap(definition));
+    }
+
+    private static final class Key {
+        private final String schemaArn;
+        private final String fingerprint;
+
+        private Key(final String schemaArn, final String fingerprint) {
+            this.schemaArn = schemaArn;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return Objects.equals(schemaArn, key.schemaArn) && fingerprint.equals(key.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(schemaArn, fingerprint);
+        }
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final String versionId;
+        private final ByteBuffer bytes;
+        //Length of the definition in UTF-8, which differs from the stored bytes when compressed.
+        private final int length;
+
+        private Entry(
+            final Key key,
+            final String versionId,
+            final ByteBuffer bytes,
+            final int length) {
+            this.key = key;
+            this.versionId = versionId;
+            this.bytes = bytes;
+            this.length = length;
+        }
+
+        private boolean isCompressed() {
+            return bytes.capacity() != length;
+        }
+    }
+}
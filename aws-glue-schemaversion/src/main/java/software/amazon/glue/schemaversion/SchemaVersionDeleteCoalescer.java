@@ -0,0 +1,329 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionErrorItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
+
+/**
+ * Coalesces schema version deletions that arrive within a short window into a single
+ * DeleteSchemaVersions call per schema, using range notation such as "1-5,8".
+ *
+ * Per-version errors are reported back to the caller that requested that version, and the
+ * remaining versions of a group are stabilized together with ListSchemaVersions.
+ * Intended for long-lived processes such as warm containers or batch tools.
+ *
+ * The scheduler only keeps time. The blocking Glue calls of every flush and poll run on the
+ * worker pool, so a slow call for one schema doesn't hold back the windows of the others.
+ */
+public class SchemaVersionDeleteCoalescer implements AutoCloseable {
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(200L);
+    private static final Duration DEFAULT_POLL_DELAY = Duration.ofSeconds(4L);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(120L);
+    private static final int MAX_RESULTS = 100;
+    private static final String ENTITY_NOT_FOUND = "EntityNotFoundException";
+
+    private final ProxyClient<GlueClient> proxyClient;
+    private final Logger logger;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+    private final Duration window;
+    private final Duration pollDelay;
+    private final Duration timeout;
+
+    //Guarded by this.
+    private final Map<String, TreeMap<Long, CompletableFuture<Void>>> pending = new HashMap<>();
+
+    public SchemaVersionDeleteCoalescer(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+        this(proxyClient, logger, Executors.newSingleThreadScheduledExecutor(), Executors.newCachedThreadPool(),
+            DEFAULT_WINDOW, DEFAULT_POLL_DELAY, DEFAULT_TIMEOUT);
+    }
+
+    SchemaVersionDeleteCoalescer(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger,
+        final ScheduledExecutorService scheduler,
+        final ExecutorService workers,
+        final Duration window,
+        final Duration pollDelay,
+        final Duration timeout) {
+        this.proxyClient = proxyClient;
+        this.logger = logger;
+        this.scheduler = scheduler;
+        this.workers = workers;
+        this.window = window;
+        this.pollDelay = pollDelay;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Queues a version for deletion. The returned future completes once the version is gone,
+     * or exceptionally with the Cfn exception describing why it could not be deleted.
+     */
+    public synchronized CompletableFuture<Void> submit(
+        final String schemaArn,
+        final long versionNumber) {
+
+        TreeMap<Long, CompletableFuture<Void>> group = pending.get(schemaArn);
+        if (group == null) {
+            group = new TreeMap<>();
+            pending.put(schemaArn, group);
+            schedule(() -> flush(schemaArn), window);
+        }
+        return group.computeIfAbsent(versionNumber, key -> new CompletableFuture<>());
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void schedule(
+        final Runnable call,
+        final Duration delay) {
+        scheduler.schedule(() -> workers.execute(call), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void flush(final String schemaArn) {
+        final TreeMap<Long, CompletableFuture<Void>> group;
+        synchronized (this) {
+            group = pending.remove(schemaArn);
+        }
+
+        final SchemaId schemaId = SchemaId.builder().schemaArn(schemaArn).build();
+        final DeleteSchemaVersionsRequest deleteSchemaVersionsRequest =
+            DeleteSchemaVersionsRequest
+                .builder()
+                .schemaId(schemaId)
+                .versions(toVersionRanges(group.navigableKeySet()))
+                .build();
+
+        final DeleteSchemaVersionsResponse deleteSchemaVersionsResponse;
+        try {
+            deleteSchemaVersionsResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    deleteSchemaVersionsRequest,
+                    proxyClient.client()::deleteSchemaVersions
+                );
+        } catch (final AwsServiceException e) {
+            failAll(group, translate(e, schemaArn));
+            return;
+        } catch (final RuntimeException e) {
+            failAll(group, e);
+            return;
+        }
+
+        logger.log(
+            String.format(
+                "Requested to delete versions [%s] of %s in a single call.",
+                deleteSchemaVersionsRequest.versions(),
+                schemaArn
+            )
+        );
+
+        if (deleteSchemaVersionsResponse.hasSchemaVersionErrors()) {
+            for (final SchemaVersionErrorItem error : deleteSchemaVersionsResponse.schemaVersionErrors()) {
+                completeWithError(group, schemaArn, error);
+            }
+        }
+
+        final long deadline = System.currentTimeMillis() + timeout.toMillis();
+        schedule(() -> poll(schemaId, group, deadline), pollDelay);
+    }
+
+    private void completeWithError(
+        final TreeMap<Long, CompletableFuture<Void>> group,
+        final String schemaArn,
+        final SchemaVersionErrorItem error) {
+
+        final CompletableFuture<Void> future = group.get(error.versionNumber());
+        if (future == null || error.errorDetails() == null || error.errorDetails().errorCode() == null) {
+            return;
+        }
+        group.remove(error.versionNumber());
+
+        //Reported as NotFound, as DeleteHandler does, so a repeated delete fails the same way on both paths.
+        if (ENTITY_NOT_FOUND.equals(error.errorDetails().errorCode())) {
+            future.completeExceptionally(
+                new CfnNotFoundException(
+                    ResourceModel.TYPE_NAME,
+                    String.format("version %s of %s", error.versionNumber(), schemaArn)
+                )
+            );
+            return;
+        }
+        future.completeExceptionally(
+            new CfnGeneralServiceException(
+                String.format("Couldn't delete version %s of %s: %s %s",
+                    error.versionNumber(),
+                    schemaArn,
+                    error.errorDetails().errorCode(),
+                    error.errorDetails().errorMessage()
+                )
+            )
+        );
+    }
+
+    private void poll(
+        final SchemaId schemaId,
+        final TreeMap<Long, CompletableFuture<Void>> waiting,
+        final long deadline) {
+
+        if (waiting.isEmpty()) {
+            return;
+        }
+
+        final Set<Long> remaining;
+        try {
+            remaining = listVersionNumbers(schemaId);
+        } catch (final AwsServiceException e) {
+            failAll(waiting, translate(e, schemaId.schemaArn()));
+            return;
+        } catch (final RuntimeException e) {
+            failAll(waiting, e);
+            return;
+        }
+
+        final Iterator<Map.Entry<Long, CompletableFuture<Void>>> iterator = waiting.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Long, CompletableFuture<Void>> entry = iterator.next();
+            if (!remaining.contains(entry.getKey())) {
+                entry.getValue().complete(null);
+                iterator.remove();
+            }
+        }
+
+        if (waiting.isEmpty()) {
+            logger.log(String.format("All coalesced deletions of %s are stabilized.", schemaId.schemaArn()));
+            return;
+        }
+        if (System.currentTimeMillis() >= deadline) {
+            failAll(waiting, new CfnNotStabilizedException(ResourceModel.TYPE_NAME, schemaId.schemaArn()));
+            return;
+        }
+
+        logger.log(
+            String.format("%d coalesced deletions of %s are not stabilized yet.",
+                waiting.size(),
+                schemaId.schemaArn()
+            )
+        );
+        schedule(() -> poll(schemaId, waiting, deadline), pollDelay);
+    }
+
+    private Set<Long> listVersionNumbers(final SchemaId schemaId) {
+        final Set<Long> versionNumbers = new HashSet<>();
+        String nextToken = null;
+        do {
+            final ListSchemaVersionsRequest listSchemaVersionsRequest =
+                ListSchemaVersionsRequest
+                    .builder()
+                    .schemaId(schemaId)
+                    .maxResults(MAX_RESULTS)
+                    .nextToken(nextToken)
+                    .build();
+
+            final ListSchemaVersionsResponse listSchemaVersionsResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    listSchemaVersionsRequest,
+                    proxyClient.client()::listSchemaVersions
+                );
+
+            for (final SchemaVersionListItem version : listSchemaVersionsResponse.schemas()) {
+                versionNumbers.add(version.versionNumber());
+            }
+            nextToken = listSchemaVersionsResponse.nextToken();
+        } while (nextToken != null);
+
+        return versionNumbers;
+    }
+
+    private static RuntimeException translate(
+        final AwsServiceException exception,
+        final String identifier) {
+        try {
+            translateToCfnException(exception, identifier);
+        } catch (final RuntimeException e) {
+            return e;
+        }
+        return exception;
+    }
+
+    private static void failAll(
+        final Map<Long, CompletableFuture<Void>> group,
+        final Throwable cause) {
+        for (final CompletableFuture<Void> future : group.values()) {
+            future.completeExceptionally(cause);
+        }
+        group.clear();
+    }
+
+    /**
+     * Compresses sorted version numbers into the range notation DeleteSchemaVersions accepts,
+     * e.g. [1, 2, 3, 4, 5, 8] becomes "1-5,8".
+     */
+    static String toVersionRanges(final SortedSet<Long> versionNumbers) {
+        final StringBuilder ranges = new StringBuilder();
+        final Iterator<Long> iterator = versionNumbers.iterator();
+        if (!iterator.hasNext()) {
+            return "";
+        }
+
+        long start = iterator.next();
+        long end = start;
+        while (iterator.hasNext()) {
+            final long next = iterator.next();
+            if (next == end + 1) {
+                end = next;
+                continue;
+            }
+            appendRange(ranges, start, end);
+            start = next;
+            end = next;
+        }
+        appendRange(ranges, start, end);
+        return ranges.toString();
+    }
+
+    private static void appendRange(
+        final StringBuilder ranges,
+        final long start,
+        final long end) {
+        if (ranges.length() > 0) {
+            ranges.append(',');
+        }
+        ranges.append(start);
+        if (end > start) {
+            ranges.append('-').append(end);
+        }
+    }
+}
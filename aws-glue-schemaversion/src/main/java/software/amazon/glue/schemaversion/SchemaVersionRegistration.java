@@ -0,0 +1,133 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionResponse;
+import software.amazon.awssdk.services.glue.model.InvalidInputException;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Optional;
+
+import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
+
+/**
+ * The Glue calls and status rules behind registering one schema version, shared by the
+ * {@link CreateHandler} and the {@link BulkSchemaVersionRegistrar}.
+ */
+final class SchemaVersionRegistration {
+    private SchemaVersionRegistration() {
+    }
+
+    static RegisterSchemaVersionRequest toRegisterRequest(final ResourceModel resourceModel) {
+        final Schema schemaId = resourceModel.getSchema();
+
+        final String schemaArn = schemaId != null ? schemaId.getSchemaArn() : null;
+        final String schemaName = schemaId != null ? schemaId.getSchemaName() : null;
+        final String registryName = schemaId != null ? schemaId.getRegistryName() : null;
+
+        return
+            RegisterSchemaVersionRequest
+                .builder()
+                .schemaId(
+                    SchemaId
+                        .builder()
+                        .registryName(registryName)
+                        .schemaName(schemaName)
+                        .schemaArn(schemaArn)
+                        .build()
+                )
+                .schemaDefinition(resourceModel.getSchemaDefinition())
+                .build();
+    }
+
+    /**
+     * Even though, we cannot create the same schema version.
+     * This check is required to show consistent error messages to customers.
+     *
+     * @return Optional VersionId if it already exists. Absent otherwise.
+     */
+    static Optional<String> findExistingVersionId(
+        final ProxyClient<GlueClient> proxyClient,
+        final SchemaId schemaId,
+        final String schemaDefinition) {
+        final GetSchemaByDefinitionRequest getSchemaByDefinitionRequest =
+            GetSchemaByDefinitionRequest
+                .builder()
+                .schemaDefinition(schemaDefinition)
+                .schemaId(schemaId)
+                .build();
+        final GlueClient glueClient = proxyClient.client();
+
+        try {
+            GetSchemaByDefinitionResponse response =
+                proxyClient
+                    .injectCredentialsAndInvokeV2(getSchemaByDefinitionRequest, glueClient::getSchemaByDefinition);
+            return Optional.of(response.schemaVersionId());
+        } catch (EntityNotFoundException e) {
+            return Optional.empty();
+        } catch (InvalidInputException e) {
+            throw new CfnInvalidRequestException(String.valueOf(schemaId), e);
+        } catch (AwsServiceException e) {
+            throw
+                new CfnGeneralServiceException(
+                    String.format("Error determining pre-existence of schema version: %s", e.getMessage())
+                );
+        }
+    }
+
+    static RegisterSchemaVersionResponse register(
+        final ProxyClient<GlueClient> proxyClient,
+        final RegisterSchemaVersionRequest registerSchemaVersionRequest) {
+
+        RegisterSchemaVersionResponse registerSchemaVersionResponse = null;
+        try {
+            registerSchemaVersionResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    registerSchemaVersionRequest,
+                    proxyClient.client()::registerSchemaVersion
+                );
+        } catch (final AwsServiceException e) {
+            final SchemaId schemaId = registerSchemaVersionRequest.schemaId();
+            final String identifier = schemaId == null ? null : schemaId.toString();
+            translateToCfnException(e, identifier);
+        }
+        return registerSchemaVersionResponse;
+    }
+
+    /**
+     * @return true once the version is AVAILABLE, false while it is PENDING.
+     * @throws software.amazon.cloudformation.exceptions.BaseHandlerException for any other status.
+     */
+    static boolean isRegistered(
+        final SchemaVersionStatus status,
+        final String versionId) {
+
+        switch (status) {
+            case AVAILABLE:
+                return true;
+            case PENDING:
+                return false;
+            case FAILURE:
+                throw new CfnGeneralServiceException(
+                    String.format("Couldn't create %s due to schema evolution failure", ResourceModel.TYPE_NAME));
+            case DELETING:
+                throw new CfnResourceConflictException(
+                    ResourceModel.TYPE_NAME,
+                    versionId,
+                    String.format("Another process is deleting this %s", ResourceModel.TYPE_NAME));
+            default:
+                throw new CfnGeneralServiceException(
+                    String
+                        .format("%s creation request accepted but current status is unknown", ResourceModel.TYPE_NAME));
+        }
+    }
+}
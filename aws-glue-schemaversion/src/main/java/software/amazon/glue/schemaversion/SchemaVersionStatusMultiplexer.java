@@ -0,0 +1,203 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
+
+/**
+ * Shares one ListSchemaVersions poll loop per schema between everyone waiting for versions of
+ * that schema to finish registering, instead of polling GetSchemaVersion once per version.
+ *
+ * A waiter completes with the version's status as soon as it leaves PENDING, normally
+ * AVAILABLE or FAILURE. The loop for a schema stops once nobody is waiting on it.
+ */
+public class SchemaVersionStatusMultiplexer implements AutoCloseable {
+    private static final Duration DEFAULT_POLL_DELAY = Duration.ofSeconds(3L);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(120L);
+    private static final int MAX_RESULTS = 100;
+
+    private final ProxyClient<GlueClient> proxyClient;
+    private final Logger logger;
+    private final ScheduledExecutorService scheduler;
+    private final Duration pollDelay;
+    private final Duration timeout;
+
+    //Guarded by this. Keyed by schemaArn, then by schemaVersionId.
+    private final Map<String, Map<String, Waiter>> waiters = new HashMap<>();
+
+    public SchemaVersionStatusMultiplexer(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+        this(proxyClient, logger, Executors.newSingleThreadScheduledExecutor(), DEFAULT_POLL_DELAY, DEFAULT_TIMEOUT);
+    }
+
+    SchemaVersionStatusMultiplexer(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger,
+        final ScheduledExecutorService scheduler,
+        final Duration pollDelay,
+        final Duration timeout) {
+        this.proxyClient = proxyClient;
+        this.logger = logger;
+        this.scheduler = scheduler;
+        this.pollDelay = pollDelay;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return future completed with the first non-PENDING status of the version, or exceptionally
+     * with {@link CfnNotStabilizedException} if it is still PENDING when the timeout elapses.
+     */
+    public synchronized CompletableFuture<SchemaVersionStatus> await(
+        final String schemaArn,
+        final String schemaVersionId) {
+
+        Map<String, Waiter> schemaWaiters = waiters.get(schemaArn);
+        if (schemaWaiters == null) {
+            schemaWaiters = new HashMap<>();
+            waiters.put(schemaArn, schemaWaiters);
+            schedulePoll(schemaArn);
+        }
+
+        Waiter waiter = schemaWaiters.get(schemaVersionId);
+        if (waiter == null) {
+            waiter = new Waiter(System.currentTimeMillis() + timeout.toMillis());
+            schemaWaiters.put(schemaVersionId, waiter);
+        }
+        return waiter.future;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void schedulePoll(final String schemaArn) {
+        scheduler.schedule(() -> poll(schemaArn), pollDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(final String schemaArn) {
+        final SchemaId schemaId = SchemaId.builder().schemaArn(schemaArn).build();
+        String nextToken = null;
+        int polledVersions = 0;
+
+        try {
+            do {
+                final ListSchemaVersionsResponse listSchemaVersionsResponse = listSchemaVersions(schemaId, nextToken);
+                for (final SchemaVersionListItem version : listSchemaVersionsResponse.schemas()) {
+                    resolve(schemaArn, version);
+                }
+                polledVersions += listSchemaVersionsResponse.schemas().size();
+                nextToken = listSchemaVersionsResponse.nextToken();
+            } while (nextToken != null && hasWaiters(schemaArn));
+        } catch (final RuntimeException e) {
+            failAll(schemaArn, e);
+            return;
+        }
+
+        synchronized (this) {
+            final Map<String, Waiter> schemaWaiters = waiters.get(schemaArn);
+            final long now = System.currentTimeMillis();
+            final Iterator<Waiter> iterator = schemaWaiters.values().iterator();
+            while (iterator.hasNext()) {
+                final Waiter waiter = iterator.next();
+                if (now >= waiter.deadline) {
+                    waiter.future.completeExceptionally(
+                        new CfnNotStabilizedException(ResourceModel.TYPE_NAME, schemaArn));
+                    iterator.remove();
+                }
+            }
+
+            if (schemaWaiters.isEmpty()) {
+                waiters.remove(schemaArn);
+                return;
+            }
+
+            logger.log(
+                String.format("%d versions of %s are still registering after polling %d versions.",
+                    schemaWaiters.size(),
+                    schemaArn,
+                    polledVersions
+                )
+            );
+            schedulePoll(schemaArn);
+        }
+    }
+
+    private ListSchemaVersionsResponse listSchemaVersions(
+        final SchemaId schemaId,
+        final String nextToken) {
+
+        final ListSchemaVersionsRequest listSchemaVersionsRequest =
+            ListSchemaVersionsRequest
+                .builder()
+                .schemaId(schemaId)
+                .maxResults(MAX_RESULTS)
+                .nextToken(nextToken)
+                .build();
+
+        ListSchemaVersionsResponse listSchemaVersionsResponse = null;
+        try {
+            listSchemaVersionsResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    listSchemaVersionsRequest,
+                    proxyClient.client()::listSchemaVersions
+                );
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, schemaId.schemaArn());
+        }
+        return listSchemaVersionsResponse;
+    }
+
+    private synchronized void resolve(
+        final String schemaArn,
+        final SchemaVersionListItem version) {
+
+        if (version.status() == null || version.status() == SchemaVersionStatus.PENDING) {
+            return;
+        }
+        final Waiter waiter = waiters.get(schemaArn).remove(version.schemaVersionId());
+        if (waiter != null) {
+            waiter.future.complete(version.status());
+        }
+    }
+
+    private synchronized boolean hasWaiters(final String schemaArn) {
+        return !waiters.get(schemaArn).isEmpty();
+    }
+
+    private synchronized void failAll(
+        final String schemaArn,
+        final Throwable cause) {
+        for (final Waiter waiter : waiters.remove(schemaArn).values()) {
+            waiter.future.completeExceptionally(cause);
+        }
+    }
+
+    private static final class Waiter {
+        private final CompletableFuture<SchemaVersionStatus> future = new CompletableFuture<>();
+        private final long deadline;
+
+        private Waiter(final long deadline) {
+            this.deadline = deadline;
+        }
+    }
+}
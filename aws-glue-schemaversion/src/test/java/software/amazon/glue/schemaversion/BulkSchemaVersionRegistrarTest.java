@@ -0,0 +1,160 @@
+package software.amazon.glue.schemaversion;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkSchemaVersionRegistrarTest extends AbstractTestBase {
+    private FakeSchemaRegistryClient registry;
+    private BulkSchemaVersionRegistrar registrar;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setup() {
+        registry = FakeSchemaRegistryClient.create();
+        final ProxyClient<GlueClient> proxyClient = new BulkSchemaVersionRegistrar.SdkProxyClient(registry.client());
+        registrar = new BulkSchemaVersionRegistrar(
+            proxyClient,
+            logger,
+            Executors.newFixedThreadPool(4),
+            new SchemaVersionStatusMultiplexer(
+                proxyClient,
+                logger,
+                Executors.newSingleThreadScheduledExecutor(),
+                Duration.ofMillis(20L),
+                Duration.ofSeconds(30L)
+            )
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        registrar.close();
+    }
+
+    @Test
+    public void register_WhenSchemasHaveSeveralVersions_RegistersEachSchemaInManifestOrder() {
+        final List<ResourceModel> manifest = new ArrayList<>();
+        for (int version = 1; version <= 3; version++) {
+            manifest.add(TestData.byArn(TestData.SCHEMA_ARN_1, TestData.definition(version)));
+            manifest.add(TestData.byName(TestData.SCHEMA_NAME_2, TestData.definition(version)));
+        }
+
+        final BulkSchemaVersionRegistrar.Report report = registrar.register(manifest);
+
+        assertThat(report.getRegistered()).isEqualTo(6L);
+        assertThat(report.getFailed()).isEqualTo(0L);
+        assertThat(report.getVersionsPerSecond()).isPositive();
+        assertThat(registry.registeredDefinitions(TestData.SCHEMA_ARN_1))
+            .containsExactly(TestData.definition(1), TestData.definition(2), TestData.definition(3));
+        assertThat(registry.registeredDefinitions(TestData.SCHEMA_ARN_2))
+            .containsExactly(TestData.definition(1), TestData.definition(2), TestData.definition(3));
+        assertThat(report.getResults().get(0).getVersionId()).isNotNull();
+    }
+
+    @Test
+    public void register_WhenVersionFails_SkipsRestOfThatSchemaOnly() {
+        final List<ResourceModel> manifest = ImmutableList.of(
+            TestData.byArn(TestData.SCHEMA_ARN_1, TestData.definition(1)),
+            TestData.byArn(TestData.SCHEMA_ARN_1, FakeSchemaRegistryClient.INCOMPATIBLE),
+            TestData.byArn(TestData.SCHEMA_ARN_1, TestData.definition(3)),
+            TestData.byArn(TestData.SCHEMA_ARN_2, TestData.definition(1))
+        );
+
+        final BulkSchemaVersionRegistrar.Report report = registrar.register(manifest);
+
+        assertThat(outcomes(report)).containsExactly(
+            BulkSchemaVersionRegistrar.Result.Outcome.REGISTERED,
+            BulkSchemaVersionRegistrar.Result.Outcome.FAILED,
+            BulkSchemaVersionRegistrar.Result.Outcome.SKIPPED,
+            BulkSchemaVersionRegistrar.Result.Outcome.REGISTERED);
+        assertThat(report.getResults().get(1).getMessage()).contains("schema evolution failure");
+        assertThat(report.getFailed()).isEqualTo(2L);
+        assertThat(report.toString()).contains("2 registered, 0 existing, 1 failed, 1 skipped");
+    }
+
+    @Test
+    public void register_WhenDefinitionIsAlreadyRegistered_ReportsExistingVersion() {
+        final ResourceModel model = TestData.byArn(TestData.SCHEMA_ARN_1, TestData.definition(1));
+        final String versionId = registrar.register(ImmutableList.of(model)).getResults().get(0).getVersionId();
+
+        final BulkSchemaVersionRegistrar.Report report = registrar.register(ImmutableList.of(model));
+
+        assertThat(report.getResults().get(0).getOutcome()).isEqualTo(BulkSchemaVersionRegistrar.Result.Outcome.EXISTING);
+        assertThat(report.getResults().get(0).getVersionId()).isEqualTo(versionId);
+        assertThat(registry.registeredDefinitions(TestData.SCHEMA_ARN_1)).hasSize(1);
+    }
+
+    @Test
+    public void readManifest_ReadsOneResourceModelPerLine() throws IOException {
+        final Path manifest = tempDir.resolve("manifest.ndjson");
+        Files.write(manifest, ImmutableList.of(
+            "{\"Schema\":{\"SchemaArn\":\"" + TestData.SCHEMA_ARN_1 + "\"},\"SchemaDefinition\":\"{}\"}",
+            "",
+            "{\"Schema\":{\"RegistryName\":\"registry\",\"SchemaName\":\"schema\"},\"SchemaDefinition\":\"{}\"}"
+        ), StandardCharsets.UTF_8);
+
+        final List<ResourceModel> models = BulkSchemaVersionRegistrar.readManifest(manifest.toString());
+
+        assertThat(models).hasSize(2);
+        assertThat(models.get(0).getSchema().getSchemaArn()).isEqualTo(TestData.SCHEMA_ARN_1);
+        assertThat(models.get(1).getSchema().getSchemaName()).isEqualTo("schema");
+    }
+
+    private static List<BulkSchemaVersionRegistrar.Result.Outcome> outcomes(
+        final BulkSchemaVersionRegistrar.Report report) {
+        final List<BulkSchemaVersionRegistrar.Result.Outcome> outcomes = new ArrayList<>();
+        for (final BulkSchemaVersionRegistrar.Result result : report.getResults()) {
+            outcomes.add(result.getOutcome());
+        }
+        return outcomes;
+    }
+
+    private static class TestData {
+        private static final String REGISTRY_NAME = "unit-testing-registry";
+        private static final String SCHEMA_ARN_1 =
+            "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema-1";
+        private static final String SCHEMA_NAME_2 = "unit-testing-schema-2";
+        private static final String SCHEMA_ARN_2 =
+            "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema-2";
+
+        private static String definition(final int version) {
+            return "{\"type\":\"record\",\"name\":\"Test\",\"fields\":[],\"doc\":\"v" + version + "\"}";
+        }
+
+        private static ResourceModel byArn(
+            final String schemaArn,
+            final String definition) {
+            return ResourceModel.builder()
+                .schema(Schema.builder().schemaArn(schemaArn).build())
+                .schemaDefinition(definition)
+                .build();
+        }
+
+        private static ResourceModel byName(
+            final String schemaName,
+            final String definition) {
+            return ResourceModel.builder()
+                .schema(Schema.builder().registryName(REGISTRY_NAME).schemaName(schemaName).build())
+                .schemaDefinition(definition)
+                .build();
+        }
+    }
+}
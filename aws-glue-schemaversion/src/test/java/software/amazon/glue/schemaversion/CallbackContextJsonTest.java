@@ -0,0 +1,142 @@
+package software.amazon.glue.schemaversion;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallbackContextJsonTest extends AbstractTestBase {
+    private static final TypeReference<CallbackContext> CALLBACK_CONTEXT =
+        new TypeReference<CallbackContext>() {
+        };
+
+    private final Serializer serializer = new Serializer();
+
+    @Test
+    public void serialize_WhenCallGraphIsRecorded_RoundTripsThroughWrapperSerializer() throws Exception {
+        final AmazonWebServicesClientProxy proxy = getAmazonWebServicesClientProxy();
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress =
+            new CreateHandler(TestData.CALLBACK_ONLY_SCHEDULER, false).handleRequest(
+                proxy,
+                TestData.REQUEST,
+                new CallbackContext(),
+                MOCK_PROXY(proxy, FakeSchemaRegistryClient.create().client()),
+                logger);
+        final CallbackContext callbackContext = inProgress.getCallbackContext();
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(callbackContext.callGraphs()).isNotEmpty();
+
+        final String json = serializer.serialize(callbackContext);
+        final CallbackContext deserialized = serializer.deserialize(json, CALLBACK_CONTEXT);
+
+        assertThat(json).contains("\"stabilizationAttempts\":");
+        assertThat(deserialized).isEqualTo(callbackContext);
+        assertThat(serializer.serialize(deserialized)).isEqualTo(json);
+    }
+
+    @Test
+    public void serialize_WhenPayloadIsSlim_RoundTripsOnlyVersionAndFingerprint() throws Exception {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setStabilizationStartTime(1_700_000_000_000L);
+        callbackContext.setStabilizationAttempts(4);
+        callbackContext.setRegisteredVersionId(TestData.VERSION_ID);
+        callbackContext.setDefinitionFingerprint(SchemaDefinitionStore.fingerprint(TestData.DEFINITION));
+        callbackContext.setSampledLogLines(12);
+
+        final CallbackContext deserialized =
+            serializer.deserialize(serializer.serialize(callbackContext), CALLBACK_CONTEXT);
+
+        assertThat(deserialized).isEqualTo(callbackContext);
+        assertThat(deserialized.callGraphs()).isEmpty();
+    }
+
+    @Test
+    public void deserialize_WhenWrittenByBeanSerializer_ReadsEveryField() throws Exception {
+        //The shape callbacks in flight were serialized in before the hand-written serializer.
+        final String beanJson = "{\"stabilizationStartTime\":null,\"stabilizationAttempts\":2,"
+            + "\"registeredVersionId\":\"" + TestData.VERSION_ID + "\",\"definitionFingerprint\":null,"
+            + "\"unknownProperty\":{\"nested\":[1,2,3]}}";
+
+        final CallbackContext deserialized = serializer.deserialize(beanJson, CALLBACK_CONTEXT);
+
+        assertThat(deserialized.getStabilizationStartTime()).isNull();
+        assertThat(deserialized.getStabilizationAttempts()).isEqualTo(2);
+        assertThat(deserialized.getRegisteredVersionId()).isEqualTo(TestData.VERSION_ID);
+        assertThat(deserialized.getDefinitionFingerprint()).isNull();
+    }
+
+    @Test
+    public void serialize_WhenEveryFieldIsSet_RoundTripsEachField() throws Exception {
+        //Fails when a field added to CallbackContext is left out of either side of CallbackContextJson.
+        final CallbackContext callbackContext = new CallbackContext();
+        int value = 1;
+        for (final Field field : TestData.contextFields()) {
+            field.set(callbackContext, TestData.nonDefaultValue(field, value++));
+        }
+
+        final String json = serializer.serialize(callbackContext);
+        final CallbackContext deserialized = serializer.deserialize(json, CALLBACK_CONTEXT);
+
+        for (final Field field : TestData.contextFields()) {
+            assertThat(json).as("written %s", field.getName()).contains("\"" + field.getName() + "\":");
+            assertThat(field.get(deserialized)).as("read %s", field.getName()).isEqualTo(field.get(callbackContext));
+        }
+        assertThat(deserialized).isEqualTo(callbackContext);
+    }
+
+    private static class TestData {
+        private static final String DEFINITION = "{\"type\":\"record\",\"name\":\"Orders\",\"fields\":[]}";
+        private static final String VERSION_ID = "b7b4a7f0-9c61-11ea-bb37-0242ac130002";
+        private static final String SCHEMA_ARN = "arn:aws:glue:us-east-1:123456789:schema/registry/orders";
+
+        //Hands every wait back to CloudFormation, so a PENDING version returns IN_PROGRESS at once.
+        private static final StabilizationScheduler CALLBACK_ONLY_SCHEDULER =
+            new StabilizationScheduler(Duration.ofSeconds(3L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO);
+
+        private static final ResourceHandlerRequest<ResourceModel> REQUEST =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                    .schema(Schema.builder().schemaArn(SCHEMA_ARN).build())
+                    .schemaDefinition(DEFINITION)
+                    .build())
+                .build();
+
+        private static List<Field> contextFields() {
+            final List<Field> fields = new ArrayList<>();
+            for (final Field field : CallbackContext.class.getDeclaredFields()) {
+                if (!field.isSynthetic() && !Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+
+        private static Object nonDefaultValue(
+            final Field field,
+            final int value) {
+            final Class<?> type = field.getType();
+            if (type == Long.class || type == long.class) {
+                return (long) value;
+            }
+            if (type == Integer.class || type == int.class) {
+                return value;
+            }
+            if (type == String.class) {
+                return field.getName() + "-" + value;
+            }
+            throw new AssertionError("No test value for " + field.getName() + " of " + type.getName());
+        }
+    }
+}
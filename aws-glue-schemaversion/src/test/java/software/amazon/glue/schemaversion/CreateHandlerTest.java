@@ -32,11 +32,16 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
 
+import java.time.Duration;
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.services.glue.model.SchemaVersionStatus.AVAILABLE;
 import static software.amazon.awssdk.services.glue.model.SchemaVersionStatus.DELETING;
@@ -177,6 +182,91 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_WhenSlimmingCallbackPayload_KeepsOnlyFingerprintWhileStabilizing() throws Exception {
+        handler = new CreateHandler(TestData.CALLBACK_ONLY_SCHEDULER, true);
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_BY_DEFINITION_REQUEST_BY_ARN, glueClient::getSchemaByDefinition))
+            .thenThrow(EntityNotFoundException.class);
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN, glueClient::registerSchemaVersion))
+            .thenReturn(TestData.getRegisterSchemaVersionResponseWithStatus(PENDING));
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
+            .thenReturn(TestData.getSchemaVersionResponseWithStatus(PENDING));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy,
+                TestData.requestByArn(TestData.SCHEMA_DEFINITION, null),
+                new CallbackContext(),
+                proxyClient,
+                logger
+            );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getResourceModel().getSchemaDefinition()).isNull();
+        assertThat(response.getResourceModel().getVersionId()).isEqualTo(TestData.NEXT_SCHEMA_VERSION_ID);
+        assertThat(response.getCallbackContext().getRegisteredVersionId()).isEqualTo(TestData.NEXT_SCHEMA_VERSION_ID);
+        assertThat(response.getCallbackContext().getDefinitionFingerprint())
+            .isEqualTo(SchemaDefinitionStore.fingerprint(TestData.SCHEMA_DEFINITION));
+        assertThat(new Serializer().serialize(response)).doesNotContain("md5");
+    }
+
+    @Test
+    public void handleRequest_WhenCalledBackWithSlimPayload_RestoresDefinitionWithoutRegisteringAgain() {
+        handler = new CreateHandler(TestData.CALLBACK_ONLY_SCHEDULER, true);
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
+            .thenReturn(
+                TestData.getSchemaVersionResponseWithStatus(AVAILABLE),
+                //From ReadHandler.
+                TestData.getSchemaVersionResponseWithStatus(AVAILABLE)
+            );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy,
+                TestData.requestByArn(null, TestData.NEXT_SCHEMA_VERSION_ID),
+                TestData.slimCallbackContext(TestData.SCHEMA_DEFINITION),
+                proxyClient,
+                logger
+            );
+
+        verify(glueClient, never()).registerSchemaVersion(any(RegisterSchemaVersionRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_VERSION_RESPONSE_RESOURCE_MODEL);
+    }
+
+    @Test
+    public void handleRequest_WhenRestoredDefinitionDiffersFromRegistered_StillReturnsReadModel() {
+        handler = new CreateHandler(TestData.CALLBACK_ONLY_SCHEDULER, true);
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
+            .thenReturn(
+                TestData.getSchemaVersionResponseWithStatus(AVAILABLE),
+                //From ReadHandler.
+                TestData.getSchemaVersionResponseWithStatus(AVAILABLE)
+            );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy,
+                TestData.requestByArn(null, TestData.NEXT_SCHEMA_VERSION_ID),
+                TestData.slimCallbackContext("{\"type\": \"string\"}"),
+                proxyClient,
+                logger
+            );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getSchemaDefinition()).isEqualTo(TestData.SCHEMA_DEFINITION);
+    }
+
     @Test
     public void handleRequest_WhenSchemaEvolutionFails_ThrowsException() {
 
@@ -526,6 +616,41 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(RESOURCE_MODEL_FOR_VERSION_UPDATE_BY_ARN)
                 .build();
 
+        //Hands every wait back to CloudFormation, so a PENDING version returns IN_PROGRESS at once.
+        public static final StabilizationScheduler CALLBACK_ONLY_SCHEDULER =
+            new StabilizationScheduler(
+                Duration.ofSeconds(3L),
+                Duration.ofSeconds(120L),
+                Duration.ZERO,
+                Duration.ZERO);
+
+        //A fresh model per request, since the handler updates the desired state in place.
+        public static ResourceHandlerRequest<ResourceModel> requestByArn(
+            final String schemaDefinition,
+            final String versionId) {
+            return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .schema(
+                            Schema
+                                .builder()
+                                .schemaArn(SCHEMA_ARN)
+                                .build()
+                        )
+                        .schemaDefinition(schemaDefinition)
+                        .versionId(versionId)
+                        .build())
+                .build();
+        }
+
+        public static CallbackContext slimCallbackContext(final String registeredDefinition) {
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setRegisteredVersionId(NEXT_SCHEMA_VERSION_ID);
+            callbackContext.setDefinitionFingerprint(SchemaDefinitionStore.fingerprint(registeredDefinition));
+            return callbackContext;
+        }
+
         public static final RegisterSchemaVersionRequest REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN =
             RegisterSchemaVersionRequest
                 .builder()
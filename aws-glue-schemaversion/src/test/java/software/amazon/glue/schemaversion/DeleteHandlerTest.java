@@ -18,14 +18,22 @@ import software.amazon.awssdk.services.glue.model.SchemaVersionErrorItem;
 import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -77,6 +85,98 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_WhenVersionNumberIsRecorded_SkipsVersionLookup() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(TestData.DELETE_SCHEMA_VERSIONS_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        ).thenThrow(EntityNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST_WITH_VERSION_NUMBER,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        //Only the stabilization check reads the schema version.
+        verify(glueClient, times(1)).getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenSchemaHasArnAndNames_IdentifiesSchemaByArnOnly() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(TestData.DELETE_SCHEMA_VERSIONS_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        ).thenThrow(EntityNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.request(
+                Schema
+                    .builder()
+                    .schemaArn(TestData.SCHEMA_ARN)
+                    .schemaName(TestData.SCHEMA_NAME)
+                    .registryName(TestData.REGISTRY_NAME)
+                    .build()),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient).deleteSchemaVersions(TestData.DELETE_SCHEMA_VERSION_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenSchemaHasNoArn_IdentifiesSchemaByNames() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_BY_NAME_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(TestData.DELETE_SCHEMA_VERSIONS_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        ).thenThrow(EntityNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.request(
+                Schema
+                    .builder()
+                    .schemaName(TestData.SCHEMA_NAME)
+                    .registryName(TestData.REGISTRY_NAME)
+                    .build()),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient).deleteSchemaVersions(TestData.DELETE_SCHEMA_VERSION_BY_NAME_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenVersionNumberIsRecordedAndVersionIsGone_ThrowsNotFound() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(TestData.DELETE_SCHEMA_VERSIONS_NOT_FOUND_RESPONSE);
+
+        assertThrows(
+            CfnNotFoundException.class,
+            () -> handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST_WITH_VERSION_NUMBER,
+                new CallbackContext(), proxyClient, logger)
+        );
+        verify(glueClient, never()).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
     @Test
     public void handleRequest_WhenDeleteSchemaSucceedsAndStabilizationFails_ThrowsException() {
         when(proxyClient.injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST,
@@ -124,8 +224,61 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .contains("Invalid Schema");
     }
 
+    @Test
+    public void handleRequest_WhenStabilizationWaitExceedsInProcessThreshold_ReturnsInProgressAndResumes() {
+        handler = new DeleteHandler(new StabilizationScheduler(Duration.ofSeconds(30L), Duration.ofSeconds(120L)));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(TestData.DELETE_SCHEMA_VERSIONS_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        )
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE)
+            .thenThrow(EntityNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST_WITH_VERSION_NUMBER, new CallbackContext(), proxyClient, logger);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(inProgress.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(inProgress.getCallbackContext().getStabilizationStartTime()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST_WITH_VERSION_NUMBER, inProgress.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        //The delete call is not repeated on callback.
+        verify(glueClient, times(1)).deleteSchemaVersions(TestData.DELETE_SCHEMA_VERSION_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenStabilizationTimesOut_ThrowsException() {
+        handler = new DeleteHandler(new StabilizationScheduler(Duration.ofSeconds(4L), Duration.ZERO));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(TestData.DELETE_SCHEMA_VERSIONS_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        ).thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+
+        assertThrows(
+            CfnNotStabilizedException.class,
+            () -> handler
+                .handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST_WITH_VERSION_NUMBER, new CallbackContext(), proxyClient, logger));
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
+        public final static String SCHEMA_NAME = "unit-testing-schema";
         public final static String SCHEMA_ARN =
             "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
         private static final Long VERSION_NUMBER = 2L;
@@ -141,6 +294,18 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .versions(VERSION_NUMBER.toString())
                 .build();
 
+        public final static DeleteSchemaVersionsRequest DELETE_SCHEMA_VERSION_BY_NAME_REQUEST =
+            DeleteSchemaVersionsRequest
+                .builder()
+                .schemaId(software.amazon.awssdk.services.glue.model.SchemaId
+                    .builder()
+                    .schemaName(SCHEMA_NAME)
+                    .registryName(REGISTRY_NAME)
+                    .build()
+                )
+                .versions(VERSION_NUMBER.toString())
+                .build();
+
         public final static DeleteSchemaVersionsResponse DELETE_SCHEMA_VERSIONS_RESPONSE =
             DeleteSchemaVersionsResponse.builder()
                 .schemaVersionErrors(
@@ -153,6 +318,21 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 )
                 .build();
 
+        public final static DeleteSchemaVersionsResponse DELETE_SCHEMA_VERSIONS_NOT_FOUND_RESPONSE =
+            DeleteSchemaVersionsResponse.builder()
+                .schemaVersionErrors(
+                    SchemaVersionErrorItem
+                        .builder()
+                        .versionNumber(VERSION_NUMBER)
+                        .errorDetails(ErrorDetails
+                            .builder()
+                            .errorCode("EntityNotFoundException")
+                            .errorMessage("Schema version is not found.")
+                            .build())
+                        .build()
+                )
+                .build();
+
         private static final String VERSION_ID = "6eff3f2b-89c0-40ea-a268-9eb34b9cdd2d";
 
         public final static GetSchemaVersionRequest GET_SCHEMA_VERSION_REQUEST =
@@ -178,6 +358,36 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .desiredResourceState(RESOURCE_MODEL)
                 .build();
 
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITH_VERSION_NUMBER =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .versionId(TestData.VERSION_ID)
+                        .versionNumber(VERSION_NUMBER.intValue())
+                        .schema(
+                            Schema
+                                .builder()
+                                .schemaArn(SCHEMA_ARN)
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+
+        private static ResourceHandlerRequest<ResourceModel> request(final Schema schema) {
+            return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .versionId(TestData.VERSION_ID)
+                        .versionNumber(VERSION_NUMBER.intValue())
+                        .schema(schema)
+                        .build()
+                )
+                .build();
+        }
+
         public static final GetSchemaVersionResponse GET_SCHEMA_VERSION_RESPONSE =
             GetSchemaVersionResponse
                 .builder()
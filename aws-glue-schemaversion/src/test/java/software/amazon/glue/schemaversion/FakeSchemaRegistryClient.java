@@ -0,0 +1,178 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory Schema Registry behind a GlueClient, enough to register schema versions locally.
+ *
+ * A registered version stays PENDING until the next ListSchemaVersions of its schema, which
+ * settles it as AVAILABLE, or as FAILURE when its definition contains {@link #INCOMPATIBLE}.
+ * Like Glue, it rejects a registration while another version of the schema is still PENDING.
+ */
+final class FakeSchemaRegistryClient implements InvocationHandler {
+    static final String INCOMPATIBLE = "incompatible";
+    private static final String ARN_PREFIX = "arn:aws:glue:us-east-1:123456789:schema/";
+
+    //Guarded by this. Keyed by schema ARN.
+    private final Map<String, List<Version>> schemas = new HashMap<>();
+
+    static FakeSchemaRegistryClient create() {
+        return new FakeSchemaRegistryClient();
+    }
+
+    GlueClient client() {
+        return (GlueClient) Proxy.newProxyInstance(
+            GlueClient.class.getClassLoader(),
+            new Class<?>[] {GlueClient.class},
+            this);
+    }
+
+    /**
+     * @return the definitions registered for the schema, in registration order.
+     */
+    synchronized List<String> registeredDefinitions(final String schemaArn) {
+        final List<String> definitions = new ArrayList<>();
+        for (final Version version : schemas.getOrDefault(schemaArn, new ArrayList<>())) {
+            definitions.add(version.definition);
+        }
+        return definitions;
+    }
+
+    @Override
+    public synchronized Object invoke(
+        final Object proxy,
+        final Method method,
+        final Object[] args) {
+
+        switch (method.getName()) {
+            case "serviceName":
+                return GlueClient.SERVICE_NAME;
+            case "close":
+                return null;
+            case "getSchemaByDefinition":
+                return getSchemaByDefinition((GetSchemaByDefinitionRequest) args[0]);
+            case "registerSchemaVersion":
+                return registerSchemaVersion((RegisterSchemaVersionRequest) args[0]);
+            case "getSchemaVersion":
+                return getSchemaVersion((GetSchemaVersionRequest) args[0]);
+            case "listSchemaVersions":
+                return listSchemaVersions((ListSchemaVersionsRequest) args[0]);
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    private GetSchemaByDefinitionResponse getSchemaByDefinition(final GetSchemaByDefinitionRequest request) {
+        for (final Version version : versions(request.schemaId())) {
+            if (version.definition.equals(request.schemaDefinition())) {
+                return GetSchemaByDefinitionResponse.builder()
+                    .schemaVersionId(version.versionId)
+                    .status(version.status)
+                    .build();
+            }
+        }
+        throw EntityNotFoundException.builder().message("Schema version is not found.").build();
+    }
+
+    private RegisterSchemaVersionResponse registerSchemaVersion(final RegisterSchemaVersionRequest request) {
+        final List<Version> versions = versions(request.schemaId());
+        for (final Version version : versions) {
+            if (version.status == SchemaVersionStatus.PENDING) {
+                throw ConcurrentModificationException.builder()
+                    .message("Another version of the schema is being registered.")
+                    .build();
+            }
+        }
+
+        final Version version = new Version(arn(request.schemaId()), versions.size() + 1L, request.schemaDefinition());
+        versions.add(version);
+        return RegisterSchemaVersionResponse.builder()
+            .schemaVersionId(version.versionId)
+            .versionNumber(version.versionNumber)
+            .status(version.status)
+            .build();
+    }
+
+    private GetSchemaVersionResponse getSchemaVersion(final GetSchemaVersionRequest request) {
+        for (final List<Version> versions : schemas.values()) {
+            for (final Version version : versions) {
+                if (version.versionId.equals(request.schemaVersionId())) {
+                    return GetSchemaVersionResponse.builder()
+                        .schemaArn(version.schemaArn)
+                        .schemaVersionId(version.versionId)
+                        .versionNumber(version.versionNumber)
+                        .status(version.status)
+                        .build();
+                }
+            }
+        }
+        throw EntityNotFoundException.builder().message("Schema version is not found.").build();
+    }
+
+    private ListSchemaVersionsResponse listSchemaVersions(final ListSchemaVersionsRequest request) {
+        final List<SchemaVersionListItem> items = new ArrayList<>();
+        for (final Version version : versions(request.schemaId())) {
+            if (version.status == SchemaVersionStatus.PENDING) {
+                version.status = version.definition.contains(INCOMPATIBLE)
+                    ? SchemaVersionStatus.FAILURE
+                    : SchemaVersionStatus.AVAILABLE;
+            }
+            items.add(SchemaVersionListItem.builder()
+                .schemaArn(version.schemaArn)
+                .schemaVersionId(version.versionId)
+                .versionNumber(version.versionNumber)
+                .status(version.status)
+                .build());
+        }
+        return ListSchemaVersionsResponse.builder().schemas(items).build();
+    }
+
+    private List<Version> versions(final SchemaId schemaId) {
+        return schemas.computeIfAbsent(arn(schemaId), arn -> new ArrayList<>());
+    }
+
+    private static String arn(final SchemaId schemaId) {
+        return schemaId.schemaArn() != null
+            ? schemaId.schemaArn()
+            : ARN_PREFIX + schemaId.registryName() + "/" + schemaId.schemaName();
+    }
+
+    private static final class Version {
+        private final String schemaArn;
+        private final String versionId = UUID.randomUUID().toString();
+        private final long versionNumber;
+        private final String definition;
+        private SchemaVersionStatus status = SchemaVersionStatus.PENDING;
+
+        private Version(
+            final String schemaArn,
+            final long versionNumber,
+            final String definition) {
+            this.schemaArn = schemaArn;
+            this.versionNumber = versionNumber;
+            this.definition = definition;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package software.amazon.glue.schemaversion;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.RegistryStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GlueTrafficRecorderTest extends AbstractTestBase {
+
+    @Mock
+    private ProxyClient<GlueClient> delegate;
+
+    @Mock
+    private GlueClient glueClient;
+
+    @TempDir
+    Path recordingDirectory;
+
+    @Test
+    public void replay_WhenCallsWereRecorded_ServesThemInOrder() throws Exception {
+        when(delegate.injectCredentialsAndInvokeV2(eq(TestData.GET_REGISTRY_REQUEST), any()))
+            .thenReturn(TestData.GET_REGISTRY_RESPONSE)
+            .thenThrow(EntityNotFoundException.builder().message("Registry not found").build());
+
+        final Path recording = recordingDirectory.resolve("glue-traffic.ndjson");
+        final GlueTrafficRecorder recorder = new GlueTrafficRecorder(delegate, recording);
+
+        recorder.injectCredentialsAndInvokeV2(TestData.GET_REGISTRY_REQUEST, glueClient::getRegistry);
+        assertThrows(EntityNotFoundException.class,
+            () -> recorder.injectCredentialsAndInvokeV2(TestData.GET_REGISTRY_REQUEST, glueClient::getRegistry));
+
+        assertThat(Files.readAllLines(recording)).hasSize(2);
+
+        final GlueClient replayClient = GlueTrafficReplayClient.create(recording, 0);
+
+        assertThat(replayClient.getRegistry(TestData.GET_REGISTRY_REQUEST)).isEqualTo(TestData.GET_REGISTRY_RESPONSE);
+        final EntityNotFoundException exception =
+            assertThrows(EntityNotFoundException.class, () -> replayClient.getRegistry(TestData.GET_REGISTRY_REQUEST));
+        assertThat(exception.getMessage()).contains("Registry not found");
+        assertThrows(IllegalStateException.class, () -> replayClient.getRegistry(TestData.GET_REGISTRY_REQUEST));
+    }
+
+    @Test
+    public void recordIfEnabled_WhenRecordingIsNotConfigured_ReturnsSameClient() {
+        //The system property takes precedence over the environment, so an empty one turns recording off.
+        final String previous = System.getProperty(TestData.RECORDING_FILE_PROPERTY);
+        System.setProperty(TestData.RECORDING_FILE_PROPERTY, "");
+        try {
+            assertThat(GlueTrafficRecorder.recordIfEnabled(delegate)).isSameAs(delegate);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(TestData.RECORDING_FILE_PROPERTY);
+            } else {
+                System.setProperty(TestData.RECORDING_FILE_PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    public void invoke_WhenCallIsNotSynchronous_DelegatesUnchanged() {
+        final GlueTrafficRecorder recorder = new GlueTrafficRecorder(delegate, recordingDirectory.resolve("unused.ndjson"));
+
+        recorder.injectCredentialsAndInvokeV2Async(TestData.GET_REGISTRY_REQUEST, request -> null);
+        recorder.injectCredentialsAndInvokeIterableV2(TestData.GET_REGISTRY_REQUEST, request -> null);
+        recorder.injectCredentialsAndInvokeV2InputStream(TestData.GET_REGISTRY_REQUEST, request -> null);
+        recorder.injectCredentialsAndInvokeV2Bytes(TestData.GET_REGISTRY_REQUEST, request -> null);
+        recorder.client();
+
+        verify(delegate).injectCredentialsAndInvokeV2Async(eq(TestData.GET_REGISTRY_REQUEST), any());
+        verify(delegate).injectCredentialsAndInvokeIterableV2(eq(TestData.GET_REGISTRY_REQUEST), any());
+        verify(delegate).injectCredentialsAndInvokeV2InputStream(eq(TestData.GET_REGISTRY_REQUEST), any());
+        verify(delegate).injectCredentialsAndInvokeV2Bytes(eq(TestData.GET_REGISTRY_REQUEST), any());
+        verify(delegate).client();
+    }
+
+    private static class TestData {
+        private static final String RECORDING_FILE_PROPERTY = "glue.traffic.recording.file";
+
+        private static final String REGISTRY_NAME = "unit-testing-registry";
+
+        private static final GetRegistryRequest GET_REGISTRY_REQUEST =
+            GetRegistryRequest
+                .builder()
+                .registryId(
+                    RegistryId
+                        .builder()
+                        .registryName(REGISTRY_NAME)
+                        .build()
+                )
+                .build();
+
+        private static final GetRegistryResponse GET_REGISTRY_RESPONSE =
+            GetRegistryResponse
+                .builder()
+                .registryName(REGISTRY_NAME)
+                .registryArn("arn:aws:glue:us-east-1:123456789:registry/" + REGISTRY_NAME)
+                .description("Registry recorded for replay")
+                .status(RegistryStatus.AVAILABLE)
+                .createdTime("2020-10-12T20:15:30Z")
+                .build();
+    }
+}
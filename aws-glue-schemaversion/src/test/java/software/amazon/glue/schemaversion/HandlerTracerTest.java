@@ -0,0 +1,170 @@
+package software.amazon.glue.schemaversion;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HandlerTracerTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<CallbackContext> CALLBACK_CONTEXT =
+        new TypeReference<CallbackContext>() {
+        };
+
+    @TempDir
+    Path traceDirectory;
+
+    private FakeSchemaRegistryClient registry;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<GlueClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        System.setProperty("glue.trace.dir", traceDirectory.toString());
+        registry = FakeSchemaRegistryClient.create();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, registry.client());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("glue.trace.dir");
+    }
+
+    @Test
+    public void finish_WhenCreateIsCalledBack_TracesRegisterStabilizeAndReadIntoOneChromeTrace() throws Exception {
+        final CreateHandler handler = new CreateHandler(TestData.CALLBACK_ONLY_SCHEDULER, false);
+        final ResourceHandlerRequest<ResourceModel> request = TestData.request();
+        final Serializer serializer = new Serializer();
+
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress =
+            invoke(handler, request, new CallbackContext());
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+
+        //Settles the registered version, and carries the trace through the callback payload.
+        registry.client().listSchemaVersions(TestData.LIST_SCHEMA_VERSIONS_REQUEST);
+        final CallbackContext calledBack =
+            serializer.deserialize(serializer.serialize(inProgress.getCallbackContext()), CALLBACK_CONTEXT);
+        final ProgressEvent<ResourceModel, CallbackContext> success = invoke(handler, request, calledBack);
+        assertThat(success.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        assertThat(calledBack.getTraceId()).isEqualTo(inProgress.getCallbackContext().getTraceId());
+        assertThat(calledBack.getTraceInvocations()).isEqualTo(2);
+        final List<JsonNode> events =
+            TestData.readTrace(traceDirectory.resolve(calledBack.getTraceId() + ".json"));
+        assertThat(events).extracting(node -> node.get("name").asText()).containsExactly(
+            "thread_name", "GetSchemaByDefinition", "RegisterSchemaVersion", TestData.CREATE,
+            "GetSchemaVersion", TestData.STABILIZE, "CreateHandler",
+            "thread_name", TestData.CREATE,
+            "GetSchemaVersion", TestData.STABILIZE, "GetSchemaVersion", TestData.READ, "CreateHandler");
+        assertThat(events.get(5).get("args").get("outcome").asText()).isEqualTo("OK");
+        assertThat(events.get(6).get("args").get("outcome").asText()).isEqualTo("IN_PROGRESS");
+        assertThat(events.get(7).get("args").get("name").asText()).isEqualTo("CreateHandler #2");
+        assertThat(events.get(13).get("args").get("outcome").asText()).isEqualTo("SUCCESS");
+
+        //Glue calls nest in their call graph, and every call graph of the callback in its invocation.
+        TestData.assertWithin(events.get(2), events.get(3));
+        TestData.assertWithin(events.get(9), events.get(10));
+        TestData.assertWithin(events.get(11), events.get(12));
+        for (int i = 8; i < 13; i++) {
+            TestData.assertWithin(events.get(i), events.get(13));
+            assertThat(events.get(i).get("tid").asInt()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void span_WhenCallGraphThrows_RecordsExceptionAsOutcome() {
+        final HandlerTracer tracer = HandlerTracer.start("ReadHandler", new CallbackContext());
+
+        assertThrows(CfnNotFoundException.class, () -> HandlerTracer.span(TestData.READ, () -> {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, "version");
+        }));
+        tracer.finish("EXCEPTION");
+
+        assertThat(tracer.getEvents()).hasSize(2);
+        assertThat(tracer.getEvents().get(0).get("args").get("outcome").asText()).isEqualTo("CfnNotFoundException");
+        assertThat(HandlerTracer.span("AfterFinish", () -> "untraced")).isEqualTo("untraced");
+        assertThat(tracer.getEvents()).hasSize(2);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invoke(
+        final CreateHandler handler,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext) {
+        final HandlerTracer tracer = HandlerTracer.start("CreateHandler", callbackContext);
+        final ProgressEvent<ResourceModel, CallbackContext> event =
+            handler.handleRequest(proxy, request, callbackContext, tracer.traceCalls(proxyClient), logger);
+        tracer.finish(String.valueOf(event.getStatus()));
+        return event;
+    }
+
+    private static class TestData {
+        private static final String SCHEMA_ARN = "arn:aws:glue:us-east-1:123456789:schema/registry/orders";
+        private static final String DEFINITION = "{\"type\":\"record\",\"name\":\"Orders\",\"fields\":[]}";
+        private static final String CREATE = "AWS-Glue-SchemaVersion::Create";
+        private static final String STABILIZE = "AWS-Glue-SchemaVersion::Create::Stabilize";
+        private static final String READ = "AWS-Glue-SchemaVersion::Read";
+
+        //Hands every wait back to CloudFormation, so a PENDING version returns IN_PROGRESS at once.
+        private static final StabilizationScheduler CALLBACK_ONLY_SCHEDULER =
+            new StabilizationScheduler(Duration.ofSeconds(3L), Duration.ofSeconds(120L), Duration.ZERO, Duration.ZERO);
+
+        private static final ListSchemaVersionsRequest LIST_SCHEMA_VERSIONS_REQUEST =
+            ListSchemaVersionsRequest.builder()
+                .schemaId(SchemaId.builder().schemaArn(SCHEMA_ARN).build())
+                .build();
+
+        private static ResourceHandlerRequest<ResourceModel> request() {
+            return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                    .schema(Schema.builder().schemaArn(SCHEMA_ARN).build())
+                    .schemaDefinition(DEFINITION)
+                    .build())
+                .build();
+        }
+
+        /**
+         * Reads an unterminated Chrome trace the way the trace viewers do.
+         */
+        private static List<JsonNode> readTrace(final Path trace) throws Exception {
+            final String content = new String(Files.readAllBytes(trace), StandardCharsets.UTF_8).trim();
+            assertThat(content).startsWith("[").endsWith(",");
+            final List<JsonNode> events = new ArrayList<>();
+            MAPPER.readTree(content.substring(0, content.length() - 1) + "]").forEach(events::add);
+            return events;
+        }
+
+        private static void assertWithin(
+            final JsonNode inner,
+            final JsonNode outer) {
+            final long innerStart = inner.get("ts").asLong();
+            final long outerStart = outer.get("ts").asLong();
+            assertThat(innerStart).isGreaterThanOrEqualTo(outerStart);
+            assertThat(innerStart + inner.get("dur").asLong())
+                .isLessThanOrEqualTo(outerStart + outer.get("dur").asLong());
+        }
+    }
+}
@@ -47,6 +47,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     }
 
     @Test
+    @GlueCallBudget(1)
     public void handleRequest_WhenVersionIdIsPresent_ReturnsResults() {
 
         when(proxy.injectCredentialsAndInvokeV2(
@@ -111,6 +112,7 @@ public class ReadHandlerTest extends AbstractTestBase {
             "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
         public final static String SCHEMA_VERSION_ID = "307ce1bc-dc50-11ea-87d0-0242ac130003";
         public static final String SCHEMA_DEFINITION = "{\"type\": \"fixed\", \"size\": 16, \"name\": \"md5\"}";
+        private static final Long VERSION_NUMBER = 3L;
 
         public static final ResourceModel RESOURCE_MODEL =
             ResourceModel
@@ -135,6 +137,7 @@ public class ReadHandlerTest extends AbstractTestBase {
                         .build()
                 )
                 .schemaDefinition(SCHEMA_DEFINITION)
+                .versionNumber(VERSION_NUMBER.intValue())
                 .build();
 
         public static final GetSchemaVersionRequest GET_SCHEMA_VERSION_REQUEST =
@@ -152,6 +155,7 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .status(status)
                 .createdTime(Instant.now().toString())
                 .schemaDefinition(SCHEMA_DEFINITION)
+                .versionNumber(VERSION_NUMBER)
                 .build();
         }
     }
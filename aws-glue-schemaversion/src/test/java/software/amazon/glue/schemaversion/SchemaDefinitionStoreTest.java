@@ -0,0 +1,113 @@
+package software.amazon.glue.schemaversion;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaDefinitionStoreTest {
+
+    @Test
+    public void findVersionId_ReturnsVersionOfIdenticalDefinitionOfSameSchemaOnly() {
+        final SchemaDefinitionStore store = new SchemaDefinitionStore(1024L * 1024L, false);
+        store.put(TestData.SCHEMA_ARN, "version-1", TestData.definition(1, 10));
+
+        assertThat(store.findVersionId(TestData.SCHEMA_ARN, TestData.definition(1, 10))).contains("version-1");
+        assertThat(store.findVersionId(TestData.SCHEMA_ARN, TestData.definition(2, 10))).isEmpty();
+        assertThat(store.findVersionId(TestData.OTHER_SCHEMA_ARN, TestData.definition(1, 10))).isEmpty();
+        assertThat(store.getHitRate()).isEqualTo(1.0 / 3.0);
+    }
+
+    @Test
+    public void getDefinitionBytes_ReturnsReadOnlyOffHeapView() {
+        final SchemaDefinitionStore store = new SchemaDefinitionStore(1024L * 1024L, false);
+        final String definition = TestData.definition(1, 100) + "\u00e9\u4e2d";
+        final String fingerprint = store.put(TestData.SCHEMA_ARN, "version-1", definition);
+
+        final ByteBuffer bytes = store.getDefinitionBytes("version-1").get();
+
+        assertThat(bytes.isDirect()).isTrue();
+        assertThat(bytes.isReadOnly()).isTrue();
+        assertThat(bytes).isEqualTo(ByteBuffer.wrap(definition.getBytes(StandardCharsets.UTF_8)));
+        assertThat(SchemaDefinitionStore.fingerprint(bytes)).isEqualTo(fingerprint);
+        assertThat(store.getDefinition("version-1")).contains(definition);
+        assertThat(store.getResidentBytes()).isEqualTo(definition.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    public void put_WhenOverTotalBytes_EvictsLeastRecentlyUsed() {
+        final int length = TestData.definition(1, 100).length();
+        final SchemaDefinitionStore store = new SchemaDefinitionStore(3L * length, false);
+        store.put(TestData.SCHEMA_ARN, "version-1", TestData.definition(1, 100));
+        store.put(TestData.SCHEMA_ARN, "version-2", TestData.definition(2, 100));
+        store.put(TestData.SCHEMA_ARN, "version-3", TestData.definition(3, 100));
+        store.getDefinitionBytes("version-1");
+
+        store.put(TestData.SCHEMA_ARN, "version-4", TestData.definition(4, 100));
+
+        assertThat(store.getDefinition("version-2")).isEmpty();
+        assertThat(store.getDefinition("version-1")).isPresent();
+        assertThat(store.getDefinition("version-4")).isPresent();
+        assertThat(store.getEntryCount()).isEqualTo(3);
+        assertThat(store.getEvictions()).isEqualTo(1L);
+        assertThat(store.getResidentBytes()).isLessThanOrEqualTo(3L * length);
+    }
+
+    @Test
+    public void put_WhenDefinitionIsLargerThanStore_DoesNotStoreIt() {
+        final SchemaDefinitionStore store = new SchemaDefinitionStore(64L, false);
+        store.put(TestData.SCHEMA_ARN, "version-1", TestData.definition(1, 100));
+
+        assertThat(store.getDefinition("version-1")).isEmpty();
+        assertThat(store.getResidentBytes()).isZero();
+    }
+
+    @Test
+    public void put_WhenCompressing_StoresFewerBytesAndReadsBackTheDefinition() {
+        final SchemaDefinitionStore store = new SchemaDefinitionStore(1024L * 1024L, true);
+        final String definition = TestData.definition(1, 5000);
+        store.put(TestData.SCHEMA_ARN, "version-1", definition);
+
+        assertThat(store.getResidentBytes()).isLessThan(definition.length() / 4);
+        assertThat(store.getDefinition("version-1")).contains(definition);
+        assertThat(store.findVersionId(TestData.SCHEMA_ARN, definition)).contains("version-1");
+    }
+
+    @Test
+    public void put_WhenVersionIsStoredAgain_ReplacesIt() {
+        final SchemaDefinitionStore store = new SchemaDefinitionStore(1024L * 1024L, false);
+        store.put(TestData.SCHEMA_ARN, "version-1", TestData.definition(1, 10));
+        store.put(TestData.SCHEMA_ARN, "version-1", TestData.definition(1, 10));
+
+        assertThat(store.getEntryCount()).isEqualTo(1);
+        assertThat(store.getResidentBytes()).isEqualTo(TestData.definition(1, 10).length());
+        assertThat(store.getDefinition("unknown")).isEqualTo(Optional.empty());
+    }
+
+    private static class TestData {
+        private static final String SCHEMA_ARN =
+            "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+        private static final String OTHER_SCHEMA_ARN =
+            "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/other-schema";
+
+        /**
+         * An Avro record with the given number of fields, distinct per version.
+         */
+        private static String definition(final int version, final int fields) {
+            final StringBuilder definition = new StringBuilder("{\"type\":\"record\",\"name\":\"Test")
+                .append(version)
+                .append("\",\"fields\":[");
+            for (int i = 0; i < fields; i++) {
+                definition
+                    .append(i == 0 ? "" : ",")
+                    .append("{\"name\":\"field")
+                    .append(i)
+                    .append("\",\"type\":\"string\"}");
+            }
+            return definition.append("]}").toString();
+        }
+    }
+}
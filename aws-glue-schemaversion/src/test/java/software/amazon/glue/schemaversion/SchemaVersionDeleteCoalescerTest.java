@@ -0,0 +1,248 @@
+package software.amazon.glue.schemaversion;
+
+import com.google.common.collect.ImmutableSortedSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.AccessDeniedException;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.ErrorDetails;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionErrorItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SchemaVersionDeleteCoalescerTest extends AbstractTestBase {
+    private ProxyClient<GlueClient> proxyClient;
+
+    private SchemaVersionDeleteCoalescer coalescer;
+
+    @Mock
+    private GlueClient glueClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = getAmazonWebServicesClientProxy();
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+        coalescer = new SchemaVersionDeleteCoalescer(
+            proxyClient,
+            logger,
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, TestData.SCHEDULER_THREAD)),
+            Executors.newCachedThreadPool(),
+            Duration.ofMillis(200L),
+            Duration.ZERO,
+            Duration.ofSeconds(30L)
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        coalescer.close();
+    }
+
+    @Test
+    public void toVersionRanges_CompressesConsecutiveVersions() {
+        assertThat(SchemaVersionDeleteCoalescer.toVersionRanges(ImmutableSortedSet.of(1L, 2L, 3L, 4L, 5L, 8L)))
+            .isEqualTo("1-5,8");
+        assertThat(SchemaVersionDeleteCoalescer.toVersionRanges(ImmutableSortedSet.of(7L)))
+            .isEqualTo("7");
+        assertThat(SchemaVersionDeleteCoalescer.toVersionRanges(ImmutableSortedSet.of(2L, 4L, 5L)))
+            .isEqualTo("2,4-5");
+    }
+
+    @Test
+    public void submit_WhenDeletionsArriveTogether_SendsOneRangeRequestAndSplitsErrors() throws Exception {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.DELETE_REQUEST, glueClient::deleteSchemaVersions))
+            .thenReturn(TestData.DELETE_RESPONSE_WITH_ERROR_FOR_VERSION_5);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.LIST_REQUEST, glueClient::listSchemaVersions))
+            .thenReturn(TestData.LIST_RESPONSE_WITH_VERSION_1_DELETING)
+            .thenReturn(TestData.EMPTY_LIST_RESPONSE);
+
+        final CompletableFuture<Void> version1 = coalescer.submit(TestData.SCHEMA_ARN, 1L);
+        final CompletableFuture<Void> version2 = coalescer.submit(TestData.SCHEMA_ARN, 2L);
+        final CompletableFuture<Void> version3 = coalescer.submit(TestData.SCHEMA_ARN, 3L);
+        final CompletableFuture<Void> version5 = coalescer.submit(TestData.SCHEMA_ARN, 5L);
+
+        CompletableFuture.allOf(version1, version2, version3).get(10L, TimeUnit.SECONDS);
+
+        final ExecutionException exception =
+            assertThrows(ExecutionException.class, () -> version5.get(10L, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).isInstanceOf(CfnGeneralServiceException.class);
+        assertThat(exception.getCause().getMessage()).contains("Version is checkpointed");
+
+        verify(glueClient, times(1)).deleteSchemaVersions(TestData.DELETE_REQUEST);
+        verify(glueClient, times(2)).listSchemaVersions(TestData.LIST_REQUEST);
+    }
+
+    @Test
+    public void submit_WhenVersionIsAlreadyGone_FailsThatCallerWithNotFound() throws Exception {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.DELETE_REQUEST, glueClient::deleteSchemaVersions))
+            .thenReturn(TestData.DELETE_RESPONSE_WITH_VERSION_2_NOT_FOUND);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.LIST_REQUEST, glueClient::listSchemaVersions))
+            .thenReturn(TestData.EMPTY_LIST_RESPONSE);
+
+        final CompletableFuture<Void> version1 = coalescer.submit(TestData.SCHEMA_ARN, 1L);
+        final CompletableFuture<Void> version2 = coalescer.submit(TestData.SCHEMA_ARN, 2L);
+        final CompletableFuture<Void> version3 = coalescer.submit(TestData.SCHEMA_ARN, 3L);
+        final CompletableFuture<Void> version5 = coalescer.submit(TestData.SCHEMA_ARN, 5L);
+
+        CompletableFuture.allOf(version1, version3, version5).get(10L, TimeUnit.SECONDS);
+
+        assertThat(assertThrows(ExecutionException.class, () -> version2.get(10L, TimeUnit.SECONDS)).getCause())
+            .isInstanceOf(CfnNotFoundException.class);
+    }
+
+    @Test
+    public void submit_WhenFlushing_CallsGlueOffTheSchedulerThread() throws Exception {
+
+        final List<String> callingThreads = new CopyOnWriteArrayList<>();
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.DELETE_REQUEST, glueClient::deleteSchemaVersions))
+            .thenAnswer(invocation -> {
+                callingThreads.add(Thread.currentThread().getName());
+                return DeleteSchemaVersionsResponse.builder().build();
+            });
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.LIST_REQUEST, glueClient::listSchemaVersions))
+            .thenAnswer(invocation -> {
+                callingThreads.add(Thread.currentThread().getName());
+                return TestData.EMPTY_LIST_RESPONSE;
+            });
+
+        final CompletableFuture<Void> version1 = coalescer.submit(TestData.SCHEMA_ARN, 1L);
+        coalescer.submit(TestData.SCHEMA_ARN, 2L);
+        coalescer.submit(TestData.SCHEMA_ARN, 3L);
+        coalescer.submit(TestData.SCHEMA_ARN, 5L);
+
+        version1.get(10L, TimeUnit.SECONDS);
+
+        assertThat(callingThreads).hasSize(2).doesNotContain(TestData.SCHEDULER_THREAD);
+    }
+
+    @Test
+    public void submit_WhenDeleteCallFails_FailsEveryCaller() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.DELETE_REQUEST, glueClient::deleteSchemaVersions))
+            .thenThrow(AccessDeniedException.builder().message("Invalid Cred").build());
+
+        final CompletableFuture<Void> version1 = coalescer.submit(TestData.SCHEMA_ARN, 1L);
+        coalescer.submit(TestData.SCHEMA_ARN, 2L);
+        coalescer.submit(TestData.SCHEMA_ARN, 3L);
+        final CompletableFuture<Void> version5 = coalescer.submit(TestData.SCHEMA_ARN, 5L);
+
+        assertThat(assertThrows(ExecutionException.class, () -> version1.get(10L, TimeUnit.SECONDS)).getCause())
+            .isInstanceOf(CfnAccessDeniedException.class);
+        assertThat(assertThrows(ExecutionException.class, () -> version5.get(10L, TimeUnit.SECONDS)).getCause())
+            .isInstanceOf(CfnAccessDeniedException.class);
+    }
+
+    private static class TestData {
+        private static final String SCHEDULER_THREAD = "coalescer-scheduler";
+
+        private static final String SCHEMA_ARN =
+            "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+
+        private static final SchemaId SCHEMA_ID =
+            SchemaId
+                .builder()
+                .schemaArn(SCHEMA_ARN)
+                .build();
+
+        private static final DeleteSchemaVersionsRequest DELETE_REQUEST =
+            DeleteSchemaVersionsRequest
+                .builder()
+                .schemaId(SCHEMA_ID)
+                .versions("1-3,5")
+                .build();
+
+        private static final DeleteSchemaVersionsResponse DELETE_RESPONSE_WITH_ERROR_FOR_VERSION_5 =
+            DeleteSchemaVersionsResponse
+                .builder()
+                .schemaVersionErrors(
+                    SchemaVersionErrorItem
+                        .builder()
+                        .versionNumber(5L)
+                        .errorDetails(
+                            ErrorDetails
+                                .builder()
+                                .errorCode("InvalidInputException")
+                                .errorMessage("Version is checkpointed")
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+
+        private static final DeleteSchemaVersionsResponse DELETE_RESPONSE_WITH_VERSION_2_NOT_FOUND =
+            DeleteSchemaVersionsResponse
+                .builder()
+                .schemaVersionErrors(
+                    SchemaVersionErrorItem
+                        .builder()
+                        .versionNumber(2L)
+                        .errorDetails(
+                            ErrorDetails
+                                .builder()
+                                .errorCode("EntityNotFoundException")
+                                .errorMessage("Schema version is not found.")
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+
+        private static final ListSchemaVersionsRequest LIST_REQUEST =
+            ListSchemaVersionsRequest
+                .builder()
+                .schemaId(SCHEMA_ID)
+                .maxResults(100)
+                .build();
+
+        private static final ListSchemaVersionsResponse LIST_RESPONSE_WITH_VERSION_1_DELETING =
+            ListSchemaVersionsResponse
+                .builder()
+                .schemas(
+                    SchemaVersionListItem
+                        .builder()
+                        .schemaArn(SCHEMA_ARN)
+                        .versionNumber(1L)
+                        .status(SchemaVersionStatus.DELETING)
+                        .build()
+                )
+                .build();
+
+        private static final ListSchemaVersionsResponse EMPTY_LIST_RESPONSE =
+            ListSchemaVersionsResponse
+                .builder()
+                .build();
+    }
+}
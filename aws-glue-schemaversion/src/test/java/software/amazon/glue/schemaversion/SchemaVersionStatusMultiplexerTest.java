@@ -0,0 +1,129 @@
+package software.amazon.glue.schemaversion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SchemaVersionStatusMultiplexerTest extends AbstractTestBase {
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    private GlueClient glueClient;
+
+    @BeforeEach
+    public void setup() {
+        proxyClient = MOCK_PROXY(getAmazonWebServicesClientProxy(), glueClient);
+    }
+
+    @Test
+    public void await_WhenVersionsOfSameSchemaAreWaiting_SharesOnePollLoop() throws Exception {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.LIST_REQUEST, glueClient::listSchemaVersions))
+            .thenReturn(TestData.listResponse(SchemaVersionStatus.PENDING, SchemaVersionStatus.AVAILABLE))
+            .thenReturn(TestData.listResponse(SchemaVersionStatus.FAILURE, SchemaVersionStatus.AVAILABLE));
+
+        try (SchemaVersionStatusMultiplexer multiplexer = newMultiplexer(Duration.ofSeconds(30L))) {
+            final CompletableFuture<SchemaVersionStatus> version1 =
+                multiplexer.await(TestData.SCHEMA_ARN, TestData.VERSION_ID_1);
+            final CompletableFuture<SchemaVersionStatus> version2 =
+                multiplexer.await(TestData.SCHEMA_ARN, TestData.VERSION_ID_2);
+
+            assertThat(version2.get(10L, TimeUnit.SECONDS)).isEqualTo(SchemaVersionStatus.AVAILABLE);
+            assertThat(version1.get(10L, TimeUnit.SECONDS)).isEqualTo(SchemaVersionStatus.FAILURE);
+        }
+
+        verify(glueClient, times(2)).listSchemaVersions(TestData.LIST_REQUEST);
+    }
+
+    @Test
+    public void await_WhenVersionStaysPendingPastTimeout_ThrowsException() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.LIST_REQUEST, glueClient::listSchemaVersions))
+            .thenReturn(TestData.listResponse(SchemaVersionStatus.PENDING, SchemaVersionStatus.PENDING));
+
+        try (SchemaVersionStatusMultiplexer multiplexer = newMultiplexer(Duration.ZERO)) {
+            final CompletableFuture<SchemaVersionStatus> version1 =
+                multiplexer.await(TestData.SCHEMA_ARN, TestData.VERSION_ID_1);
+
+            final ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> version1.get(10L, TimeUnit.SECONDS));
+            assertThat(exception.getCause()).isInstanceOf(CfnNotStabilizedException.class);
+        }
+    }
+
+    private SchemaVersionStatusMultiplexer newMultiplexer(final Duration timeout) {
+        return new SchemaVersionStatusMultiplexer(
+            proxyClient,
+            logger,
+            Executors.newSingleThreadScheduledExecutor(),
+            Duration.ofMillis(100L),
+            timeout
+        );
+    }
+
+    private static class TestData {
+        private static final String SCHEMA_ARN =
+            "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+        private static final String VERSION_ID_1 = "6eff3f2b-89c0-40ea-a268-9eb34b9cdd2d";
+        private static final String VERSION_ID_2 = "7fff3f2b-89c0-40ea-a268-9eb34b9cdd2e";
+
+        private static final ListSchemaVersionsRequest LIST_REQUEST =
+            ListSchemaVersionsRequest
+                .builder()
+                .schemaId(
+                    SchemaId
+                        .builder()
+                        .schemaArn(SCHEMA_ARN)
+                        .build()
+                )
+                .maxResults(100)
+                .build();
+
+        private static ListSchemaVersionsResponse listResponse(
+            final SchemaVersionStatus version1Status,
+            final SchemaVersionStatus version2Status) {
+            return ListSchemaVersionsResponse
+                .builder()
+                .schemas(
+                    SchemaVersionListItem
+                        .builder()
+                        .schemaArn(SCHEMA_ARN)
+                        .schemaVersionId(VERSION_ID_1)
+                        .versionNumber(1L)
+                        .status(version1Status)
+                        .build(),
+                    SchemaVersionListItem
+                        .builder()
+                        .schemaArn(SCHEMA_ARN)
+                        .schemaVersionId(VERSION_ID_2)
+                        .versionNumber(2L)
+                        .status(version2Status)
+                        .build()
+                )
+                .build();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first resource schema load in a fresh JVM, as on a Lambda cold start: parsing
+ * aws-glue-schemaversionmetadata.json from the classpath the way BaseConfiguration does, against building it
+ * from the generated ResourceSchemaConstants. Each fork measures a single call, so class loading
+ * and interpretation are included. Pass -bm avgt -wi 3 -i 5 to compare warm loads instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ConfigurationBenchmark {
+
+    @Benchmark
+    public JSONObject parseSchemaFile() throws IOException {
+        try (InputStream schema = ConfigurationBenchmark.class.getClassLoader()
+            .getResourceAsStream(ResourceSchemaConstants.SCHEMA_FILENAME)) {
+            return new JSONObject(new JSONTokener(schema));
+        }
+    }
+
+    @Benchmark
+    public JSONObject precompiledSchema() {
+        return new Configuration().resourceSchemaJsonObject();
+    }
+}
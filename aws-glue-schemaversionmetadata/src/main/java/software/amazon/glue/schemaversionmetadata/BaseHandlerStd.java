@@ -16,13 +16,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
-        return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final HandlerTracer tracer = HandlerTracer.start(getClass().getSimpleName(), context);
+        ProgressEvent<ResourceModel, CallbackContext> result = null;
+        try {
+            result = handleRequest(
+                proxy,
+                request,
+                context,
+                new RetryingProxyClient(tracer.traceCalls(
+                    GlueTrafficRecorder.recordIfEnabled(proxy.newProxy(ClientBuilder::getClient)))),
+                logger
+            );
+            return result;
+        } finally {
+            tracer.finish(result == null ? "EXCEPTION" : String.valueOf(result.getStatus()));
+        }
     }
 
     protected String getIdentifier(
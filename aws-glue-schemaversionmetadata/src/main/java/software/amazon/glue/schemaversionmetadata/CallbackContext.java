@@ -7,4 +7,8 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+
+    //Set by HandlerTracer, so that every callback of an operation appends to the same trace.
+    String traceId;
+    int traceInvocations = 0;
 }
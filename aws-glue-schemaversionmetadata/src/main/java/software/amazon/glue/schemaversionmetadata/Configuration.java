@@ -1,8 +1,19 @@
 package software.amazon.glue.schemaversionmetadata;
 
+import org.json.JSONObject;
+
 class Configuration extends BaseConfiguration {
 
     public Configuration() {
         super("aws-glue-schemaversionmetadata.json");
     }
+
+    /**
+     * Builds the schema from the constants that codegen/generate_schema_constants.py generates
+     * out of aws-glue-schemaversionmetadata.json at build time, instead of parsing the file from the classpath.
+     */
+    @Override
+    public JSONObject resourceSchemaJsonObject() {
+        return ResourceSchemaConstants.schema();
+    }
 }
@@ -14,8 +14,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.translateToCfnException;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -23,10 +21,8 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
+            .then(progress -> HandlerTracer.span("AWS-Glue-SchemaVersionMetadata::Create", () ->
                 proxy.initiate(
                     "AWS-Glue-SchemaVersionMetadata::Create",
                     proxyClient,
@@ -34,11 +30,11 @@ public class CreateHandler extends BaseHandlerStd {
                     progress.getCallbackContext())
 
                     .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::createSchemaVersionMetadata)
+                    .makeServiceCall((awsRequest, client) -> createSchemaVersionMetadata(awsRequest, client, logger))
                     //Stabilization not required for this resource.
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
                     .done(createSchemaVersionMetadataResponse ->
-                        ProgressEvent.defaultSuccessHandler(toResourceModel(createSchemaVersionMetadataResponse)))
+                        ProgressEvent.defaultSuccessHandler(toResourceModel(createSchemaVersionMetadataResponse))))
             );
     }
 
@@ -55,7 +51,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private PutSchemaVersionMetadataResponse createSchemaVersionMetadata(
         final PutSchemaVersionMetadataRequest putSchemaVersionMetadataRequest,
-        ProxyClient<GlueClient> proxyClient) {
+        ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         final String identifier =
             getIdentifier(
@@ -29,6 +29,14 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
+        final ResourceModel model = request.getDesiredResourceState();
+
+        //Without a SchemaVersionId, list the metadata of all versions of the given schema.
+        if (model.getSchemaVersionId() == null && model.getSchema() != null) {
+            return new SchemaMetadataEnumerator(proxyClient, logger)
+                .enumerate(model.getSchema(), request.getNextToken());
+        }
+
         final QuerySchemaVersionMetadataRequest querySchemaVersionMetadataRequest =
             translateToListRequest(request);
 
@@ -21,7 +21,6 @@ import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.tra
 
 public class ReadHandler extends BaseHandlerStd {
     private static final int ONLY_ELEMENT = 0;
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -30,23 +29,22 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
-        return proxy.initiate(
+        return HandlerTracer.span("AWS-Glue-SchemaVersionMetadata::Read", () -> proxy.initiate(
             "AWS-Glue-SchemaVersionMetadata::Read",
             proxyClient,
             request.getDesiredResourceState(),
             callbackContext)
 
             .translateToServiceRequest(this::fromResourceModel)
-            .makeServiceCall(this::querySchemaVersionMetadata)
+            .makeServiceCall((awsRequest, client) -> querySchemaVersionMetadata(awsRequest, client, logger))
             .done(querySchemaVersionMetadataResponse ->
-                ProgressEvent.defaultSuccessHandler(toResourceModel(querySchemaVersionMetadataResponse)));
+                ProgressEvent.defaultSuccessHandler(toResourceModel(querySchemaVersionMetadataResponse))));
     }
 
     private QuerySchemaVersionMetadataResponse querySchemaVersionMetadata(
         final QuerySchemaVersionMetadataRequest querySchemaVersionMetadataRequest,
-        ProxyClient<GlueClient> proxyClient) {
+        ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
         QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse = null;
 
         final GlueClient glueClient = proxyClient.client();
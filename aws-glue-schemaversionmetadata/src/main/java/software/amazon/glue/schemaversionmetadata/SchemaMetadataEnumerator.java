@@ -0,0 +1,311 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.MetadataInfo;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.translateToCfnException;
+
+/**
+ * Lists the metadata of every version of a schema.
+ *
+ * Each invocation handles one ListSchemaVersions page and queries the metadata of its versions
+ * with bounded parallelism. If the time budget runs out part way through a page, the returned
+ * continuation token points at the first version that was not queried yet.
+ *
+ * The handler only sees the Lambda context's remaining time through the proxy, which does not
+ * expose it, so the budget is set with {@value #TIME_BUDGET_ENV} or the
+ * glue.list.time.budget.seconds system property and counts from the start of the invocation.
+ * It defaults to half of the function timeout. Queries of all invocations in the container run
+ * on one shared pool of daemon threads.
+ */
+class SchemaMetadataEnumerator {
+    static final String TIME_BUDGET_ENV = "GLUE_LIST_TIME_BUDGET_SECONDS";
+
+    private static final int MAX_RESULTS = 50;
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final char TOKEN_SEPARATOR = ':';
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "AWS-Glue-SchemaVersionMetadata::List");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ProxyClient<GlueClient> proxyClient;
+    private final Logger logger;
+    private final int parallelism;
+    private final Duration timeBudget;
+
+    SchemaMetadataEnumerator(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+        this(proxyClient, logger, DEFAULT_PARALLELISM, timeBudget());
+    }
+
+    SchemaMetadataEnumerator(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger,
+        final int parallelism,
+        final Duration timeBudget) {
+        this.proxyClient = proxyClient;
+        this.logger = logger;
+        this.parallelism = parallelism;
+        this.timeBudget = timeBudget;
+    }
+
+    ProgressEvent<ResourceModel, CallbackContext> enumerate(
+        final Schema schema,
+        final String nextToken) {
+
+        final long deadline = System.currentTimeMillis() + timeBudget.toMillis();
+        final SchemaId schemaId =
+            SchemaId
+                .builder()
+                .schemaArn(schema.getSchemaArn())
+                .schemaName(schema.getSchemaName())
+                .registryName(schema.getRegistryName())
+                .build();
+
+        final String versionsToken = decodeVersionsToken(nextToken);
+        final int startOffset = decodeOffset(nextToken);
+        int offset = startOffset;
+
+        final ListSchemaVersionsResponse listSchemaVersionsResponse = listSchemaVersions(schemaId, versionsToken);
+        final List<SchemaVersionListItem> versions = listSchemaVersionsResponse.schemas();
+        final List<ResourceModel> models = new ArrayList<>();
+
+        //A tampered token could point past the page it was issued for.
+        if (startOffset > versions.size()) {
+            throw new CfnInvalidRequestException(String.format("Invalid next token: %s", nextToken));
+        }
+
+        while (offset < versions.size()) {
+            //Always make progress so that a resumed page never returns its own token.
+            if (offset > startOffset && System.currentTimeMillis() >= deadline) {
+                logger.log(
+                    String.format(
+                        "Time budget exhausted after %d of %d versions of %s. Returning partial page.",
+                        offset,
+                        versions.size(),
+                        schemaId
+                    )
+                );
+                return toProgressEvent(models, encode(versionsToken, offset));
+            }
+
+            final int end = Math.min(offset + parallelism, versions.size());
+            models.addAll(queryMetadata(versions.subList(offset, end)));
+            offset = end;
+        }
+
+        final String nextVersionsToken = listSchemaVersionsResponse.nextToken();
+        return toProgressEvent(models, nextVersionsToken == null ? null : encode(nextVersionsToken, 0));
+    }
+
+    private ListSchemaVersionsResponse listSchemaVersions(
+        final SchemaId schemaId,
+        final String versionsToken) {
+
+        final ListSchemaVersionsRequest listSchemaVersionsRequest =
+            ListSchemaVersionsRequest
+                .builder()
+                .schemaId(schemaId)
+                .maxResults(MAX_RESULTS)
+                .nextToken(versionsToken)
+                .build();
+
+        ListSchemaVersionsResponse listSchemaVersionsResponse = null;
+        try {
+            listSchemaVersionsResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    listSchemaVersionsRequest,
+                    proxyClient.client()::listSchemaVersions
+                );
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, schemaId.toString());
+        }
+        return listSchemaVersionsResponse;
+    }
+
+    private List<ResourceModel> queryMetadata(final List<SchemaVersionListItem> versions) {
+
+        final List<Future<List<ResourceModel>>> futures = new ArrayList<>(versions.size());
+        for (final SchemaVersionListItem version : versions) {
+            futures.add(WORKERS.submit(() -> queryAllMetadata(version.schemaVersionId())));
+        }
+
+        final List<ResourceModel> models = new ArrayList<>();
+        for (final Future<List<ResourceModel>> future : futures) {
+            try {
+                models.addAll(future.get());
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new CfnGeneralServiceException(e.getCause().getMessage(), e.getCause());
+            } catch (final InterruptedException e) {
+                futures.forEach(pending -> pending.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new CfnGeneralServiceException("Interrupted while listing schema version metadata", e);
+            }
+        }
+        return models;
+    }
+
+    private List<ResourceModel> queryAllMetadata(final String schemaVersionId) {
+        final List<ResourceModel> models = new ArrayList<>();
+        String metadataToken = null;
+
+        do {
+            final QuerySchemaVersionMetadataRequest querySchemaVersionMetadataRequest =
+                QuerySchemaVersionMetadataRequest
+                    .builder()
+                    .schemaVersionId(schemaVersionId)
+                    .maxResults(MAX_RESULTS)
+                    .nextToken(metadataToken)
+                    .build();
+
+            QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse = null;
+            try {
+                querySchemaVersionMetadataResponse =
+                    proxyClient.injectCredentialsAndInvokeV2(
+                        querySchemaVersionMetadataRequest,
+                        proxyClient.client()::querySchemaVersionMetadata
+                    );
+            } catch (final AwsServiceException e) {
+                translateToCfnException(e, schemaVersionId);
+            }
+
+            if (querySchemaVersionMetadataResponse.hasMetadataInfoMap()) {
+                for (final Map.Entry<String, MetadataInfo> entry
+                    : querySchemaVersionMetadataResponse.metadataInfoMap().entrySet()) {
+                    models.add(
+                        ResourceModel
+                            .builder()
+                            .schemaVersionId(schemaVersionId)
+                            .key(entry.getKey())
+                            .value(entry.getValue().metadataValue())
+                            .build()
+                    );
+                }
+            }
+            metadataToken = querySchemaVersionMetadataResponse.nextToken();
+        } while (metadataToken != null);
+
+        return models;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> toProgressEvent(
+        final List<ResourceModel> models,
+        final String nextToken) {
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+            .resourceModels(models)
+            .nextToken(nextToken)
+            .status(OperationStatus.SUCCESS)
+            .build();
+    }
+
+    /**
+     * The continuation token is the offset into the current ListSchemaVersions page followed by
+     * the token that fetches that page, so a partially processed page can be resumed.
+     */
+    static String encode(final String versionsToken, final int offset) {
+        final String token = offset + String.valueOf(TOKEN_SEPARATOR) + (versionsToken == null ? "" : versionsToken);
+        return Base64.getUrlEncoder().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(final String nextToken) {
+        try {
+            final String token = new String(Base64.getUrlDecoder().decode(nextToken), StandardCharsets.UTF_8);
+            if (token.indexOf(TOKEN_SEPARATOR) < 0) {
+                throw new CfnInvalidRequestException(String.format("Invalid next token: %s", nextToken));
+            }
+            return token;
+        } catch (final IllegalArgumentException e) {
+            throw new CfnInvalidRequestException(String.format("Invalid next token: %s", nextToken), e);
+        }
+    }
+
+    private static String decodeVersionsToken(final String nextToken) {
+        if (nextToken == null) {
+            return null;
+        }
+        final String token = decode(nextToken);
+        final String versionsToken = token.substring(token.indexOf(TOKEN_SEPARATOR) + 1);
+        return versionsToken.isEmpty() ? null : versionsToken;
+    }
+
+    private static int decodeOffset(final String nextToken) {
+        if (nextToken == null) {
+            return 0;
+        }
+        final String token = decode(nextToken);
+        final int offset;
+        try {
+            offset = Integer.parseInt(token.substring(0, token.indexOf(TOKEN_SEPARATOR)));
+        } catch (final NumberFormatException e) {
+            throw new CfnInvalidRequestException(String.format("Invalid next token: %s", nextToken), e);
+        }
+        if (offset < 0) {
+            throw new CfnInvalidRequestException(String.format("Invalid next token: %s", nextToken));
+        }
+        return offset;
+    }
+
+    private static Duration timeBudget() {
+        return TimeBudgetSetting.SECONDS
+            .getStringValue()
+            .map(seconds -> {
+                try {
+                    return Duration.ofSeconds(Long.parseLong(seconds.trim()));
+                } catch (final NumberFormatException e) {
+                    return null;
+                }
+            })
+            .filter(budget -> !budget.isNegative())
+            .orElse(Duration.ofSeconds(Long.parseLong(TimeBudgetSetting.SECONDS.defaultValue())));
+    }
+
+    private enum TimeBudgetSetting implements SystemSetting {
+        SECONDS;
+
+        @Override
+        public String property() {
+            return "glue.list.time.budget.seconds";
+        }
+
+        @Override
+        public String environmentVariable() {
+            return TIME_BUDGET_ENV;
+        }
+
+        @Override
+        public String defaultValue() {
+            return "30";
+        }
+    }
+}
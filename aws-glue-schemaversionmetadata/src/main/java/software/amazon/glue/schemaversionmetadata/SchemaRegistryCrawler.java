@@ -0,0 +1,641 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ListRegistriesRequest;
+import software.amazon.awssdk.services.glue.model.ListRegistriesResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
+import software.amazon.awssdk.services.glue.model.MetadataInfo;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.RegistryListItem;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.translateToCfnException;
+
+/**
+ * Inventories every registry, schema, schema version and schema version metadata entry of an
+ * account, making the same List calls as the ListHandlers of the four resource types.
+ *
+ * Each listed page is one unit of work. Every level of the graph lists its pages on its own
+ * bounded pool, so a registry with many schemas does not starve the versions of another. Entities
+ * are written to the output as one JSON line each as soon as their page is listed; only the
+ * frontier of pages still to list is kept in memory.
+ *
+ * The frontier is checkpointed to a local file while crawling and when a crawl fails. Crawling
+ * again with the same checkpoint resumes from it and appends to the output. Pages listed after
+ * the last checkpoint are listed again on resume, so the output holds every entity at least once.
+ * The checkpoint is deleted once a crawl completes.
+ */
+public class SchemaRegistryCrawler implements AutoCloseable {
+    private static final int MAX_RESULTS = 50;
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final Duration DEFAULT_CHECKPOINT_INTERVAL = Duration.ofSeconds(5L);
+
+    private final ProxyClient<GlueClient> proxyClient;
+    private final Logger logger;
+    private final Duration checkpointInterval;
+    private final Map<Level, ExecutorService> executors = new EnumMap<>(Level.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public SchemaRegistryCrawler(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger,
+        final int parallelism) {
+        this(proxyClient, logger, parallelism, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    SchemaRegistryCrawler(
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger,
+        final int parallelism,
+        final Duration checkpointInterval) {
+        this.proxyClient = proxyClient;
+        this.logger = logger;
+        this.checkpointInterval = checkpointInterval;
+        for (final Level level : Level.values()) {
+            executors.put(level, Executors.newFixedThreadPool(parallelism));
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SchemaRegistryCrawler <output.ndjson> <checkpoint.json> [parallelism]");
+            System.exit(2);
+        }
+        final int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PARALLELISM;
+
+        try (GlueClient glueClient = GlueClient.create()) {
+            final ProxyClient<GlueClient> proxyClient = new RetryingProxyClient(new SdkProxyClient(glueClient));
+            try (SchemaRegistryCrawler crawler =
+                     new SchemaRegistryCrawler(proxyClient, System.out::println, parallelism)) {
+                System.out.println(crawler.crawl(Paths.get(args[0]), Paths.get(args[1])));
+            }
+        }
+    }
+
+    /**
+     * Crawls the whole account, or resumes the crawl recorded in the checkpoint if there is one.
+     *
+     * @return how many entities of each level were written and how fast.
+     * @throws RuntimeException the first error a page failed with, after the checkpoint is written.
+     */
+    public Report crawl(
+        final Path output,
+        final Path checkpoint) throws IOException {
+
+        final long start = System.currentTimeMillis();
+        final List<Page> pages = readCheckpoint(checkpoint);
+        final boolean resuming = !pages.isEmpty();
+        if (resuming) {
+            logger.log(String.format("Resuming crawl from %d pages in %s.", pages.size(), checkpoint));
+        } else {
+            pages.add(new Page(Level.REGISTRIES, null, null));
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(
+            output,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            resuming ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            final Crawl crawl = new Crawl(writer, checkpoint);
+            crawl.run(pages);
+            Files.deleteIfExists(checkpoint);
+            return new Report(crawl.counts(), Duration.ofMillis(System.currentTimeMillis() - start));
+        }
+    }
+
+    @Override
+    public void close() {
+        for (final ExecutorService executor : executors.values()) {
+            executor.shutdownNow();
+        }
+    }
+
+    List<Page> readCheckpoint(final Path checkpoint) throws IOException {
+        final List<Page> pages = new ArrayList<>();
+        if (!Files.exists(checkpoint)) {
+            return pages;
+        }
+        for (final JsonNode page : objectMapper.readTree(checkpoint.toFile())) {
+            pages.add(
+                new Page(
+                    Level.valueOf(page.get("Level").asText()),
+                    textOrNull(page.get("Parent")),
+                    textOrNull(page.get("NextToken"))
+                )
+            );
+        }
+        return pages;
+    }
+
+    private List<Page> list(
+        final Page page,
+        final Crawl crawl) {
+
+        switch (page.level) {
+            case REGISTRIES:
+                return listRegistries(page, crawl);
+            case SCHEMAS:
+                return listSchemas(page, crawl);
+            case VERSIONS:
+                return listSchemaVersions(page, crawl);
+            default:
+                return queryMetadata(page, crawl);
+        }
+    }
+
+    private List<Page> listRegistries(
+        final Page page,
+        final Crawl crawl) {
+
+        final ListRegistriesRequest listRegistriesRequest =
+            ListRegistriesRequest
+                .builder()
+                .maxResults(MAX_RESULTS)
+                .nextToken(page.nextToken)
+                .build();
+
+        ListRegistriesResponse listRegistriesResponse = null;
+        try {
+            listRegistriesResponse =
+                proxyClient.injectCredentialsAndInvokeV2(listRegistriesRequest, proxyClient.client()::listRegistries);
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, null);
+        }
+
+        final List<Page> next = new ArrayList<>();
+        final List<ObjectNode> entities = new ArrayList<>();
+        for (final RegistryListItem registry : listRegistriesResponse.registries()) {
+            entities.add(
+                entity(Level.REGISTRIES)
+                    .put("RegistryName", registry.registryName())
+                    .put("RegistryArn", registry.registryArn())
+                    .put("Description", registry.description())
+                    .put("Status", registry.statusAsString())
+                    .put("CreatedTime", registry.createdTime())
+                    .put("UpdatedTime", registry.updatedTime())
+            );
+            next.add(new Page(Level.SCHEMAS, registry.registryName(), null));
+        }
+        crawl.write(Level.REGISTRIES, entities);
+        return withNextPage(next, page, listRegistriesResponse.nextToken());
+    }
+
+    private List<Page> listSchemas(
+        final Page page,
+        final Crawl crawl) {
+
+        final ListSchemasRequest listSchemasRequest =
+            ListSchemasRequest
+                .builder()
+                .registryId(RegistryId.builder().registryName(page.parent).build())
+                .maxResults(MAX_RESULTS)
+                .nextToken(page.nextToken)
+                .build();
+
+        ListSchemasResponse listSchemasResponse = null;
+        try {
+            listSchemasResponse =
+                proxyClient.injectCredentialsAndInvokeV2(listSchemasRequest, proxyClient.client()::listSchemas);
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, page.parent);
+        }
+
+        final List<Page> next = new ArrayList<>();
+        final List<ObjectNode> entities = new ArrayList<>();
+        for (final SchemaListItem schema : listSchemasResponse.schemas()) {
+            entities.add(
+                entity(Level.SCHEMAS)
+                    .put("RegistryName", schema.registryName())
+                    .put("SchemaName", schema.schemaName())
+                    .put("SchemaArn", schema.schemaArn())
+                    .put("Description", schema.description())
+                    .put("SchemaStatus", schema.schemaStatusAsString())
+                    .put("CreatedTime", schema.createdTime())
+                    .put("UpdatedTime", schema.updatedTime())
+            );
+            next.add(new Page(Level.VERSIONS, schema.schemaArn(), null));
+        }
+        crawl.write(Level.SCHEMAS, entities);
+        return withNextPage(next, page, listSchemasResponse.nextToken());
+    }
+
+    private List<Page> listSchemaVersions(
+        final Page page,
+        final Crawl crawl) {
+
+        final ListSchemaVersionsRequest listSchemaVersionsRequest =
+            ListSchemaVersionsRequest
+                .builder()
+                .schemaId(SchemaId.builder().schemaArn(page.parent).build())
+                .maxResults(MAX_RESULTS)
+                .nextToken(page.nextToken)
+                .build();
+
+        ListSchemaVersionsResponse listSchemaVersionsResponse = null;
+        try {
+            listSchemaVersionsResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    listSchemaVersionsRequest,
+                    proxyClient.client()::listSchemaVersions
+                );
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, page.parent);
+        }
+
+        final List<Page> next = new ArrayList<>();
+        final List<ObjectNode> entities = new ArrayList<>();
+        for (final SchemaVersionListItem version : listSchemaVersionsResponse.schemas()) {
+            entities.add(
+                entity(Level.VERSIONS)
+                    .put("SchemaArn", version.schemaArn())
+                    .put("SchemaVersionId", version.schemaVersionId())
+                    .put("VersionNumber", version.versionNumber())
+                    .put("Status", version.statusAsString())
+                    .put("CreatedTime", version.createdTime())
+            );
+            next.add(new Page(Level.METADATA, version.schemaVersionId(), null));
+        }
+        crawl.write(Level.VERSIONS, entities);
+        return withNextPage(next, page, listSchemaVersionsResponse.nextToken());
+    }
+
+    private List<Page> queryMetadata(
+        final Page page,
+        final Crawl crawl) {
+
+        final QuerySchemaVersionMetadataRequest querySchemaVersionMetadataRequest =
+            QuerySchemaVersionMetadataRequest
+                .builder()
+                .schemaVersionId(page.parent)
+                .maxResults(MAX_RESULTS)
+                .nextToken(page.nextToken)
+                .build();
+
+        QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse = null;
+        try {
+            querySchemaVersionMetadataResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    querySchemaVersionMetadataRequest,
+                    proxyClient.client()::querySchemaVersionMetadata
+                );
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, page.parent);
+        }
+
+        final List<ObjectNode> entities = new ArrayList<>();
+        if (querySchemaVersionMetadataResponse.hasMetadataInfoMap()) {
+            for (final Map.Entry<String, MetadataInfo> entry
+                : querySchemaVersionMetadataResponse.metadataInfoMap().entrySet()) {
+                entities.add(
+                    entity(Level.METADATA)
+                        .put("SchemaVersionId", page.parent)
+                        .put("Key", entry.getKey())
+                        .put("Value", entry.getValue().metadataValue())
+                );
+            }
+        }
+        crawl.write(Level.METADATA, entities);
+        return withNextPage(new ArrayList<>(), page, querySchemaVersionMetadataResponse.nextToken());
+    }
+
+    private ObjectNode entity(final Level level) {
+        return objectMapper.createObjectNode().put("Type", level.entityType);
+    }
+
+    private static List<Page> withNextPage(
+        final List<Page> next,
+        final Page page,
+        final String nextToken) {
+        if (nextToken != null) {
+            next.add(new Page(page.level, page.parent, nextToken));
+        }
+        return next;
+    }
+
+    private static String textOrNull(final JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    /**
+     * The levels of the registry graph, each listed by its own pool.
+     */
+    public enum Level {
+        REGISTRIES("Registry"),
+        SCHEMAS("Schema"),
+        VERSIONS("SchemaVersion"),
+        METADATA("SchemaVersionMetadata");
+
+        private final String entityType;
+
+        Level(final String entityType) {
+            this.entityType = entityType;
+        }
+    }
+
+    /**
+     * One page of a List call still to be made: the level it lists, the registry name, schema ARN
+     * or schema version ID it lists the children of, and its continuation token.
+     */
+    static final class Page {
+        private final Level level;
+        private final String parent;
+        private final String nextToken;
+
+        Page(
+            final Level level,
+            final String parent,
+            final String nextToken) {
+            this.level = level;
+            this.parent = parent;
+            this.nextToken = nextToken;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Page)) {
+                return false;
+            }
+            final Page page = (Page) o;
+            return level == page.level
+                && Objects.equals(parent, page.parent)
+                && Objects.equals(nextToken, page.nextToken);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(level, parent, nextToken);
+        }
+    }
+
+    /**
+     * State of one crawl: the output, the frontier and the counts. The frontier holds every page
+     * that is queued or being listed, and is only changed together with the checkpoint.
+     */
+    private final class Crawl {
+        private final BufferedWriter writer;
+        private final Path checkpoint;
+        private final Set<Page> frontier = new LinkedHashSet<>();
+        private final Map<Level, LongAdder> counts = new EnumMap<>(Level.class);
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final CompletableFuture<Void> settled = new CompletableFuture<>();
+        private long lastCheckpointMillis = System.currentTimeMillis();
+
+        private Crawl(
+            final BufferedWriter writer,
+            final Path checkpoint) {
+            this.writer = writer;
+            this.checkpoint = checkpoint;
+            for (final Level level : Level.values()) {
+                counts.put(level, new LongAdder());
+            }
+        }
+
+        private void run(final List<Page> pages) {
+            synchronized (this) {
+                frontier.addAll(pages);
+            }
+            submit(pages);
+            settled.join();
+
+            final RuntimeException error = failure.get();
+            if (error != null) {
+                synchronized (this) {
+                    writeCheckpoint();
+                    logger.log(String.format("Crawl failed with %d pages left in %s.", frontier.size(), checkpoint));
+                }
+                throw error;
+            }
+        }
+
+        private void submit(final List<Page> pages) {
+            outstanding.addAndGet(pages.size());
+            for (final Page page : pages) {
+                executors.get(page.level).execute(() -> visit(page));
+            }
+        }
+
+        /**
+         * Lists the page unless the crawl already failed, in which case the page stays in the
+         * frontier to be listed on resume.
+         */
+        private void visit(final Page page) {
+            try {
+                if (failure.get() == null) {
+                    final List<Page> next = list(page, this);
+                    synchronized (this) {
+                        frontier.remove(page);
+                        frontier.addAll(next);
+                        if (System.currentTimeMillis() - lastCheckpointMillis >= checkpointInterval.toMillis()) {
+                            writeCheckpoint();
+                        }
+                    }
+                    submit(next);
+                }
+            } catch (final RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                if (outstanding.decrementAndGet() == 0) {
+                    settled.complete(null);
+                }
+            }
+        }
+
+        private synchronized void write(
+            final Level level,
+            final List<ObjectNode> entities) {
+            try {
+                for (final ObjectNode entity : entities) {
+                    writer.write(entity.toString());
+                    writer.newLine();
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            counts.get(level).add(entities.size());
+        }
+
+        /**
+         * Flushes the output first so that the checkpoint never gets ahead of it, then replaces
+         * the checkpoint atomically so that an interrupted write leaves the previous one in place.
+         */
+        private void writeCheckpoint() {
+            final ArrayNode pages = objectMapper.createArrayNode();
+            for (final Page page : frontier) {
+                pages.addObject()
+                    .put("Level", page.level.name())
+                    .put("Parent", page.parent)
+                    .put("NextToken", page.nextToken);
+            }
+
+            try {
+                writer.flush();
+                final Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+                objectMapper.writeValue(temporary.toFile(), pages);
+                Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            lastCheckpointMillis = System.currentTimeMillis();
+        }
+
+        private Map<Level, Long> counts() {
+            final Map<Level, Long> totals = new EnumMap<>(Level.class);
+            for (final Map.Entry<Level, LongAdder> count : counts.entrySet()) {
+                totals.put(count.getKey(), count.getValue().sum());
+            }
+            return totals;
+        }
+    }
+
+    /**
+     * How many entities of each level a crawl wrote, and how fast.
+     */
+    public static final class Report {
+        private final Map<Level, Long> counts;
+        private final Duration elapsed;
+
+        Report(final Map<Level, Long> counts, final Duration elapsed) {
+            this.counts = Collections.unmodifiableMap(counts);
+            this.elapsed = elapsed;
+        }
+
+        public long getCount(final Level level) {
+            return counts.getOrDefault(level, 0L);
+        }
+
+        public long getEntities() {
+            long entities = 0;
+            for (final long count : counts.values()) {
+                entities += count;
+            }
+            return entities;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        public double getEntitiesPerSecond() {
+            return getEntities() * 1000.0 / Math.max(1L, elapsed.toMillis());
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%d entities in %s (%.2f entities/s): %d registries, %d schemas, %d versions, %d metadata.",
+                getEntities(),
+                elapsed,
+                getEntitiesPerSecond(),
+                getCount(Level.REGISTRIES),
+                getCount(Level.SCHEMAS),
+                getCount(Level.VERSIONS),
+                getCount(Level.METADATA));
+        }
+    }
+
+    /**
+     * Calls Glue directly with the client's own credentials, for running outside of a handler.
+     */
+    static final class SdkProxyClient implements ProxyClient<GlueClient> {
+        private final GlueClient glueClient;
+
+        SdkProxyClient(final GlueClient glueClient) {
+            this.glueClient = glueClient;
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public GlueClient client() {
+            return glueClient;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
+import org.junit.jupiter.api.extension.ExtendWith;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
@@ -15,6 +16,7 @@ import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
 
+@ExtendWith(GlueCallBudgetExtension.class)
 public class AbstractTestBase {
     protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy logger;
@@ -27,6 +29,7 @@ public class AbstractTestBase {
     static ProxyClient<GlueClient> MOCK_PROXY(
         final AmazonWebServicesClientProxy proxy,
         final GlueClient glueClient) {
+        GlueCallBudgetExtension.track(glueClient);
         return new ProxyClient<GlueClient>() {
             @Override
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
@@ -51,6 +51,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     }
 
     @Test
+    @GlueCallBudget(1)
     public void handleRequest_WhenMetadataCreationSucceeds_ReturnSuccess() {
 
         when(proxyClient.injectCredentialsAndInvokeV2(
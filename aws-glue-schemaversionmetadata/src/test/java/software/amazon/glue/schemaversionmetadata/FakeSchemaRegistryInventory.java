@@ -0,0 +1,165 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.InternalServiceException;
+import software.amazon.awssdk.services.glue.model.ListRegistriesRequest;
+import software.amazon.awssdk.services.glue.model.ListRegistriesResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
+import software.amazon.awssdk.services.glue.model.MetadataInfo;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.RegistryListItem;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only Schema Registry behind a GlueClient, with every level of the graph the same size and
+ * every List call returning pages of {@link #PAGE_SIZE} so that the crawler has to paginate.
+ *
+ * {@link #failQuery(int)} makes one QuerySchemaVersionMetadata call fail, to interrupt a crawl.
+ */
+final class FakeSchemaRegistryInventory implements InvocationHandler {
+    static final int PAGE_SIZE = 2;
+    private static final String ARN_PREFIX = "arn:aws:glue:us-east-1:123456789:";
+
+    private final int fanOut;
+    //Guarded by this.
+    private int queries;
+    private int failingQuery = -1;
+
+    private FakeSchemaRegistryInventory(final int fanOut) {
+        this.fanOut = fanOut;
+    }
+
+    /**
+     * @param fanOut how many registries there are, and how many children each entity has.
+     */
+    static FakeSchemaRegistryInventory create(final int fanOut) {
+        return new FakeSchemaRegistryInventory(fanOut);
+    }
+
+    GlueClient client() {
+        return (GlueClient) Proxy.newProxyInstance(
+            GlueClient.class.getClassLoader(),
+            new Class<?>[] {GlueClient.class},
+            this);
+    }
+
+    /**
+     * Makes the n-th QuerySchemaVersionMetadata call from now on fail once.
+     */
+    synchronized void failQuery(final int n) {
+        failingQuery = queries + n - 1;
+    }
+
+    int entities() {
+        return fanOut + fanOut * fanOut + fanOut * fanOut * fanOut + fanOut * fanOut * fanOut * fanOut;
+    }
+
+    @Override
+    public synchronized Object invoke(
+        final Object proxy,
+        final Method method,
+        final Object[] args) {
+
+        switch (method.getName()) {
+            case "serviceName":
+                return GlueClient.SERVICE_NAME;
+            case "close":
+                return null;
+            case "listRegistries":
+                return listRegistries((ListRegistriesRequest) args[0]);
+            case "listSchemas":
+                return listSchemas((ListSchemasRequest) args[0]);
+            case "listSchemaVersions":
+                return listSchemaVersions((ListSchemaVersionsRequest) args[0]);
+            case "querySchemaVersionMetadata":
+                return querySchemaVersionMetadata((QuerySchemaVersionMetadataRequest) args[0]);
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    private ListRegistriesResponse listRegistries(final ListRegistriesRequest request) {
+        final int offset = offset(request.nextToken());
+        final List<RegistryListItem> registries = new ArrayList<>();
+        for (int i = offset; i < end(offset); i++) {
+            final String registryName = "registry-" + i;
+            registries.add(RegistryListItem.builder()
+                .registryName(registryName)
+                .registryArn(ARN_PREFIX + "registry/" + registryName)
+                .build());
+        }
+        return ListRegistriesResponse.builder().registries(registries).nextToken(nextToken(offset)).build();
+    }
+
+    private ListSchemasResponse listSchemas(final ListSchemasRequest request) {
+        final String registryName = request.registryId().registryName();
+        final int offset = offset(request.nextToken());
+        final List<SchemaListItem> schemas = new ArrayList<>();
+        for (int i = offset; i < end(offset); i++) {
+            final String schemaName = "schema-" + i;
+            schemas.add(SchemaListItem.builder()
+                .registryName(registryName)
+                .schemaName(schemaName)
+                .schemaArn(ARN_PREFIX + "schema/" + registryName + "/" + schemaName)
+                .build());
+        }
+        return ListSchemasResponse.builder().schemas(schemas).nextToken(nextToken(offset)).build();
+    }
+
+    private ListSchemaVersionsResponse listSchemaVersions(final ListSchemaVersionsRequest request) {
+        final String schemaArn = request.schemaId().schemaArn();
+        final int offset = offset(request.nextToken());
+        final List<SchemaVersionListItem> versions = new ArrayList<>();
+        for (int i = offset; i < end(offset); i++) {
+            versions.add(SchemaVersionListItem.builder()
+                .schemaArn(schemaArn)
+                .schemaVersionId(schemaArn + "#" + (i + 1))
+                .versionNumber(i + 1L)
+                .build());
+        }
+        return ListSchemaVersionsResponse.builder().schemas(versions).nextToken(nextToken(offset)).build();
+    }
+
+    private QuerySchemaVersionMetadataResponse querySchemaVersionMetadata(
+        final QuerySchemaVersionMetadataRequest request) {
+        if (queries++ == failingQuery) {
+            throw InternalServiceException.builder().message("Internal service error").build();
+        }
+
+        final int offset = offset(request.nextToken());
+        final Map<String, MetadataInfo> metadata = new LinkedHashMap<>();
+        for (int i = offset; i < end(offset); i++) {
+            metadata.put("key-" + i, MetadataInfo.builder().metadataValue("value-" + i).build());
+        }
+        return QuerySchemaVersionMetadataResponse.builder()
+            .schemaVersionId(request.schemaVersionId())
+            .metadataInfoMap(metadata)
+            .nextToken(nextToken(offset))
+            .build();
+    }
+
+    private int end(final int offset) {
+        return Math.min(offset + PAGE_SIZE, fanOut);
+    }
+
+    private String nextToken(final int offset) {
+        return end(offset) < fanOut ? String.valueOf(end(offset)) : null;
+    }
+
+    private static int offset(final String nextToken) {
+        return nextToken == null ? 0 : Integer.parseInt(nextToken);
+    }
+}
@@ -0,0 +1,137 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.MetadataInfo;
+import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs many invocations of one shared handler instance at once, the way a warm Lambda container
+ * may be reused, and checks that no invocation logs through another invocation's logger.
+ */
+public class HandlerConcurrencyTest extends AbstractTestBase {
+
+    @Test
+    public void handleRequest_WhenSharedAcrossThreads_AttributesResultsAndLogsToTheirInvocation()
+        throws Exception {
+        final GlueClient glueClient = mock(GlueClient.class);
+        when(glueClient.querySchemaVersionMetadata(any(QuerySchemaVersionMetadataRequest.class)))
+            .thenAnswer(invocation -> TestData.querySchemaVersionMetadataResponse(
+                invocation.getArgument(0, QuerySchemaVersionMetadataRequest.class)));
+        final ReadHandler handler = new ReadHandler();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(TestData.THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Invocation>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < TestData.INVOCATIONS; i++) {
+                final int index = i % TestData.VERSIONS;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return Invocation.run(handler, glueClient, index);
+                }));
+            }
+            start.countDown();
+
+            for (final Future<Invocation> future : futures) {
+                final Invocation invocation = future.get(30, TimeUnit.SECONDS);
+                final String name = TestData.name(invocation.index);
+
+                assertThat(invocation.event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+                assertThat(invocation.event.getResourceModel().getSchemaVersionId()).isEqualTo(name);
+                assertThat(invocation.event.getResourceModel().getValue()).isEqualTo(name);
+                assertThat(invocation.lines)
+                    .anyMatch(line -> line.contains("for " + name + " has successfully been read."));
+                assertThat(invocation.lines)
+                    .filteredOn(line -> line.contains(TestData.NAME_PREFIX))
+                    .allMatch(line -> line.contains(name), "only mention " + name);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * One invocation with its own proxy, callback context and logger, as the handler wrapper sets up.
+     */
+    private static final class Invocation {
+        private final int index;
+        private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        private ProgressEvent<ResourceModel, CallbackContext> event;
+
+        private Invocation(final int index) {
+            this.index = index;
+        }
+
+        private static Invocation run(
+            final ReadHandler handler,
+            final GlueClient glueClient,
+            final int index) {
+            final Invocation invocation = new Invocation(index);
+            final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+                invocation.lines::add, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+            invocation.event = handler.handleRequest(
+                proxy,
+                TestData.request(index),
+                new CallbackContext(),
+                MOCK_PROXY(proxy, glueClient),
+                invocation.lines::add);
+            return invocation;
+        }
+    }
+
+    private static class TestData {
+        private static final String NAME_PREFIX = "version-";
+        private static final int VERSIONS = 64;
+        private static final int INVOCATIONS = 512;
+        private static final int THREADS = 32;
+        private static final String KEY = "owner";
+
+        //Zero padded, so that no name contains another.
+        private static String name(final int index) {
+            return String.format("%s%03d", NAME_PREFIX, index);
+        }
+
+        private static ResourceHandlerRequest<ResourceModel> request(final int index) {
+            return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                    .schemaVersionId(name(index))
+                    .key(KEY)
+                    .value(name(index))
+                    .build())
+                .build();
+        }
+
+        private static QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse(
+            final QuerySchemaVersionMetadataRequest request) {
+            final MetadataKeyValuePair metadata = request.metadataList().get(0);
+            return QuerySchemaVersionMetadataResponse.builder()
+                .schemaVersionId(request.schemaVersionId())
+                .metadataInfoMap(Collections.singletonMap(
+                    metadata.metadataKey(),
+                    MetadataInfo.builder().metadataValue(metadata.metadataValue()).build()))
+                .build();
+        }
+    }
+}
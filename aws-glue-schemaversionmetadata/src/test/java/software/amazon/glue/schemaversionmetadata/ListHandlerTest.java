@@ -9,10 +9,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.InternalServiceException;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
 import software.amazon.awssdk.services.glue.model.MetadataInfo;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -20,6 +25,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -109,6 +115,190 @@ public class ListHandlerTest extends AbstractTestBase {
             .contains("Error occurred during operation ");
     }
 
+    @Test
+    public void handleRequest_WhenSchemaIsGiven_ReturnsMetadataOfAllVersionsInPage() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            SchemaTestData.LIST_SCHEMA_VERSIONS_REQUEST, glueClient::listSchemaVersions))
+            .thenReturn(SchemaTestData.LIST_SCHEMA_VERSIONS_RESPONSE);
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            SchemaTestData.queryRequest(SchemaTestData.VERSION_ID_1, null), glueClient::querySchemaVersionMetadata))
+            .thenReturn(SchemaTestData.queryResponse(SchemaTestData.VERSION_ID_1, "k1", SchemaTestData.METADATA_TOKEN));
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            SchemaTestData.queryRequest(SchemaTestData.VERSION_ID_1, SchemaTestData.METADATA_TOKEN),
+            glueClient::querySchemaVersionMetadata))
+            .thenReturn(SchemaTestData.queryResponse(SchemaTestData.VERSION_ID_1, "k2", null));
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            SchemaTestData.queryRequest(SchemaTestData.VERSION_ID_2, null), glueClient::querySchemaVersionMetadata))
+            .thenReturn(SchemaTestData.queryResponse(SchemaTestData.VERSION_ID_2, "k3", null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, SchemaTestData.resourceHandlerRequest(null), new CallbackContext(),
+                proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(
+            SchemaTestData.model(SchemaTestData.VERSION_ID_1, "k1"),
+            SchemaTestData.model(SchemaTestData.VERSION_ID_1, "k2"),
+            SchemaTestData.model(SchemaTestData.VERSION_ID_2, "k3"));
+        assertThat(response.getNextToken())
+            .isEqualTo(SchemaMetadataEnumerator.encode(SchemaTestData.VERSIONS_TOKEN, 0));
+    }
+
+    @Test
+    public void handleRequest_WhenResumingFromCompositeToken_SkipsQueriedVersions() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            SchemaTestData.LIST_SCHEMA_VERSIONS_REQUEST, glueClient::listSchemaVersions))
+            .thenReturn(SchemaTestData.LIST_SCHEMA_VERSIONS_RESPONSE);
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            SchemaTestData.queryRequest(SchemaTestData.VERSION_ID_2, null), glueClient::querySchemaVersionMetadata))
+            .thenReturn(SchemaTestData.queryResponse(SchemaTestData.VERSION_ID_2, "k3", null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy,
+                SchemaTestData.resourceHandlerRequest(SchemaMetadataEnumerator.encode(null, 1)),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels())
+            .containsExactly(SchemaTestData.model(SchemaTestData.VERSION_ID_2, "k3"));
+        assertThat(response.getNextToken())
+            .isEqualTo(SchemaMetadataEnumerator.encode(SchemaTestData.VERSIONS_TOKEN, 0));
+    }
+
+    @Test
+    public void enumerate_WhenTimeBudgetIsExhausted_ReturnsPartialPageWithOffsetToken() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            SchemaTestData.LIST_SCHEMA_VERSIONS_REQUEST, glueClient::listSchemaVersions))
+            .thenReturn(SchemaTestData.LIST_SCHEMA_VERSIONS_RESPONSE);
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            SchemaTestData.queryRequest(SchemaTestData.VERSION_ID_1, null), glueClient::querySchemaVersionMetadata))
+            .thenReturn(SchemaTestData.queryResponse(SchemaTestData.VERSION_ID_1, "k1", null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            new SchemaMetadataEnumerator(proxyClient, logger, 1, Duration.ZERO)
+                .enumerate(SchemaTestData.SCHEMA, null);
+
+        assertThat(response.getResourceModels())
+            .containsExactly(SchemaTestData.model(SchemaTestData.VERSION_ID_1, "k1"));
+        assertThat(response.getNextToken()).isEqualTo(SchemaMetadataEnumerator.encode(null, 1));
+    }
+
+    @Test
+    public void handleRequest_WhenCompositeTokenIsMalformed_ThrowsException() {
+
+        assertThrows(
+            CfnInvalidRequestException.class,
+            () -> handler.handleRequest(proxy, SchemaTestData.resourceHandlerRequest("%%%"),
+                new CallbackContext(), proxyClient, logger)
+        );
+    }
+
+    @Test
+    public void handleRequest_WhenCompositeTokenOffsetIsNegative_ThrowsException() {
+
+        assertThrows(
+            CfnInvalidRequestException.class,
+            () -> handler.handleRequest(proxy,
+                SchemaTestData.resourceHandlerRequest(SchemaMetadataEnumerator.encode(null, -1)),
+                new CallbackContext(), proxyClient, logger)
+        );
+    }
+
+    @Test
+    public void handleRequest_WhenCompositeTokenOffsetIsPastPage_ThrowsException() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            SchemaTestData.LIST_SCHEMA_VERSIONS_REQUEST, glueClient::listSchemaVersions))
+            .thenReturn(SchemaTestData.LIST_SCHEMA_VERSIONS_RESPONSE);
+
+        assertThrows(
+            CfnInvalidRequestException.class,
+            () -> handler.handleRequest(proxy,
+                SchemaTestData.resourceHandlerRequest(SchemaMetadataEnumerator.encode(null, 3)),
+                new CallbackContext(), proxyClient, logger)
+        );
+    }
+
+    private static class SchemaTestData {
+        private static final String SCHEMA_ARN =
+            "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+        private static final String VERSION_ID_1 = "6eff3f2b-89c0-40ea-a268-9eb34b9cdd2d";
+        private static final String VERSION_ID_2 = "7fff3f2b-89c0-40ea-a268-9eb34b9cdd2e";
+        private static final String VERSIONS_TOKEN = "versions-token";
+        private static final String METADATA_TOKEN = "metadata-token";
+
+        private static final Schema SCHEMA =
+            Schema
+                .builder()
+                .schemaArn(SCHEMA_ARN)
+                .build();
+
+        private static final ListSchemaVersionsRequest LIST_SCHEMA_VERSIONS_REQUEST =
+            ListSchemaVersionsRequest
+                .builder()
+                .schemaId(
+                    SchemaId
+                        .builder()
+                        .schemaArn(SCHEMA_ARN)
+                        .build()
+                )
+                .maxResults(50)
+                .build();
+
+        private static final ListSchemaVersionsResponse LIST_SCHEMA_VERSIONS_RESPONSE =
+            ListSchemaVersionsResponse
+                .builder()
+                .schemas(
+                    SchemaVersionListItem.builder().schemaArn(SCHEMA_ARN).schemaVersionId(VERSION_ID_1).build(),
+                    SchemaVersionListItem.builder().schemaArn(SCHEMA_ARN).schemaVersionId(VERSION_ID_2).build()
+                )
+                .nextToken(VERSIONS_TOKEN)
+                .build();
+
+        private static ResourceHandlerRequest<ResourceModel> resourceHandlerRequest(final String nextToken) {
+            return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().schema(SCHEMA).build())
+                .nextToken(nextToken)
+                .build();
+        }
+
+        private static QuerySchemaVersionMetadataRequest queryRequest(
+            final String versionId,
+            final String nextToken) {
+            return QuerySchemaVersionMetadataRequest
+                .builder()
+                .schemaVersionId(versionId)
+                .maxResults(50)
+                .nextToken(nextToken)
+                .build();
+        }
+
+        private static QuerySchemaVersionMetadataResponse queryResponse(
+            final String versionId,
+            final String key,
+            final String nextToken) {
+            return QuerySchemaVersionMetadataResponse
+                .builder()
+                .schemaVersionId(versionId)
+                .metadataInfoMap(ImmutableMap.of(key, MetadataInfo.builder().metadataValue(key + "-value").build()))
+                .nextToken(nextToken)
+                .build();
+        }
+
+        private static ResourceModel model(final String versionId, final String key) {
+            return ResourceModel
+                .builder()
+                .schemaVersionId(versionId)
+                .key(key)
+                .value(key + "-value")
+                .build();
+        }
+    }
+
     private static class TestData {
         public final static String SCHEMA_VERSION_ID = "yurt9301-dc50-11ea-87d0-8iofb18nkrp8";
         private static final String METADATA_KEY_1 = "META_KEY_1";
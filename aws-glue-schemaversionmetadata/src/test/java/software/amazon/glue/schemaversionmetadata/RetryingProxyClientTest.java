@@ -0,0 +1,178 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateRegistryResponse;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.InternalServiceException;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RetryingProxyClientTest extends AbstractTestBase {
+
+    @Mock
+    private ProxyClient<GlueClient> delegate;
+
+    @Mock
+    private GlueClient glueClient;
+
+    @Test
+    public void invoke_WhenRetryableErrorClears_ReturnsResponse() {
+        when(delegate.injectCredentialsAndInvokeV2(eq(TestData.GET_REGISTRY_REQUEST), any()))
+            .thenThrow(InternalServiceException.builder().message("Internal failure").build())
+            .thenReturn(TestData.GET_REGISTRY_RESPONSE);
+
+        final GetRegistryResponse response =
+            new RetryingProxyClient(delegate)
+                .injectCredentialsAndInvokeV2(TestData.GET_REGISTRY_REQUEST, glueClient::getRegistry);
+
+        assertThat(response).isEqualTo(TestData.GET_REGISTRY_RESPONSE);
+        verify(delegate, times(2)).injectCredentialsAndInvokeV2(eq(TestData.GET_REGISTRY_REQUEST), any());
+    }
+
+    @Test
+    public void invoke_WhenErrorIsTerminal_DoesNotRetry() {
+        when(delegate.injectCredentialsAndInvokeV2(eq(TestData.GET_REGISTRY_REQUEST), any()))
+            .thenThrow(EntityNotFoundException.builder().message("Not found").build());
+
+        final RetryingProxyClient proxyClient = new RetryingProxyClient(delegate);
+        assertThrows(EntityNotFoundException.class,
+            () -> proxyClient.injectCredentialsAndInvokeV2(TestData.GET_REGISTRY_REQUEST, glueClient::getRegistry));
+
+        verify(delegate, times(1)).injectCredentialsAndInvokeV2(eq(TestData.GET_REGISTRY_REQUEST), any());
+    }
+
+    @Test
+    public void invoke_WhenCallIsNotIdempotent_DoesNotRetryInternalError() {
+        when(delegate.injectCredentialsAndInvokeV2(eq(TestData.CREATE_REGISTRY_REQUEST), any()))
+            .thenThrow(InternalServiceException.builder().message("Internal failure").build());
+
+        final RetryingProxyClient proxyClient = new RetryingProxyClient(delegate);
+        assertThrows(InternalServiceException.class,
+            () -> proxyClient
+                .injectCredentialsAndInvokeV2(TestData.CREATE_REGISTRY_REQUEST, glueClient::createRegistry));
+
+        verify(delegate, times(1)).injectCredentialsAndInvokeV2(eq(TestData.CREATE_REGISTRY_REQUEST), any());
+    }
+
+    @Test
+    public void invoke_WhenCallIsNotIdempotent_RetriesThrottling() {
+        when(delegate.injectCredentialsAndInvokeV2(eq(TestData.CREATE_REGISTRY_REQUEST), any()))
+            .thenThrow(TestData.THROTTLING_EXCEPTION)
+            .thenReturn(TestData.CREATE_REGISTRY_RESPONSE);
+
+        final CreateRegistryResponse response =
+            new RetryingProxyClient(delegate)
+                .injectCredentialsAndInvokeV2(TestData.CREATE_REGISTRY_REQUEST, glueClient::createRegistry);
+
+        assertThat(response).isEqualTo(TestData.CREATE_REGISTRY_RESPONSE);
+        verify(delegate, times(2)).injectCredentialsAndInvokeV2(eq(TestData.CREATE_REGISTRY_REQUEST), any());
+    }
+
+    @Test
+    public void invoke_WhenBudgetIsExhausted_RethrowsRetryableError() {
+        when(delegate.injectCredentialsAndInvokeV2(eq(TestData.GET_REGISTRY_REQUEST), any()))
+            .thenThrow(TestData.THROTTLING_EXCEPTION);
+
+        final RetryingProxyClient proxyClient = new RetryingProxyClient(delegate, Duration.ZERO);
+        assertThrows(AwsServiceException.class,
+            () -> proxyClient.injectCredentialsAndInvokeV2(TestData.GET_REGISTRY_REQUEST, glueClient::getRegistry));
+
+        verify(delegate, times(1)).injectCredentialsAndInvokeV2(eq(TestData.GET_REGISTRY_REQUEST), any());
+    }
+
+    @Test
+    public void classify_UsesErrorCodeBeforeExceptionName() {
+        assertThat(ErrorClassifier.classify(TestData.THROTTLING_EXCEPTION).getHandlerErrorCode())
+            .isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(ErrorClassifier.classify(InternalServiceException.builder().build()).isRetryable())
+            .isTrue();
+        assertThat(ErrorClassifier.classify("SomethingUnexpected"))
+            .isSameAs(ErrorClassifier.UNCLASSIFIED);
+        assertThat(ErrorClassifier.classify("NotFound"))
+            .isSameAs(ErrorClassifier.UNCLASSIFIED);
+        assertThat(ErrorClassifier.classify("AccessDenied"))
+            .isSameAs(ErrorClassifier.UNCLASSIFIED);
+        assertThat(ErrorClassifier.classify((String) null))
+            .isSameAs(ErrorClassifier.UNCLASSIFIED);
+    }
+
+    @Test
+    public void invoke_WhenCallIsNotSynchronous_DelegatesUnchanged() {
+        final RetryingProxyClient proxyClient = new RetryingProxyClient(delegate);
+
+        proxyClient.injectCredentialsAndInvokeV2Async(TestData.GET_REGISTRY_REQUEST, request -> null);
+        proxyClient.injectCredentialsAndInvokeIterableV2(TestData.GET_REGISTRY_REQUEST, request -> null);
+        proxyClient.injectCredentialsAndInvokeV2InputStream(TestData.GET_REGISTRY_REQUEST, request -> null);
+        proxyClient.injectCredentialsAndInvokeV2Bytes(TestData.GET_REGISTRY_REQUEST, request -> null);
+        proxyClient.client();
+
+        verify(delegate).injectCredentialsAndInvokeV2Async(eq(TestData.GET_REGISTRY_REQUEST), any());
+        verify(delegate).injectCredentialsAndInvokeIterableV2(eq(TestData.GET_REGISTRY_REQUEST), any());
+        verify(delegate).injectCredentialsAndInvokeV2InputStream(eq(TestData.GET_REGISTRY_REQUEST), any());
+        verify(delegate).injectCredentialsAndInvokeV2Bytes(eq(TestData.GET_REGISTRY_REQUEST), any());
+        verify(delegate).client();
+    }
+
+    private static class TestData {
+        private static final GetRegistryRequest GET_REGISTRY_REQUEST =
+            GetRegistryRequest
+                .builder()
+                .registryId(
+                    RegistryId
+                        .builder()
+                        .registryName("unit-testing-registry")
+                        .build()
+                )
+                .build();
+
+        private static final GetRegistryResponse GET_REGISTRY_RESPONSE =
+            GetRegistryResponse
+                .builder()
+                .registryName("unit-testing-registry")
+                .build();
+
+        private static final CreateRegistryRequest CREATE_REGISTRY_REQUEST =
+            CreateRegistryRequest
+                .builder()
+                .registryName("unit-testing-registry")
+                .build();
+
+        private static final CreateRegistryResponse CREATE_REGISTRY_RESPONSE =
+            CreateRegistryResponse
+                .builder()
+                .registryName("unit-testing-registry")
+                .build();
+
+        private static final AwsServiceException THROTTLING_EXCEPTION =
+            AwsServiceException
+                .builder()
+                .awsErrorDetails(
+                    AwsErrorDetails
+                        .builder()
+                        .errorCode("ThrottlingException")
+                        .build()
+                )
+                .build();
+    }
+}
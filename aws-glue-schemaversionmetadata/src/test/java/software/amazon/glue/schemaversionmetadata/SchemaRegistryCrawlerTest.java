@@ -0,0 +1,100 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SchemaRegistryCrawlerTest extends AbstractTestBase {
+    private static final int FAN_OUT = 3;
+
+    private FakeSchemaRegistryInventory inventory;
+    private SchemaRegistryCrawler crawler;
+    private Path output;
+    private Path checkpoint;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setup() {
+        inventory = FakeSchemaRegistryInventory.create(FAN_OUT);
+        crawler = new SchemaRegistryCrawler(
+            new SchemaRegistryCrawler.SdkProxyClient(inventory.client()),
+            logger,
+            4,
+            Duration.ZERO
+        );
+        output = tempDir.resolve("inventory.ndjson");
+        checkpoint = tempDir.resolve("checkpoint.json");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        crawler.close();
+    }
+
+    @Test
+    public void crawl_WritesEveryEntityOnce() throws IOException {
+        final SchemaRegistryCrawler.Report report = crawler.crawl(output, checkpoint);
+
+        final List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(inventory.entities());
+        assertThat(new HashSet<>(lines)).hasSize(inventory.entities());
+        assertThat(report.getEntities()).isEqualTo(inventory.entities());
+        assertThat(report.getCount(SchemaRegistryCrawler.Level.REGISTRIES)).isEqualTo(FAN_OUT);
+        assertThat(report.getCount(SchemaRegistryCrawler.Level.METADATA))
+            .isEqualTo(FAN_OUT * FAN_OUT * FAN_OUT * FAN_OUT);
+        assertThat(report.getEntitiesPerSecond()).isPositive();
+        assertThat(checkpoint).doesNotExist();
+    }
+
+    @Test
+    public void crawl_WritesOneJsonObjectPerEntity() throws IOException {
+        crawler.crawl(output, checkpoint);
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final Set<String> types = new HashSet<>();
+        for (final String line : Files.readAllLines(output, StandardCharsets.UTF_8)) {
+            final JsonNode entity = objectMapper.readTree(line);
+            types.add(entity.get("Type").asText());
+            if ("SchemaVersionMetadata".equals(entity.get("Type").asText())) {
+                assertThat(entity.get("SchemaVersionId").asText()).contains("#");
+                assertThat(entity.get("Value").asText()).startsWith("value-");
+            }
+        }
+        assertThat(types).containsExactlyInAnyOrder("Registry", "Schema", "SchemaVersion", "SchemaVersionMetadata");
+    }
+
+    @Test
+    public void crawl_WhenInterrupted_ResumesFromCheckpoint() throws IOException {
+        inventory.failQuery(10);
+        assertThrows(RuntimeException.class, () -> crawler.crawl(output, checkpoint));
+        assertThat(checkpoint).exists();
+
+        final SchemaRegistryCrawler.Report report = crawler.crawl(output, checkpoint);
+
+        assertThat(new HashSet<>(Files.readAllLines(output, StandardCharsets.UTF_8))).hasSize(inventory.entities());
+        assertThat(report.getEntities()).isLessThan(inventory.entities());
+        assertThat(checkpoint).doesNotExist();
+    }
+
+    @Test
+    public void readCheckpoint_WhenThereIsNone_ReturnsNoPages() throws IOException {
+        assertThat(crawler.readCheckpoint(checkpoint)).isEmpty();
+    }
+}
@@ -0,0 +1,116 @@
+package software.amazon.glue.trigger;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.Trigger;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares detecting drift with one ReadHandler call per trigger against the TriggerDriftDetector,
+ * both against a local fake Glue that answers every call after {@link #latencyMillis}. The fake
+ * stands in for the service round trip, which is what the batch engine saves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class TriggerDriftBenchmark {
+    private static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+
+    @Param({"100", "1000"})
+    private int triggerCount;
+
+    @Param({"1"})
+    private int latencyMillis;
+
+    private final LoggerProxy logger = new LoggerProxy();
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<GlueClient> proxyClient;
+    private ReadHandler readHandler;
+    private TriggerDriftDetector detector;
+    private List<ResourceModel> desiredModels;
+
+    @Setup
+    public void setup() {
+        System.setProperty("aws.region", REGION);
+        final Map<String, String> tags = ImmutableMap.of("team", "data-platform");
+        final FakeGlueTriggerClient glue = FakeGlueTriggerClient.create(Duration.ofMillis(latencyMillis));
+
+        desiredModels = new ArrayList<>(triggerCount);
+        for (int i = 0; i < triggerCount; i++) {
+            final String name = "trigger-" + i;
+            glue.put(Trigger.builder()
+                    .name(name)
+                    .type("ON_DEMAND")
+                    .actions(software.amazon.awssdk.services.glue.model.Action.builder().jobName("job").build())
+                    .build(), tags);
+            desiredModels.add(ResourceModel.builder()
+                    .name(name)
+                    .type("ON_DEMAND")
+                    .actions(Collections.singletonList(Action.builder().jobName("job").build()))
+                    .tags(ImmutableMap.<String, Object>copyOf(tags))
+                    .build());
+        }
+
+        proxy = new AmazonWebServicesClientProxy(
+                logger,
+                new Credentials("accessKey", "secretKey", "token"),
+                () -> Duration.ofMinutes(10).toMillis());
+        proxyClient = AbstractTestBase.MOCK_PROXY(proxy, glue.client());
+        readHandler = new ReadHandler();
+        detector = new TriggerDriftDetector(proxyClient, logger, REGION, ACCOUNT_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        detector.close();
+    }
+
+    @Benchmark
+    public List<TriggerDriftDetector.Drift> readEach() {
+        final List<TriggerDriftDetector.Drift> drifts = new ArrayList<>(desiredModels.size());
+        for (final ResourceModel desired : desiredModels) {
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(desired)
+                    .region(REGION)
+                    .awsAccountId(ACCOUNT_ID)
+                    .build();
+            final ProgressEvent<ResourceModel, CallbackContext> event =
+                    readHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            drifts.add(TriggerDriftDetector.compare(desired, event.getResourceModel()));
+        }
+        return drifts;
+    }
+
+    @Benchmark
+    public List<TriggerDriftDetector.Drift> detectBatch() {
+        return detector.detect(desiredModels);
+    }
+}
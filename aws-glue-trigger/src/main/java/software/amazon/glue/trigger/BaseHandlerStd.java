@@ -77,13 +77,27 @@ public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(this::getGlueClient),
-                logger
-        );
+        final HandlerLogger handlerLogger = HandlerLogger.of(logger);
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final HandlerTracer tracer = HandlerTracer.start(getClass().getSimpleName(), context);
+        final GlueClientMetrics metrics = GlueClientMetrics.forInvocation();
+        ProgressEvent<ResourceModel, CallbackContext> result = null;
+        try {
+            result = handleRequest(
+                    proxy,
+                    request,
+                    context,
+                    new RetryingProxyClient(tracer.traceCalls(metrics.attachTo(
+                            GlueTrafficRecorder.recordIfEnabled(proxy.newProxy(this::getGlueClient))))),
+                    handlerLogger
+            );
+            return result;
+        } finally {
+            tracer.finish(result == null ? "EXCEPTION" : String.valueOf(result.getStatus()));
+            handlerLogger.logDroppedLines();
+            //EMF lines are written as they are, whatever the log level.
+            metrics.drain(getClass().getSimpleName()).ifPresent(logger::log);
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -95,6 +109,7 @@ public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
 
     /**
      * Base Function for handling errors from all the other handlers.
+     * Retryable errors get here only after {@link RetryingProxyClient} gave up on them.
      * @param request
      * @param logger
      * @param e
@@ -113,35 +128,48 @@ public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
 
         String errorMessage = getErrorCode(e);
 
-        logger.log(String.format("[ERROR] Failed Request: %s, Error Message: %s", request, errorMessage));
+        final HandlerLogger handlerLogger = HandlerLogger.of(logger);
+        handlerLogger.error(() -> String.format("[ERROR] Failed Request: %s, Error Message: %s",
+                HandlerLogger.truncate(request), errorMessage));
 
         BaseHandlerException ex;
 
-        if (ENTITY_NOT_FOUND_EXCEPTION.equals(errorMessage) || NOT_FOUND.equals(errorMessage )) {
-            ex = new CfnNotFoundException(e);
-        } else if (ACCESS_DENIED_EXCEPTION.equals(errorMessage) || NOT_AUTHORIZED_EXCEPTION.equals(errorMessage)) {
-            ex  = new CfnAccessDeniedException(e);
-        } else if (INVALID_INPUT_EXCEPTION.equals(errorMessage)) {
-            ex = new CfnInvalidRequestException(e);
-        } else if (INTERNAL_SERVICE_EXCEPTION.equals(errorMessage) || SERVICE_INTERNAL_ERROR.equals(errorMessage)) {
-            ex = new CfnServiceInternalErrorException(e);
-        } else if (OPERATION_TIMEOUT_EXCEPTION.equals(errorMessage)) {
-            ex = new CfnThrottlingException(e);
-            logger.log(String.format("Error during operation: %s, Error message: %s", this.getClass().getSimpleName(), e.getMessage()));
-            return ProgressEvent.failed(resourceModel, callbackContext, ex.getErrorCode(), ex.getMessage());
-        } else if (IDEMPOTENT_PARAMETER_MISMATCH_EXCEPTION.equals(errorMessage)) {
-            ex = new CfnAlreadyExistsException(e);
-        } else if (RESOURCE_NUMBER_LIMIT_EXCEEDED_EXCEPTION.equals(errorMessage)) {
-            ex = new CfnServiceLimitExceededException(e);
-        } else if (CONCURRENT_MODIFICATION_EXCEPTION.equals(errorMessage)) {
-            ex = new CfnNotUpdatableException(e);
-        } else if (errorMessage.contains(INVALID_STATE_MSG)) {
-            ex = new CfnNotStabilizedException(e);
-        }else if (ALREADY_EXISTS_EXCEPTION.equals(errorMessage) || ALREADY_EXISTS.equals(errorMessage)) {
-            ex = new CfnAlreadyExistsException(e);
-            return ProgressEvent.failed(null, null, ex.getErrorCode(), ex.getMessage());
-        } else {
-            ex = new CfnGeneralServiceException(e);
+        switch (ErrorClassifier.classify(errorMessage).getHandlerErrorCode()) {
+            case NotFound:
+                ex = new CfnNotFoundException(e);
+                break;
+            case AccessDenied:
+                ex = new CfnAccessDeniedException(e);
+                break;
+            case InvalidRequest:
+                ex = new CfnInvalidRequestException(e);
+                break;
+            case ServiceInternalError:
+                ex = new CfnServiceInternalErrorException(e);
+                break;
+            case Throttling:
+                ex = new CfnThrottlingException(e);
+                handlerLogger.error(() -> String.format("Error during operation: %s, Error message: %s",
+                        this.getClass().getSimpleName(), e.getMessage()));
+                return ProgressEvent.failed(resourceModel, callbackContext, ex.getErrorCode(), ex.getMessage());
+            case ServiceLimitExceeded:
+                ex = new CfnServiceLimitExceededException(e);
+                break;
+            case ResourceConflict:
+                ex = new CfnNotUpdatableException(e);
+                break;
+            case AlreadyExists:
+                ex = new CfnAlreadyExistsException(e);
+                if (ALREADY_EXISTS_EXCEPTION.equals(errorMessage) || ALREADY_EXISTS.equals(errorMessage)) {
+                    return ProgressEvent.failed(null, null, ex.getErrorCode(), ex.getMessage());
+                }
+                break;
+            default:
+                if (errorMessage != null && errorMessage.contains(INVALID_STATE_MSG)) {
+                    ex = new CfnNotStabilizedException(e);
+                } else {
+                    ex = new CfnGeneralServiceException(e);
+                }
         }
         if (e instanceof AwsServiceException) {
             AwsErrorDetails error = ((AwsServiceException) e).awsErrorDetails();
@@ -17,4 +17,11 @@ public class CallbackContext extends StdCallbackContext {
 
     boolean preExistenceCheckDone = false;
     boolean deletePreExistenceCheckDone = false;
+
+    //Counted by HandlerLogger#sampled, so that poll lines are sampled across callbacks.
+    int sampledLogLines = 0;
+
+    //Set by HandlerTracer, so that every callback of an operation appends to the same trace.
+    String traceId;
+    int traceInvocations = 0;
 }
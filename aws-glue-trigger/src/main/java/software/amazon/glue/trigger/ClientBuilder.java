@@ -1,40 +1,34 @@
 package software.amazon.glue.trigger;
 
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
-import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
 import software.amazon.awssdk.core.retry.RetryPolicy;
-import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
-import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.cloudformation.AbstractWrapper;
 
-import java.time.Duration;
-
 public class ClientBuilder {
     private ClientBuilder() {
         throw new IllegalStateException("Utility class");
     }
 
-    private static final BackoffStrategy GLUE_CLIENT_BACKOFF_THROTTLING_STRATEGY =
-            EqualJitterBackoffStrategy.builder()
-                    .baseDelay(Duration.ofMillis(2000)) // 1st retry is ~2 sec
-                    .maxBackoffTime(SdkDefaultRetrySetting.MAX_BACKOFF) // default is 20s
-                    .build();
-
+    //Glue errors are retried by RetryingProxyClient. The SDK only retries calls that got no response.
     private static final RetryPolicy GLUE_CLIENT_RETRY_POLICY =
             RetryPolicy.builder()
-                    .numRetries(4)
-                    .retryCondition(RetryCondition.defaultRetryCondition())
-                    .throttlingBackoffStrategy(GLUE_CLIENT_BACKOFF_THROTTLING_STRATEGY)
+                    .retryCondition(context ->
+                            !(context.exception() instanceof AwsServiceException)
+                                    && RetryCondition.defaultRetryCondition().shouldRetry(context))
                     .build();
 
     public static GlueClient getClient() {
+        final ClientOverrideConfiguration.Builder overrideConfiguration = ClientOverrideConfiguration.builder()
+                .retryPolicy(GLUE_CLIENT_RETRY_POLICY);
+        //Opt-in, since the SDK only collects metrics when a publisher is attached.
+        GlueClientMetrics.publisherIfEnabled().ifPresent(overrideConfiguration::addMetricPublisher);
+
         return GlueClient.builder()
                 .httpClient(AbstractWrapper.HTTP_CLIENT)
-                .overrideConfiguration(ClientOverrideConfiguration.builder()
-                        .retryPolicy(GLUE_CLIENT_RETRY_POLICY)
-                        .build())
+                .overrideConfiguration(overrideConfiguration.build())
                 .build();
     }
 }
@@ -19,8 +19,6 @@ import java.util.Optional;
 
 public class CreateHandler extends BaseHandlerStd {
 
-    private Logger logger;
-
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -29,8 +27,6 @@ public class CreateHandler extends BaseHandlerStd {
             final ProxyClient<GlueClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
 
         if(model == null || StringUtils.isNullOrEmpty(model.getType()) || model.getActions().isEmpty()) {
@@ -70,7 +66,8 @@ public class CreateHandler extends BaseHandlerStd {
             final Logger logger,
             final AmazonWebServicesClientProxy proxy) {
 
-        return proxy.initiate("AWS-Glue-Trigger::CreateHandler", proxyClient, model, callbackContext)
+        return HandlerTracer.span("AWS-Glue-Trigger::CreateHandler", () ->
+                proxy.initiate("AWS-Glue-Trigger::CreateHandler", proxyClient, model, callbackContext)
                 .translateToServiceRequest(resourceModel -> Translator.translateToCreateRequest(tags, name, model))
                 .makeServiceCall((getRequest, client) -> client.injectCredentialsAndInvokeV2(getRequest, client.client()::createTrigger))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
@@ -83,7 +80,7 @@ public class CreateHandler extends BaseHandlerStd {
                             .resourceModel(Translator.translateFromCreateResponse(createTriggerResponse))
                             .status(OperationStatus.SUCCESS)
                             .build();
-                });
+                }));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> checkExistence(
@@ -100,13 +97,15 @@ public class CreateHandler extends BaseHandlerStd {
 
         logger.log(String.format("[ClientRequestToken: %s][StackId: %s] Entered Create Handler (existence check)",
                 request.getClientRequestToken(), request.getStackId()));
-        return proxy.initiate("AWS-Glue-Trigger::CreateCheckExistence", proxyClient,
+        return HandlerTracer.span("AWS-Glue-Trigger::CreateCheckExistence", () ->
+                proxy.initiate("AWS-Glue-Trigger::CreateCheckExistence", proxyClient,
                         model, callbackContext)
                 .translateToServiceRequest(resourceModel -> Translator.translateToReadRequest(resourceModel.getName()))
                 .makeServiceCall((getRequest, client) -> client.injectCredentialsAndInvokeV2(getRequest,
                         client.client()::getTrigger))
                 .handleError((errorRequest, exception, client, resourceModel, context) ->
-                        handlePreExistenceCheckErrors(errorRequest, exception, proxyClient, resourceModel, context, request))
+                        handlePreExistenceCheckErrors(errorRequest, exception, proxyClient, resourceModel, context, request,
+                                logger))
                 .done(awsResponse -> {
                     logger.log(String.format("[ClientRequestToken: %s] Resource %s already exists. " +
                                     "Failing CREATE operation. CallbackContext: %s%n",
@@ -118,7 +117,7 @@ public class CreateHandler extends BaseHandlerStd {
                             callbackContext,
                             HandlerErrorCode.AlreadyExists,
                             String.format("Trigger with Id [ %s ] already exists.", awsResponse.trigger().name()));
-                });
+                }));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> handlePreExistenceCheckErrors(
@@ -127,7 +126,8 @@ public class CreateHandler extends BaseHandlerStd {
             final ProxyClient<GlueClient> proxyClient,
             final ResourceModel resourceModel,
             final CallbackContext callbackContext,
-            final ResourceHandlerRequest<ResourceModel> request
+            final ResourceHandlerRequest<ResourceModel> request,
+            final Logger logger
     ) {
         callbackContext.setPreExistenceCheckDone(true);
 
@@ -17,8 +17,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 public class DeleteHandler extends BaseHandlerStd {
 
     private static final String STATUS_DELETING = "DELETING";
-
-    private Logger logger;
+    private static final String STABILIZE_CALL_GRAPH = "AWS-Glue-Trigger::DeleteHandler::Stabilize";
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -28,8 +27,6 @@ public class DeleteHandler extends BaseHandlerStd {
             final ProxyClient<GlueClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
 
         if(model == null || StringUtils.isNullOrEmpty(model.getName())) {
@@ -52,12 +49,13 @@ public class DeleteHandler extends BaseHandlerStd {
             final Logger logger,
             final AmazonWebServicesClientProxy proxy) {
 
-        return proxy.initiate("AWS-Glue-Trigger::DeleteHandler", proxyClient, model, callbackContext)
+        return HandlerTracer.span("AWS-Glue-Trigger::DeleteHandler", () ->
+                proxy.initiate("AWS-Glue-Trigger::DeleteHandler", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                 .makeServiceCall((awsRequest, client) -> deleteTriggerResponse(proxyClient, awsRequest))
-                .stabilize((awsRequest, awsResponse, client, resourceModel, context) -> stabilizeDelete(proxyClient, resourceModel, logger))
+                .stabilize((awsRequest, awsResponse, client, resourceModel, context) -> stabilizeDelete(proxyClient, resourceModel, context, logger))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
-                .progress();
+                .progress());
     }
 
     private DeleteTriggerResponse deleteTriggerResponse (
@@ -70,6 +68,7 @@ public class DeleteHandler extends BaseHandlerStd {
     protected static Boolean stabilizeDelete(
             final ProxyClient<GlueClient> proxyClient,
             final ResourceModel model,
+            final CallbackContext callbackContext,
             final Logger logger) {
         try {
             GetTriggerRequest getTriggerRequest = GetTriggerRequest.builder()
@@ -80,7 +79,8 @@ public class DeleteHandler extends BaseHandlerStd {
             String currentState = getTriggerResponse.trigger().stateAsString();
             String name = getTriggerResponse.trigger().name();
             if (STATUS_DELETING.equals(currentState)) {
-                logger.log(String.format("%s has not stabilized yet.", name));
+                HandlerLogger.of(logger).sampled(STABILIZE_CALL_GRAPH, callbackContext,
+                        () -> String.format("%s has not stabilized yet.", name));
                 return false;
             }
             logger.log(String.format("%s has failed to be stabilized.", name));
@@ -116,19 +116,21 @@ public class DeleteHandler extends BaseHandlerStd {
 
         logger.log(String.format("[ClientRequestToken: %s][StackId: %s] Entered Delete Handler (existence check)",
                 request.getClientRequestToken(), request.getStackId()));
-        return proxy.initiate("AWS-Glue-Trigger::DeleteCheckExistence", proxyClient,
+        return HandlerTracer.span("AWS-Glue-Trigger::DeleteCheckExistence", () ->
+                proxy.initiate("AWS-Glue-Trigger::DeleteCheckExistence", proxyClient,
                         model, callbackContext)
                 .translateToServiceRequest(resourceModel -> Translator.translateToReadRequest(resourceModel.getName()))
                 .makeServiceCall((getRequest, client) -> client.injectCredentialsAndInvokeV2(getRequest,
                         client.client()::getTrigger))
                 .handleError((errorRequest, exception, client, resourceModel, context) ->
-                        handlePreExistenceCheckErrors(errorRequest, exception, proxyClient, resourceModel, context, request))
+                        handlePreExistenceCheckErrors(errorRequest, exception, proxyClient, resourceModel, context, request,
+                                logger))
                 .done(awsResponse -> {
                     logger.log(String.format("[ClientRequestToken: %s] Resource exists. Returning control to " +
                                     "Workflows to continue DELETE (existence check).",
                             request.getClientRequestToken()));
                     return ProgressEvent.progress(model, callbackContext);
-                });
+                }));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> handlePreExistenceCheckErrors(
@@ -137,7 +139,8 @@ public class DeleteHandler extends BaseHandlerStd {
             final ProxyClient<GlueClient> proxyClient,
             final ResourceModel resourceModel,
             final CallbackContext callbackContext,
-            final ResourceHandlerRequest<ResourceModel> request
+            final ResourceHandlerRequest<ResourceModel> request,
+            final Logger logger
     ) {
         callbackContext.setDeletePreExistenceCheckDone(true);
 
@@ -0,0 +1,95 @@
+package software.amazon.glue.trigger;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Classifies Glue errors by error code: which {@link HandlerErrorCode} they map to and whether
+ * the call is worth retrying within the handler before reporting a failure.
+ */
+final class ErrorClassifier {
+    static final Classification UNCLASSIFIED =
+        new Classification(HandlerErrorCode.GeneralServiceException, false);
+
+    private static final Map<String, Classification> CLASSIFICATIONS = new HashMap<>();
+
+    static {
+        register(HandlerErrorCode.NotFound, false,
+            "EntityNotFoundException");
+        register(HandlerErrorCode.AccessDenied, false,
+            "AccessDeniedException", "NotAuthorizedException");
+        register(HandlerErrorCode.InvalidRequest, false,
+            "InvalidInputException", "InvalidRequest");
+        register(HandlerErrorCode.AlreadyExists, false,
+            "AlreadyExistsException", "AlreadyExists", "IdempotentParameterMismatchException");
+        register(HandlerErrorCode.ServiceLimitExceeded, false,
+            "ResourceNumberLimitExceededException");
+        register(HandlerErrorCode.ServiceInternalError, true,
+            "InternalServiceException", "ServiceInternalError");
+        register(HandlerErrorCode.Throttling, true,
+            "OperationTimeoutException", "ThrottlingException", "RequestLimitExceeded");
+        register(HandlerErrorCode.ResourceConflict, true,
+            "ConcurrentModificationException");
+    }
+
+    private ErrorClassifier() { }
+
+    static Classification classify(final String errorCode) {
+        if (errorCode == null) {
+            return UNCLASSIFIED;
+        }
+        return CLASSIFICATIONS.getOrDefault(errorCode, UNCLASSIFIED);
+    }
+
+    static Classification classify(final Exception exception) {
+        return classify(errorCode(exception));
+    }
+
+    /**
+     * The service error code, falling back to the modeled exception's name for exceptions that
+     * were built without error details.
+     */
+    static String errorCode(final Exception exception) {
+        if (exception instanceof AwsServiceException) {
+            final AwsServiceException awsServiceException = (AwsServiceException) exception;
+            if (awsServiceException.awsErrorDetails() != null
+                && awsServiceException.awsErrorDetails().errorCode() != null) {
+                return awsServiceException.awsErrorDetails().errorCode();
+            }
+        }
+        return exception.getClass().getSimpleName();
+    }
+
+    private static void register(
+        final HandlerErrorCode handlerErrorCode,
+        final boolean retryable,
+        final String... errorCodes) {
+        final Classification classification = new Classification(handlerErrorCode, retryable);
+        for (final String errorCode : errorCodes) {
+            CLASSIFICATIONS.put(errorCode, classification);
+        }
+    }
+
+    static final class Classification {
+        private final HandlerErrorCode handlerErrorCode;
+        private final boolean retryable;
+
+        private Classification(
+            final HandlerErrorCode handlerErrorCode,
+            final boolean retryable) {
+            this.handlerErrorCode = handlerErrorCode;
+            this.retryable = retryable;
+        }
+
+        HandlerErrorCode getHandlerErrorCode() {
+            return handlerErrorCode;
+        }
+
+        boolean isRetryable() {
+            return retryable;
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package software.amazon.glue.trigger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Aggregates the SDK's own metrics for Glue calls, so that time spent in Glue can be told apart
+ * from time spent waiting for a connection or backing off between retries.
+ *
+ * Durations and connection pool gauges go into lock-free histograms with power-of-two buckets,
+ * and retries into a counter. {@link #drain} empties them at the end of the invocation into a
+ * single CloudWatch Embedded Metric Format line, with count, p50, p99 and max per histogram and
+ * the non-empty buckets as a property for Logs Insights.
+ *
+ * Every invocation aggregates into its own instance. The client is shared by all invocations in
+ * the container, so it only gets a publisher that hands each call's metrics to the instance of
+ * the invocation that made the call. The SDK publishes the metrics of a synchronous call on the
+ * thread that made it, before the call returns, and {@link #attachTo} marks that thread for the
+ * duration of the call, so concurrent invocations never see each other's calls.
+ *
+ * Only attached to the client when {@value #CLIENT_METRICS_ENV} or the glue.client.metrics
+ * system property is true. Publishing never fails the call that reported the metrics.
+ */
+final class GlueClientMetrics implements MetricPublisher {
+    static final String CLIENT_METRICS_ENV = "GLUE_CLIENT_METRICS";
+    static final String NAMESPACE = "GlueTriggerHandler";
+
+    private static final GlueClientMetrics DISABLED = new GlueClientMetrics(false);
+    private static final ThreadLocal<GlueClientMetrics> CURRENT = new ThreadLocal<>();
+    private static final MetricPublisher PUBLISHER = new InvocationPublisher();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final boolean enabled;
+
+    private final Histogram apiCallDuration = Histogram.ofDurations("ApiCallDuration");
+    private final Histogram serviceCallDuration = Histogram.ofDurations("ServiceCallDuration");
+    private final Histogram backoffDelayDuration = Histogram.ofDurations("BackoffDelayDuration");
+    private final Histogram concurrencyAcquireDuration = Histogram.ofDurations("ConcurrencyAcquireDuration");
+    private final Histogram leasedConcurrency = Histogram.ofCounts("LeasedConcurrency");
+    private final Histogram availableConcurrency = Histogram.ofCounts("AvailableConcurrency");
+    private final LongAdder retryCount = new LongAdder();
+
+    GlueClientMetrics() {
+        this(true);
+    }
+
+    private GlueClientMetrics(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the publisher to attach to the shared client, when enabled.
+     */
+    static Optional<MetricPublisher> publisherIfEnabled() {
+        return isConfigured() ? Optional.of(PUBLISHER) : Optional.empty();
+    }
+
+    /**
+     * @return new aggregates for one handler invocation, or ones that record nothing when disabled.
+     */
+    static GlueClientMetrics forInvocation() {
+        return isConfigured() ? new GlueClientMetrics() : DISABLED;
+    }
+
+    private static boolean isConfigured() {
+        return MetricsSetting.ENABLED
+            .getStringValue()
+            .map(Boolean::parseBoolean)
+            .orElse(false);
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the client with the metrics of every Glue call it makes recorded here, or the client
+     *         itself when disabled.
+     */
+    ProxyClient<GlueClient> attachTo(final ProxyClient<GlueClient> proxyClient) {
+        return enabled ? new MetricsProxyClient(proxyClient, this) : proxyClient;
+    }
+
+    @Override
+    public void publish(final MetricCollection metricCollection) {
+        try {
+            record(metricCollection);
+        } catch (final RuntimeException e) {
+            //Metrics are best effort and must not change the outcome of the call.
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Empties the aggregates into one EMF line, or nothing if no Glue call completed since the
+     * last drain.
+     *
+     * @param handler the handler that made the calls, used as a dimension
+     */
+    Optional<String> drain(final String handler) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        final Histogram.Snapshot apiCalls = apiCallDuration.drain();
+        final Histogram.Snapshot[] snapshots = {
+            apiCalls,
+            serviceCallDuration.drain(),
+            backoffDelayDuration.drain(),
+            concurrencyAcquireDuration.drain(),
+            leasedConcurrency.drain(),
+            availableConcurrency.drain()
+        };
+        final long retries = retryCount.sumThenReset();
+        if (apiCalls.count == 0) {
+            return Optional.empty();
+        }
+
+        final ObjectNode line = MAPPER.createObjectNode();
+        final ObjectNode directive = line.putObject("_aws")
+            .put("Timestamp", System.currentTimeMillis())
+            .putArray("CloudWatchMetrics")
+            .addObject()
+            .put("Namespace", NAMESPACE);
+        directive.putArray("Dimensions").addArray().add("ResourceType").add("Handler");
+        final ArrayNode metrics = directive.putArray("Metrics");
+        line.put("ResourceType", ResourceModel.TYPE_NAME);
+        line.put("Handler", handler);
+
+        final ObjectNode buckets = MAPPER.createObjectNode();
+        for (final Histogram.Snapshot snapshot : snapshots) {
+            if (snapshot.count == 0) {
+                continue;
+            }
+            final String unit = snapshot.histogram.unit;
+            put(line, metrics, snapshot.histogram.name + "Count", "Count", snapshot.count);
+            put(line, metrics, snapshot.histogram.name + "P50", unit, snapshot.percentile(0.50));
+            put(line, metrics, snapshot.histogram.name + "P99", unit, snapshot.percentile(0.99));
+            put(line, metrics, snapshot.histogram.name + "Max", unit, snapshot.histogram.scale(snapshot.max));
+            buckets.set(snapshot.histogram.name, snapshot.buckets());
+        }
+        put(line, metrics, "RetryCount", "Count", retries);
+        line.set("Histograms", buckets);
+
+        try {
+            return Optional.of(MAPPER.writeValueAsString(line));
+        } catch (final JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void record(final MetricCollection collection) {
+        for (final Duration duration : collection.metricValues(CoreMetric.API_CALL_DURATION)) {
+            apiCallDuration.record(toMicros(duration));
+        }
+        for (final Duration duration : collection.metricValues(CoreMetric.SERVICE_CALL_DURATION)) {
+            serviceCallDuration.record(toMicros(duration));
+        }
+        for (final Duration duration : collection.metricValues(CoreMetric.BACKOFF_DELAY_DURATION)) {
+            backoffDelayDuration.record(toMicros(duration));
+        }
+        for (final Duration duration : collection.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)) {
+            concurrencyAcquireDuration.record(toMicros(duration));
+        }
+        recordCounts(collection, HttpMetric.LEASED_CONCURRENCY, leasedConcurrency);
+        recordCounts(collection, HttpMetric.AVAILABLE_CONCURRENCY, availableConcurrency);
+        for (final Integer retries : collection.metricValues(CoreMetric.RETRY_COUNT)) {
+            retryCount.add(retries);
+        }
+        //Attempts and their HTTP client metrics are reported as children of the API call.
+        collection.children().forEach(this::record);
+    }
+
+    private static void recordCounts(
+        final MetricCollection collection,
+        final SdkMetric<Integer> metric,
+        final Histogram histogram) {
+        for (final Integer value : collection.metricValues(metric)) {
+            histogram.record(value);
+        }
+    }
+
+    private static long toMicros(final Duration duration) {
+        return TimeUnit.NANOSECONDS.toMicros(duration.toNanos());
+    }
+
+    private static void put(
+        final ObjectNode line,
+        final ArrayNode metrics,
+        final String name,
+        final String unit,
+        final double value) {
+        metrics.addObject().put("Name", name).put("Unit", unit);
+        line.put(name, value);
+    }
+
+    /**
+     * Counts values into buckets whose upper bounds are 0, 1, 2, 4, ... 2^62, so that recording is
+     * a single atomic increment and percentiles are accurate to within a factor of two.
+     */
+    static final class Histogram {
+        private static final int BUCKETS = 64;
+
+        private final String name;
+        private final String unit;
+        //Reported values are recorded values divided by this.
+        private final double divisor;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        private Histogram(
+            final String name,
+            final String unit,
+            final double divisor) {
+            this.name = name;
+            this.unit = unit;
+            this.divisor = divisor;
+        }
+
+        /**
+         * Durations are recorded in microseconds and reported in milliseconds.
+         */
+        static Histogram ofDurations(final String name) {
+            return new Histogram(name, "Milliseconds", 1000.0);
+        }
+
+        static Histogram ofCounts(final String name) {
+            return new Histogram(name, "Count", 1.0);
+        }
+
+        void record(final long value) {
+            final long nonNegative = Math.max(0L, value);
+            counts.incrementAndGet(bucket(nonNegative));
+            max.accumulate(nonNegative);
+        }
+
+        /**
+         * Takes and resets the counts. Values recorded while draining land in this snapshot or
+         * the next one, never in neither.
+         */
+        Snapshot drain() {
+            final long[] drained = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                drained[i] = counts.getAndSet(i, 0L);
+                count += drained[i];
+            }
+            return new Snapshot(this, drained, count, max.getThenReset());
+        }
+
+        double scale(final long value) {
+            return value / divisor;
+        }
+
+        static int bucket(final long value) {
+            return value == 0 ? 0 : Math.min(BUCKETS - 1, 65 - Long.numberOfLeadingZeros(value - 1));
+        }
+
+        static long upperBound(final int bucket) {
+            return bucket == 0 ? 0L : 1L << (bucket - 1);
+        }
+
+        static final class Snapshot {
+            private final Histogram histogram;
+            private final long[] counts;
+            private final long count;
+            private final long max;
+
+            private Snapshot(
+                final Histogram histogram,
+                final long[] counts,
+                final long count,
+                final long max) {
+                this.histogram = histogram;
+                this.counts = counts;
+                this.count = count;
+                this.max = max;
+            }
+
+            /**
+             * @return the upper bound of the bucket holding the percentile, capped at the max.
+             */
+            double percentile(final double percentile) {
+                final long rank = (long) Math.ceil(percentile * count);
+                long seen = 0;
+                for (int i = 0; i < counts.length; i++) {
+                    seen += counts[i];
+                    if (seen >= rank) {
+                        return histogram.scale(Math.min(upperBound(i), max));
+                    }
+                }
+                return histogram.scale(max);
+            }
+
+            private ObjectNode buckets() {
+                final ObjectNode node = MAPPER.createObjectNode();
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] > 0) {
+                        node.put(String.valueOf(histogram.scale(upperBound(i))), counts[i]);
+                    }
+                }
+                return node;
+            }
+        }
+    }
+
+    /**
+     * The publisher of the shared client. Hands the metrics of a call to the invocation that made
+     * it, and drops those of calls made outside of any invocation.
+     */
+    private static final class InvocationPublisher implements MetricPublisher {
+        @Override
+        public void publish(final MetricCollection metricCollection) {
+            final GlueClientMetrics metrics = CURRENT.get();
+            if (metrics != null) {
+                metrics.publish(metricCollection);
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class MetricsProxyClient implements ProxyClient<GlueClient> {
+        private final ProxyClient<GlueClient> delegate;
+        private final GlueClientMetrics metrics;
+
+        private MetricsProxyClient(
+            final ProxyClient<GlueClient> delegate,
+            final GlueClientMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+            final GlueClientMetrics previous = CURRENT.get();
+            CURRENT.set(metrics);
+            try {
+                return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction) {
+            return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+            return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+            return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+        }
+
+        @Override
+        public GlueClient client() {
+            return delegate.client();
+        }
+    }
+
+    private enum MetricsSetting implements SystemSetting {
+        ENABLED;
+
+        @Override
+        public String property() {
+            return "glue.client.metrics";
+        }
+
+        @Override
+        public String environmentVariable() {
+            return CLIENT_METRICS_ENV;
+        }
+
+        @Override
+        public String defaultValue() {
+            return "false";
+        }
+    }
+}
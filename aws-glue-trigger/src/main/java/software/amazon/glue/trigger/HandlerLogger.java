@@ -0,0 +1,156 @@
+package software.amazon.glue.trigger;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Logger for handler hot paths. Messages are only built when their level is enabled, repeated
+ * poll messages are sampled per operation, and large fields can be truncated before formatting.
+ * Lines that were not written are counted and reported by {@link #logDroppedLines()}.
+ *
+ * Plain {@link #log(String)} calls are treated as INFO, so this can be passed wherever a
+ * {@link Logger} is expected.
+ */
+public class HandlerLogger implements Logger {
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    static final String LOG_LEVEL_ENV = "LOG_LEVEL";
+    static final int DEFAULT_MAX_FIELD_LENGTH = 1024;
+    static final int DEFAULT_SAMPLE_EVERY = 10;
+
+    private final Logger delegate;
+    private final Level threshold;
+    private final int sampleEvery;
+    private final AtomicLong droppedBelowLevel = new AtomicLong();
+    private final AtomicLong droppedBySampling = new AtomicLong();
+
+    HandlerLogger(
+        final Logger delegate,
+        final Level threshold,
+        final int sampleEvery) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.sampleEvery = sampleEvery;
+    }
+
+    /**
+     * @return the logger itself if it already is a HandlerLogger, so the dropped-line counters are
+     * shared between everyone logging for the same invocation.
+     */
+    public static HandlerLogger of(final Logger logger) {
+        if (logger instanceof HandlerLogger) {
+            return (HandlerLogger) logger;
+        }
+        return new HandlerLogger(logger, levelFromEnvironment(), DEFAULT_SAMPLE_EVERY);
+    }
+
+    /**
+     * Shortens the string form of a (possibly huge) field such as a schema definition or a whole
+     * request to {@link #DEFAULT_MAX_FIELD_LENGTH} characters.
+     */
+    public static String truncate(final Object value) {
+        return truncate(value, DEFAULT_MAX_FIELD_LENGTH);
+    }
+
+    public static String truncate(
+        final Object value,
+        final int maxLength) {
+        final String string = String.valueOf(value);
+        if (string.length() <= maxLength) {
+            return string;
+        }
+        return string.substring(0, maxLength) + "...(" + (string.length() - maxLength) + " more chars)";
+    }
+
+    @Override
+    public void log(final String message) {
+        log(Level.INFO, () -> message);
+    }
+
+    public void debug(final Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    public void info(final Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    public void error(final Supplier<String> message) {
+        log(Level.ERROR, message);
+    }
+
+    public void log(
+        final Level level,
+        final Supplier<String> message) {
+        if (!isEnabled(level)) {
+            droppedBelowLevel.incrementAndGet();
+            return;
+        }
+        delegate.log(message.get());
+    }
+
+    /**
+     * Logs the first of a series of repeated INFO messages for the call graph and then every
+     * {@link #DEFAULT_SAMPLE_EVERY}th one, noting how many were suppressed in between. The count is
+     * kept in the callback context, so it carries on across the callbacks of one operation.
+     */
+    public void sampled(
+        final String callGraph,
+        final CallbackContext callbackContext,
+        final Supplier<String> message) {
+        if (!isEnabled(Level.INFO)) {
+            droppedBelowLevel.incrementAndGet();
+            return;
+        }
+        final int occurrence = callbackContext.getSampledLogLines() + 1;
+        callbackContext.setSampledLogLines(occurrence);
+        if ((occurrence - 1) % sampleEvery != 0) {
+            droppedBySampling.incrementAndGet();
+            return;
+        }
+        final String suffix = occurrence == 1
+            ? ""
+            : String.format(" [%s: occurrence %d, %d similar lines suppressed]",
+                callGraph, occurrence, sampleEvery - 1);
+        delegate.log(message.get() + suffix);
+    }
+
+    public boolean isEnabled(final Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    long getDroppedBelowLevel() {
+        return droppedBelowLevel.get();
+    }
+
+    long getDroppedBySampling() {
+        return droppedBySampling.get();
+    }
+
+    /**
+     * Reports and resets the dropped-line counters. Called once per handler invocation.
+     */
+    public void logDroppedLines() {
+        final long belowLevel = droppedBelowLevel.getAndSet(0);
+        final long bySampling = droppedBySampling.getAndSet(0);
+        if (belowLevel > 0 || bySampling > 0) {
+            delegate.log(String.format("Dropped %d log lines below %s and %d sampled poll lines.",
+                belowLevel, threshold, bySampling));
+        }
+    }
+
+    private static Level levelFromEnvironment() {
+        final String level = System.getenv(LOG_LEVEL_ENV);
+        if (level == null) {
+            return Level.INFO;
+        }
+        try {
+            return Level.valueOf(level.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package software.amazon.glue.trigger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Traces a handler invocation as spans: one for the invocation, one per proxy.initiate call graph
+ * and one per Glue call. The trace ID is kept in the {@link CallbackContext}, so every callback of
+ * one operation appends to the same Chrome trace-event file, which chrome://tracing or Perfetto
+ * show as a timeline with one row per invocation.
+ *
+ * Only enabled when {@value #TRACE_DIR_ENV} or the glue.trace.dir system property names a
+ * directory. Spans are written when the invocation finishes, and failures to write them never
+ * fail the invocation.
+ */
+final class HandlerTracer {
+    static final String TRACE_DIR_ENV = "GLUE_TRACE_DIR";
+    static final String CALL_GRAPH = "callGraph";
+    static final String GLUE_CALL = "glue";
+    static final String INVOCATION = "invocation";
+
+    private static final HandlerTracer DISABLED = new HandlerTracer(null, null, null, 0);
+    private static final ThreadLocal<HandlerTracer> CURRENT = ThreadLocal.withInitial(() -> DISABLED);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Object FILE_LOCK = new Object();
+
+    private final Path file;
+    private final String traceId;
+    private final String handler;
+    private final int invocation;
+    private final long startEpochMicros = System.currentTimeMillis() * 1000L;
+    private final long startNanos = System.nanoTime();
+    private final List<ObjectNode> events = Collections.synchronizedList(new ArrayList<>());
+
+    private HandlerTracer(
+        final Path file,
+        final String traceId,
+        final String handler,
+        final int invocation) {
+        this.file = file;
+        this.traceId = traceId;
+        this.handler = handler;
+        this.invocation = invocation;
+    }
+
+    /**
+     * Starts tracing the invocation on this thread, continuing the trace of earlier invocations
+     * of the same operation.
+     */
+    static HandlerTracer start(
+        final String handler,
+        final CallbackContext callbackContext) {
+
+        final HandlerTracer tracer = TraceSetting.DIR
+            .getStringValue()
+            .filter(directory -> !directory.isEmpty())
+            .map(directory -> {
+                if (callbackContext.getTraceId() == null) {
+                    callbackContext.setTraceId(UUID.randomUUID().toString());
+                }
+                callbackContext.setTraceInvocations(callbackContext.getTraceInvocations() + 1);
+                return new HandlerTracer(
+                    Paths.get(directory, callbackContext.getTraceId() + ".json"),
+                    callbackContext.getTraceId(),
+                    handler,
+                    callbackContext.getTraceInvocations());
+            })
+            .orElse(DISABLED);
+        CURRENT.set(tracer);
+        return tracer;
+    }
+
+    /**
+     * Runs one call graph in a span of the invocation traced on this thread, if any.
+     */
+    static <T> T span(
+        final String callGraph,
+        final Supplier<T> body) {
+        return CURRENT.get().trace(callGraph, CALL_GRAPH, body);
+    }
+
+    boolean isEnabled() {
+        return file != null;
+    }
+
+    <T> T trace(
+        final String name,
+        final String category,
+        final Supplier<T> body) {
+
+        if (!isEnabled()) {
+            return body.get();
+        }
+        final long start = nowMicros();
+        String outcome = "OK";
+        try {
+            return body.get();
+        } catch (final RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            record(name, category, start, outcome);
+        }
+    }
+
+    /**
+     * @return the client with a span around every Glue call, or the client itself when disabled.
+     */
+    ProxyClient<GlueClient> traceCalls(final ProxyClient<GlueClient> proxyClient) {
+        return isEnabled() ? new TracingProxyClient(proxyClient, this) : proxyClient;
+    }
+
+    /**
+     * Records the invocation span and appends every span of the invocation to the trace file.
+     *
+     * @param status the status the invocation returned, or the exception it threw
+     */
+    void finish(final String status) {
+        CURRENT.remove();
+        if (!isEnabled()) {
+            return;
+        }
+        record(handler, INVOCATION, 0L, status);
+
+        final StringBuilder lines = new StringBuilder();
+        //Chrome's JSON array format may be left unterminated, so callbacks can keep appending.
+        if (!Files.exists(file)) {
+            lines.append("[\n");
+        }
+        try {
+            lines.append(MAPPER.writeValueAsString(threadName())).append(",\n");
+            synchronized (events) {
+                for (final ObjectNode event : events) {
+                    lines.append(MAPPER.writeValueAsString(event)).append(",\n");
+                }
+            }
+        } catch (final JsonProcessingException e) {
+            return;
+        }
+
+        synchronized (FILE_LOCK) {
+            try {
+                Files.write(
+                    file,
+                    lines.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            } catch (final IOException e) {
+                //Tracing is best effort and must not change the outcome of the invocation.
+            }
+        }
+    }
+
+    List<ObjectNode> getEvents() {
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
+    }
+
+    private void record(
+        final String name,
+        final String category,
+        final long start,
+        final String outcome) {
+
+        final ObjectNode event = MAPPER.createObjectNode()
+            .put("name", name)
+            .put("cat", category)
+            .put("ph", "X")
+            .put("ts", startEpochMicros + start)
+            .put("dur", nowMicros() - start)
+            .put("pid", 1)
+            .put("tid", invocation);
+        event.putObject("args")
+            .put("traceId", traceId)
+            .put("outcome", outcome);
+        events.add(event);
+    }
+
+    /**
+     * Names the row of this invocation in the timeline.
+     */
+    private ObjectNode threadName() {
+        final ObjectNode event = MAPPER.createObjectNode()
+            .put("name", "thread_name")
+            .put("ph", "M")
+            .put("pid", 1)
+            .put("tid", invocation);
+        event.putObject("args").put("name", String.format("%s #%d", handler, invocation));
+        return event;
+    }
+
+    private long nowMicros() {
+        return (System.nanoTime() - startNanos) / 1000L;
+    }
+
+    private static final class TracingProxyClient implements ProxyClient<GlueClient> {
+        private final ProxyClient<GlueClient> delegate;
+        private final HandlerTracer tracer;
+
+        private TracingProxyClient(
+            final ProxyClient<GlueClient> delegate,
+            final HandlerTracer tracer) {
+            this.delegate = delegate;
+            this.tracer = tracer;
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+            return tracer.trace(
+                GlueTrafficCodec.operationName(request),
+                GLUE_CALL,
+                () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction) {
+            return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+            return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+            return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+        }
+
+        @Override
+        public GlueClient client() {
+            return delegate.client();
+        }
+    }
+
+    private enum TraceSetting implements SystemSetting {
+        DIR;
+
+        @Override
+        public String property() {
+            return "glue.trace.dir";
+        }
+
+        @Override
+        public String environmentVariable() {
+            return TRACE_DIR_ENV;
+        }
+
+        @Override
+        public String defaultValue() {
+            return null;
+        }
+    }
+}
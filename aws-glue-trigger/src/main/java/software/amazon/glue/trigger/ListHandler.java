@@ -1,16 +1,56 @@
 package software.amazon.glue.trigger;
 
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchGetTriggersResponse;
 import software.amazon.awssdk.services.glue.model.ListTriggersRequest;
 import software.amazon.awssdk.services.glue.model.ListTriggersResponse;
+import software.amazon.awssdk.services.glue.model.Trigger;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lists trigger names, letting Glue filter them by the desired resource state: the JobName of its
+ * Actions becomes the DependentJobName filter and its Tags become the Tags filter.
+ *
+ * Glue ignores a DependentJobName that no trigger starts and returns every trigger instead, so
+ * with a job filter the names of each page are confirmed with BatchGetTriggers and only triggers
+ * whose Actions start that job, and any crawler named next to it, are kept. Glue cannot filter by
+ * crawler at all, so Actions that only name crawlers are rejected rather than listing everything.
+ *
+ * A filtered page can hold few names or none at all, so pages are read one after the other within
+ * the same invocation until a full page of names is collected, the listing ends or the time budget
+ * runs out. The NextToken of the last page read is handed back for CloudFormation to continue from.
+ */
 public class ListHandler extends BaseHandlerStd {
+    private static final Duration TIME_BUDGET = Duration.ofSeconds(20L);
+    private static final String MULTIPLE_DEPENDENT_JOBS =
+            "Triggers can only be listed by one dependent job, but Actions start %s";
+    private static final String CRAWLERS_WITHOUT_JOB =
+            "Triggers can only be listed by the job they start, but Actions only start crawlers %s";
+    //BatchGetTriggers takes at most 100 names.
+    private static final int BATCH_GET_MAX_NAMES = 100;
+
+    private final Duration timeBudget;
+
+    public ListHandler() {
+        this(TIME_BUDGET);
+    }
+
+    ListHandler(final Duration timeBudget) {
+        this.timeBudget = timeBudget;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -26,7 +66,20 @@ public class ListHandler extends BaseHandlerStd {
         logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Calling List Triggers", request.getStackId(),
                         request.getClientRequestToken()));
 
-        return listTriggers(proxyClient, callbackContext, model, request, logger, proxy);
+        final Set<String> dependentJobNames =
+                model == null ? Collections.emptySet() : Translator.translateToDependentJobNames(model);
+        final Set<String> crawlerNames =
+                model == null ? Collections.emptySet() : Translator.translateToCrawlerNames(model);
+        if (dependentJobNames.size() > 1) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    String.format(MULTIPLE_DEPENDENT_JOBS, dependentJobNames));
+        }
+        if (dependentJobNames.isEmpty() && !crawlerNames.isEmpty()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    String.format(CRAWLERS_WITHOUT_JOB, crawlerNames));
+        }
+
+        return listTriggers(proxyClient, callbackContext, model, request, logger, proxy, crawlerNames);
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> listTriggers(
@@ -35,26 +88,88 @@ public class ListHandler extends BaseHandlerStd {
             final ResourceModel model,
             final ResourceHandlerRequest<ResourceModel> request,
             final Logger logger,
-            final AmazonWebServicesClientProxy proxy) {
+            final AmazonWebServicesClientProxy proxy,
+            final Set<String> crawlerNames) {
 
-        return proxy.initiate("AWS-Glue-Trigger::ListHandler", proxyClient, model, callbackContext)
-                .translateToServiceRequest(listRequest -> Translator.translateToListRequest(request.getNextToken()))
-                .makeServiceCall((awsRequest, client) -> listTriggerResponse(proxyClient, awsRequest, logger))
+        return HandlerTracer.span("AWS-Glue-Trigger::ListHandler", () ->
+                proxy.initiate("AWS-Glue-Trigger::ListHandler", proxyClient, model, callbackContext)
+                .translateToServiceRequest(listRequest -> Translator.translateToListRequest(model, request.getNextToken()))
+                .makeServiceCall((awsRequest, client) ->
+                        listTriggerResponse(proxyClient, awsRequest, crawlerNames, logger))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
                 .done(listTriggersResponse -> ProgressEvent.<ResourceModel, CallbackContext> builder()
                                                                                             .resourceModels(Translator.translateFromListResponse(listTriggersResponse))
                                                                                             .status(OperationStatus.SUCCESS)
                                                                                             .nextToken(listTriggersResponse.nextToken())
-                                                                                            .build());
+                                                                                            .build()));
     }
 
+    /**
+     * Reads pages starting at the request's NextToken, keeping only their names, and returns them
+     * as one page ending at the NextToken of the last page read.
+     */
     private ListTriggersResponse listTriggerResponse (
             final ProxyClient<GlueClient> proxyClient,
             final ListTriggersRequest awsRequest,
+            final Set<String> crawlerNames,
             final Logger logger) {
-        ListTriggersResponse response = proxyClient
-                .injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listTriggers);
-        logger.log("Successfully listed all triggers.");
-        return response;
+        final long deadline = System.currentTimeMillis() + timeBudget.toMillis();
+        final List<String> triggerNames = new ArrayList<>();
+        ListTriggersRequest pageRequest = awsRequest;
+        String nextToken;
+        int pages = 0;
+        do {
+            final ListTriggersResponse page = proxyClient
+                    .injectCredentialsAndInvokeV2(pageRequest, proxyClient.client()::listTriggers);
+            pages++;
+            if (page.triggerNames() != null) {
+                triggerNames.addAll(awsRequest.dependentJobName() == null
+                        ? page.triggerNames()
+                        : confirmMatches(
+                                proxyClient, page.triggerNames(), awsRequest.dependentJobName(), crawlerNames));
+            }
+            nextToken = page.nextToken();
+            pageRequest = awsRequest.toBuilder().nextToken(nextToken).build();
+        } while (nextToken != null
+                && triggerNames.size() < Translator.LIST_MAX_RESULTS
+                && System.currentTimeMillis() < deadline);
+
+        logger.log(String.format("Successfully listed %d triggers in %d pages.", triggerNames.size(), pages));
+        return ListTriggersResponse.builder()
+                .triggerNames(triggerNames)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * Reads the listed triggers and keeps, in listing order, the names of those that start the job
+     * and crawlers. Triggers deleted since they were listed are dropped as well.
+     */
+    private List<String> confirmMatches(
+            final ProxyClient<GlueClient> proxyClient,
+            final List<String> listedNames,
+            final String dependentJobName,
+            final Set<String> crawlerNames) {
+        final Set<String> matches = new HashSet<>();
+        for (int from = 0; from < listedNames.size(); from += BATCH_GET_MAX_NAMES) {
+            final List<String> batch =
+                    listedNames.subList(from, Math.min(from + BATCH_GET_MAX_NAMES, listedNames.size()));
+            final BatchGetTriggersResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToBatchReadRequest(batch),
+                    proxyClient.client()::batchGetTriggers);
+            for (final Trigger trigger : response.triggers()) {
+                if (Translator.startsAll(trigger, Collections.singleton(dependentJobName), crawlerNames)) {
+                    matches.add(trigger.name());
+                }
+            }
+        }
+
+        final List<String> confirmed = new ArrayList<>(matches.size());
+        for (final String name : listedNames) {
+            if (matches.contains(name)) {
+                confirmed.add(name);
+            }
+        }
+        return confirmed;
     }
 }
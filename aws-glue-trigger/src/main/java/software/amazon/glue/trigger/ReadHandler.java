@@ -15,7 +15,13 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
 
-    private Logger logger;
+    public ReadHandler() {
+        super();
+    }
+
+    ReadHandler(final GlueClient glueClient) {
+        super(glueClient);
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -25,8 +31,6 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
 
         if(model == null || StringUtils.isEmpty(model.getName())) {
@@ -49,11 +53,12 @@ public class ReadHandler extends BaseHandlerStd {
             final Logger logger,
             final AmazonWebServicesClientProxy proxy) {
 
-        return proxy.initiate("AWS-Glue-Trigger::ReadHandler", proxyClient, model, callbackContext)
+        return HandlerTracer.span("AWS-Glue-Trigger::ReadHandler", () ->
+                proxy.initiate("AWS-Glue-Trigger::ReadHandler", proxyClient, model, callbackContext)
                 .translateToServiceRequest(resourceModel -> Translator.translateToReadRequest(resourceModel.getName()))
-                .makeServiceCall((getTriggerRequest, client) -> getTriggerResponse(proxyClient, model.getName(), getTriggerRequest, callbackContext))
+                .makeServiceCall((getTriggerRequest, client) -> getTriggerResponse(proxyClient, model.getName(), getTriggerRequest, callbackContext, logger))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> getTags(
@@ -64,11 +69,12 @@ public class ReadHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request) {
 
-        return proxy.initiate("AWS-Glue-Trigger::GetTagsReadHandler", proxyClient, model, callbackContext)
+        return HandlerTracer.span("AWS-Glue-Trigger::GetTagsReadHandler", () ->
+                proxy.initiate("AWS-Glue-Trigger::GetTagsReadHandler", proxyClient, model, callbackContext)
                 .translateToServiceRequest(resourceModel -> Translator.translateToReadTagRequest(generateArn(request, resourceModel)))
                 .makeServiceCall((getTagsRequest, client) -> getTagsResponse(proxyClient, getTagsRequest, callbackContext))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
-                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(callbackContext)));
+                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(callbackContext))));
     }
 
 
@@ -76,7 +82,8 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<GlueClient> proxyClient,
             final String triggerName,
             final GetTriggerRequest awsRequest,
-            final CallbackContext callbackContext) {
+            final CallbackContext callbackContext,
+            final Logger logger) {
 
         GetTriggerResponse response = proxyClient
                 .injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::getTrigger);
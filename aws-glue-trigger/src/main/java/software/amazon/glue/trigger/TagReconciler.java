@@ -0,0 +1,52 @@
+package software.amazon.glue.trigger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Works out the tag changes between the previous and the desired state of a trigger, stack
+ * level tags included, so that Update sends at most one UntagResource and one TagResource.
+ *
+ * A tag whose value changed is only re-tagged, TagResource overwrites it. Both sets are empty
+ * when the tags did not change.
+ */
+class TagReconciler {
+    private final Map<String, String> tagsToAdd = new HashMap<>();
+    private final Map<String, String> tagsToRemove = new HashMap<>();
+
+    TagReconciler(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
+        for (final Map.Entry<String, String> desiredTag : desiredTags.entrySet()) {
+            if (!Objects.equals(previousTags.get(desiredTag.getKey()), desiredTag.getValue())) {
+                tagsToAdd.put(desiredTag.getKey(), desiredTag.getValue());
+            }
+        }
+        for (final Map.Entry<String, String> previousTag : previousTags.entrySet()) {
+            if (!desiredTags.containsKey(previousTag.getKey())) {
+                tagsToRemove.put(previousTag.getKey(), previousTag.getValue());
+            }
+        }
+    }
+
+    /**
+     * Resource tags and stack level tags as one map. Stack level tags win on conflicting keys.
+     */
+    static Map<String, String> mergeTags(final Map<String, Object> resourceTags, final Map<String, String> stackTags) {
+        final Map<String, String> tags = new HashMap<>();
+        if (resourceTags != null) {
+            tags.putAll(Translator.convertObjectMapToStringMap(resourceTags));
+        }
+        if (stackTags != null) {
+            tags.putAll(stackTags);
+        }
+        return tags;
+    }
+
+    Map<String, String> getTagsToAdd() {
+        return tagsToAdd;
+    }
+
+    Map<String, String> getTagsToRemove() {
+        return tagsToRemove;
+    }
+}
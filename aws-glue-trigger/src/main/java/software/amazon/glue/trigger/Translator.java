@@ -1,6 +1,7 @@
 package software.amazon.glue.trigger;
 
 import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.glue.model.BatchGetTriggersRequest;
 import software.amazon.awssdk.services.glue.model.CreateTriggerRequest;
 import software.amazon.awssdk.services.glue.model.CreateTriggerResponse;
 import software.amazon.awssdk.services.glue.model.DeleteTriggerRequest;
@@ -18,15 +19,22 @@ import software.amazon.awssdk.utils.CollectionUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Collection;
 import java.util.stream.Stream;
 import java.lang.reflect.Array;
 
 public class Translator {
+    /**
+     * The largest page ListTriggers returns.
+     */
+    static final int LIST_MAX_RESULTS = 200;
 
     /**
      * Request to create a resource
@@ -69,14 +77,90 @@ public class Translator {
     }
 
     /**
-     * Request to list resources
+     * Request to list resources, filtered by the dependent job and the tags of the model
+     * @param model resource model holding the list filters, may be null
      * @param nextToken nextToken
      * @return awsRequest the aws service request to list resources
      */
-    static ListTriggersRequest translateToListRequest(final String nextToken) {
-        return ListTriggersRequest.builder()
+    static ListTriggersRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+        final ListTriggersRequest.Builder builder = ListTriggersRequest.builder()
                 .nextToken(nextToken)
-                .build();
+                .maxResults(LIST_MAX_RESULTS);
+        if (model == null) {
+            return builder.build();
+        }
+
+        final Set<String> dependentJobNames = translateToDependentJobNames(model);
+        if (dependentJobNames.size() == 1) {
+            builder.dependentJobName(dependentJobNames.iterator().next());
+        }
+        final Map<String, String> tags = convertObjectMapToStringMap(model.getTags());
+        if (!tags.isEmpty()) {
+            builder.tags(tags);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Collects the jobs started by the actions of the model, which ListTriggers can filter by one at a time
+     * @param model resource model
+     * @return the distinct job names of the actions
+     */
+    static Set<String> translateToDependentJobNames(final ResourceModel model) {
+        if (model.getActions() == null) {
+            return Collections.emptySet();
+        }
+        final Set<String> jobNames = new LinkedHashSet<>();
+        for (final Action action : model.getActions()) {
+            if (action != null && !StringUtils.isNullOrEmpty(action.getJobName())) {
+                jobNames.add(action.getJobName());
+            }
+        }
+        return jobNames;
+    }
+
+    /**
+     * Collects the crawlers started by the actions of the model, which ListTriggers cannot filter by
+     * @param model resource model
+     * @return the distinct crawler names of the actions
+     */
+    static Set<String> translateToCrawlerNames(final ResourceModel model) {
+        if (model.getActions() == null) {
+            return Collections.emptySet();
+        }
+        final Set<String> crawlerNames = new LinkedHashSet<>();
+        for (final Action action : model.getActions()) {
+            if (action != null && !StringUtils.isNullOrEmpty(action.getCrawlerName())) {
+                crawlerNames.add(action.getCrawlerName());
+            }
+        }
+        return crawlerNames;
+    }
+
+    /**
+     * Whether the trigger starts every given job and crawler, as ListTriggers matches only roughly
+     * @param trigger trigger read from Glue
+     * @param jobNames jobs the trigger must start
+     * @param crawlerNames crawlers the trigger must start
+     * @return true if the actions of the trigger start all of them
+     */
+    static boolean startsAll(
+            final Trigger trigger,
+            final Set<String> jobNames,
+            final Set<String> crawlerNames) {
+        final Set<String> startedJobs = new HashSet<>();
+        final Set<String> startedCrawlers = new HashSet<>();
+        if (trigger.actions() != null) {
+            for (final software.amazon.awssdk.services.glue.model.Action action : trigger.actions()) {
+                if (action.jobName() != null) {
+                    startedJobs.add(action.jobName());
+                }
+                if (action.crawlerName() != null) {
+                    startedCrawlers.add(action.crawlerName());
+                }
+            }
+        }
+        return startedJobs.containsAll(jobNames) && startedCrawlers.containsAll(crawlerNames);
     }
 
     /**
@@ -139,6 +223,17 @@ public class Translator {
                 .build();
     }
 
+    /**
+     * Request to read several resources at once
+     * @param triggerNames Trigger names to read, at most 100
+     * @return awsRequest the aws service request to read the resources
+     */
+    static BatchGetTriggersRequest translateToBatchReadRequest(final List<String> triggerNames){
+        return BatchGetTriggersRequest.builder()
+                .triggerNames(triggerNames)
+                .build();
+    }
+
     /**
      * Request to read tags
      * @param arn Trigger ARN
@@ -182,10 +277,16 @@ public class Translator {
      * @return model resource model
      */
     static ResourceModel translateFromReadResponse(final CallbackContext callbackContext){
+        return translateFromTrigger(callbackContext.getTriggerResponse.trigger(), callbackContext.getTagsResponse.tags());
+    }
 
-        Trigger trigger = callbackContext.getTriggerResponse.trigger();
-        Map<String, String> tags = callbackContext.getTagsResponse.tags();
-
+    /**
+     * Translates a trigger and its tags from sdk into a resource model
+     * @param trigger the trigger as returned by GetTrigger or BatchGetTriggers
+     * @param tags the tags of the trigger
+     * @return model resource model
+     */
+    static ResourceModel translateFromTrigger(final Trigger trigger, final Map<String, String> tags) {
         return ResourceModel.builder()
                 .type(trigger.typeAsString())
                 .description(trigger.description())
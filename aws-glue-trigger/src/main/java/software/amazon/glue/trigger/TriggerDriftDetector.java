@@ -0,0 +1,340 @@
+package software.amazon.glue.trigger;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchGetTriggersResponse;
+import software.amazon.awssdk.services.glue.model.Trigger;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Detects drift of many triggers at once. Instead of a GetTrigger and a GetTags per trigger, one
+ * after the other as the ReadHandler does, it reads the triggers with one BatchGetTriggers per 100
+ * of them and their tags in parallel.
+ *
+ * The actual state goes through the same Translator as a Read, and the desired state is normalized
+ * through the Translator round trip that Create and Update send it through, so both sides compare
+ * as the handlers see them. Properties the desired model leaves unset are not compared; nested
+ * properties are compared as a whole.
+ */
+public class TriggerDriftDetector implements AutoCloseable {
+    static final int BATCH_SIZE = 100;
+    private static final int DEFAULT_PARALLELISM = 16;
+
+    private final ProxyClient<GlueClient> proxyClient;
+    private final HandlerLogger logger;
+    private final String region;
+    private final String awsAccountId;
+    private final ExecutorService executor;
+
+    public TriggerDriftDetector(
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger,
+            final String region,
+            final String awsAccountId) {
+        this(proxyClient, logger, region, awsAccountId, Executors.newFixedThreadPool(DEFAULT_PARALLELISM));
+    }
+
+    TriggerDriftDetector(
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger,
+            final String region,
+            final String awsAccountId,
+            final ExecutorService executor) {
+        this.proxyClient = proxyClient;
+        this.logger = HandlerLogger.of(logger);
+        this.region = region;
+        this.awsAccountId = awsAccountId;
+        this.executor = executor;
+    }
+
+    /**
+     * @param desiredModels the desired state of each trigger, identified by its name
+     * @return the drift of each trigger, in the order of the desired models
+     */
+    public List<Drift> detect(final List<ResourceModel> desiredModels) {
+        final List<CompletableFuture<List<Drift>>> batches = new ArrayList<>();
+        for (int from = 0; from < desiredModels.size(); from += BATCH_SIZE) {
+            final List<ResourceModel> batch =
+                    desiredModels.subList(from, Math.min(from + BATCH_SIZE, desiredModels.size()));
+            batches.add(CompletableFuture
+                    .supplyAsync(() -> batchGetTriggers(batch), executor)
+                    .handle((triggers, error) -> error == null
+                            ? compareBatch(batch, triggers)
+                            : CompletableFuture.completedFuture(unknown(batch, unwrap(error))))
+                    .thenCompose(drifts -> drifts));
+        }
+
+        final List<Drift> drifts = new ArrayList<>(desiredModels.size());
+        for (final CompletableFuture<List<Drift>> batch : batches) {
+            drifts.addAll(batch.join());
+        }
+        logger.info(() -> String.format("Detected drift of %d triggers in %d batches.", drifts.size(), batches.size()));
+        return drifts;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return the triggers of the batch that exist, by name
+     */
+    private Map<String, Trigger> batchGetTriggers(final List<ResourceModel> batch) {
+        final List<String> triggerNames = new ArrayList<>(batch.size());
+        for (final ResourceModel model : batch) {
+            if (!StringUtils.isEmpty(model.getName())) {
+                triggerNames.add(model.getName());
+            }
+        }
+        if (triggerNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final BatchGetTriggersResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                Translator.translateToBatchReadRequest(triggerNames),
+                proxyClient.client()::batchGetTriggers);
+
+        final Map<String, Trigger> triggers = new HashMap<>();
+        for (final Trigger trigger : response.triggers()) {
+            triggers.put(trigger.name(), trigger);
+        }
+        return triggers;
+    }
+
+    private CompletableFuture<List<Drift>> compareBatch(
+            final List<ResourceModel> batch,
+            final Map<String, Trigger> triggers) {
+
+        final List<CompletableFuture<Drift>> drifts = new ArrayList<>(batch.size());
+        for (final ResourceModel desired : batch) {
+            final String name = desired.getName();
+            final Trigger trigger = triggers.get(name);
+            if (StringUtils.isEmpty(name)) {
+                drifts.add(CompletableFuture.completedFuture(
+                        Drift.unknown(name, BaseHandlerStd.NAME_CANNOT_BE_EMPTY)));
+            } else if (trigger == null) {
+                drifts.add(CompletableFuture.completedFuture(Drift.deleted(name)));
+            } else {
+                drifts.add(CompletableFuture
+                        .supplyAsync(() -> getTags(name), executor)
+                        .handle((tags, error) -> error == null
+                                ? compare(desired, Translator.translateFromTrigger(trigger, tags))
+                                : Drift.unknown(name, unwrap(error).getMessage())));
+            }
+        }
+
+        return CompletableFuture
+                .allOf(drifts.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    final List<Drift> settled = new ArrayList<>(drifts.size());
+                    for (final CompletableFuture<Drift> drift : drifts) {
+                        settled.add(drift.join());
+                    }
+                    return settled;
+                });
+    }
+
+    private Map<String, String> getTags(final String triggerName) {
+        return proxyClient.injectCredentialsAndInvokeV2(
+                Translator.translateToReadTagRequest(generateArn(triggerName)),
+                proxyClient.client()::getTags).tags();
+    }
+
+    static Drift compare(final ResourceModel desired, final ResourceModel actual) {
+        final List<PropertyDifference> differences = new ArrayList<>();
+        compare(differences, "/Type", desired.getType(), actual.getType());
+        compare(differences, "/Description", desired.getDescription(), actual.getDescription());
+        compare(differences, "/WorkflowName", desired.getWorkflowName(), actual.getWorkflowName());
+        compare(differences, "/Schedule", desired.getSchedule(), actual.getSchedule());
+        if (desired.getActions() != null) {
+            compare(differences, "/Actions",
+                    Translator.translateToModelActions(Translator.translateToSDKActions(desired.getActions())),
+                    actual.getActions());
+        }
+        if (desired.getPredicate() != null) {
+            compare(differences, "/Predicate",
+                    Translator.translateToModelPredicate(Translator.translateToSDKPredicate(desired.getPredicate())),
+                    actual.getPredicate());
+        }
+        if (desired.getEventBatchingCondition() != null) {
+            compare(differences, "/EventBatchingCondition",
+                    Translator.translateToModelEventBatchingCondition(
+                            Translator.translateToSDKEventBatchingCondition(desired.getEventBatchingCondition())),
+                    actual.getEventBatchingCondition());
+        }
+        if (desired.getTags() != null) {
+            compare(differences, "/Tags",
+                    Translator.convertStringMapToObjectMap(Translator.convertObjectMapToStringMap(desired.getTags())),
+                    actual.getTags());
+        }
+        return differences.isEmpty()
+                ? new Drift(desired.getName(), Drift.Status.IN_SYNC, differences, null)
+                : new Drift(desired.getName(), Drift.Status.MODIFIED, differences, null);
+    }
+
+    private static void compare(
+            final List<PropertyDifference> differences,
+            final String propertyPath,
+            final Object expectedValue,
+            final Object actualValue) {
+        if (expectedValue != null && !expectedValue.equals(actualValue)) {
+            differences.add(new PropertyDifference(propertyPath, expectedValue, actualValue));
+        }
+    }
+
+    private static List<Drift> unknown(final List<ResourceModel> batch, final Throwable error) {
+        final List<Drift> drifts = new ArrayList<>(batch.size());
+        for (final ResourceModel model : batch) {
+            drifts.add(Drift.unknown(model.getName(), error.getMessage()));
+        }
+        return drifts;
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private String generateArn(final String triggerName) {
+        return String.format("arn:%s:glue:%s:%s:trigger/%s",
+                getPartition(region),
+                region,
+                awsAccountId,
+                triggerName);
+    }
+
+    private String getPartition(String regionName) {
+        if (regionName.matches(".*cn.*")) {
+            return "aws-cn";
+        } else if (regionName.matches(".*gov.*")) {
+            return "aws-us-gov";
+        }
+        return "aws";
+    }
+
+    /**
+     * The drift of one trigger: whether it drifted and, if so, which properties differ.
+     */
+    public static final class Drift {
+        /**
+         * Mirrors the drift statuses of CloudFormation, with UNKNOWN when the trigger could not be read.
+         */
+        public enum Status {
+            IN_SYNC,
+            MODIFIED,
+            DELETED,
+            UNKNOWN
+        }
+
+        private final String name;
+        private final Status status;
+        private final List<PropertyDifference> differences;
+        private final String message;
+
+        Drift(final String name,
+              final Status status,
+              final List<PropertyDifference> differences,
+              final String message) {
+            this.name = name;
+            this.status = status;
+            this.differences = Collections.unmodifiableList(differences);
+            this.message = message;
+        }
+
+        static Drift deleted(final String name) {
+            return new Drift(name, Status.DELETED, Collections.emptyList(), null);
+        }
+
+        static Drift unknown(final String name, final String message) {
+            return new Drift(name, Status.UNKNOWN, Collections.emptyList(), message);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public List<PropertyDifference> getDifferences() {
+            return differences;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s%s%s",
+                    status,
+                    name,
+                    differences.isEmpty() ? "" : " " + differences,
+                    message == null ? "" : ": " + message);
+        }
+    }
+
+    /**
+     * One property whose actual value differs from its desired value.
+     */
+    public static final class PropertyDifference {
+        private final String propertyPath;
+        private final Object expectedValue;
+        private final Object actualValue;
+
+        PropertyDifference(final String propertyPath, final Object expectedValue, final Object actualValue) {
+            this.propertyPath = propertyPath;
+            this.expectedValue = expectedValue;
+            this.actualValue = actualValue;
+        }
+
+        public String getPropertyPath() {
+            return propertyPath;
+        }
+
+        public Object getExpectedValue() {
+            return expectedValue;
+        }
+
+        public Object getActualValue() {
+            return actualValue;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PropertyDifference)) {
+                return false;
+            }
+            final PropertyDifference that = (PropertyDifference) o;
+            return propertyPath.equals(that.propertyPath)
+                    && Objects.equals(expectedValue, that.expectedValue)
+                    && Objects.equals(actualValue, that.actualValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(propertyPath, expectedValue, actualValue);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: expected %s, actual %s", propertyPath, expectedValue, actualValue);
+        }
+    }
+}
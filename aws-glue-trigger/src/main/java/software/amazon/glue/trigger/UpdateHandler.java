@@ -9,17 +9,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import com.google.common.collect.Sets;
 
 public class UpdateHandler extends BaseHandlerStd {
 
-    private Logger logger;
-
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -28,8 +21,6 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<GlueClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
         final ResourceModel previousModel = request.getPreviousResourceState();
 //        callbackContext.setPreviousModel(previousModel);
@@ -42,8 +33,9 @@ public class UpdateHandler extends BaseHandlerStd {
         logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Calling Update Trigger", request.getStackId(), request.getClientRequestToken()));
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress -> updateTrigger(proxy, proxyClient, model, callbackContext, request))
-                .then(progress -> updateTags(proxy, proxyClient, progress, request, callbackContext, model, previousModel))
+                .then(progress -> updateTrigger(proxy, proxyClient, model, callbackContext, request, logger))
+                .then(progress -> updateTags(proxy, proxyClient, progress, request, callbackContext, model, previousModel,
+                        logger))
                 .then(progress -> ProgressEvent.success(model, callbackContext));
     }
 
@@ -52,16 +44,18 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<GlueClient> proxyClient,
             final ResourceModel desiredModel,
             final CallbackContext callbackContext,
-            final ResourceHandlerRequest<ResourceModel> request) {
+            final ResourceHandlerRequest<ResourceModel> request,
+            final Logger logger) {
 
-        return proxy.initiate("AWS-Glue-Trigger::UpdateHandler", proxyClient, desiredModel, callbackContext)
+        return HandlerTracer.span("AWS-Glue-Trigger::UpdateHandler", () ->
+                proxy.initiate("AWS-Glue-Trigger::UpdateHandler", proxyClient, desiredModel, callbackContext)
                 .translateToServiceRequest(resourceModel -> Translator.translateToUpdateRequest(desiredModel))
                 .makeServiceCall((updateTriggerRequest, client) -> {
                     logger.log(String.format("[StackId: %s] Invoking Update Trigger", request.getStackId()));
                     return proxyClient.injectCredentialsAndInvokeV2(updateTriggerRequest, client.client()::updateTrigger);
                 })
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
-                .progress();
+                .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateTags(
@@ -71,32 +65,22 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ResourceModel resourceModel,
-            final ResourceModel previousModel) {
-
-        // All previous tags
-        final Map<String, String> previousTags = new HashMap<>();
-        Map<String, String> convertedPreviousTags = Translator.convertObjectMapToStringMap(previousModel.getTags());
-        previousTags.putAll(Optional.ofNullable(convertedPreviousTags).orElse(Collections.emptyMap()));
-        previousTags.putAll(Optional.ofNullable(request.getPreviousResourceTags()).orElse(Collections.emptyMap()));
-
-        //All desired tags
-        final Map<String, String> desiredTags = new HashMap<>();
-        Map<String, String> convertedDesiredTags = Translator.convertObjectMapToStringMap(resourceModel.getTags());
-        desiredTags.putAll(Optional.ofNullable(convertedDesiredTags).orElse(Collections.emptyMap()));
-        desiredTags.putAll(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()));
+            final ResourceModel previousModel,
+            final Logger logger) {
 
-        // compares previous and current desired tags to determined which tags to be deleted
-        Map<String, String> tagsToDelete = getTagsToDelete(previousTags, desiredTags);
-        // compares previous and current desired tags to determined which tags to be created
-        Map<String, String> tagsToCreate = getTagsToCreate(previousTags, desiredTags);
+        final TagReconciler tagReconciler = new TagReconciler(
+                TagReconciler.mergeTags(previousModel.getTags(), request.getPreviousResourceTags()),
+                TagReconciler.mergeTags(resourceModel.getTags(), request.getDesiredResourceTags()));
+        final Map<String, String> tagsToDelete = tagReconciler.getTagsToRemove();
+        final Map<String, String> tagsToCreate = tagReconciler.getTagsToAdd();
 
         return progress
                 .then(_progress -> tagsToDelete.isEmpty()
                         ? ProgressEvent.progress(resourceModel, callbackContext)
-                        : deleteTags(proxy, proxyClient, resourceModel, callbackContext, request, tagsToDelete))
+                        : deleteTags(proxy, proxyClient, resourceModel, callbackContext, request, tagsToDelete, logger))
                 .then(_progress -> tagsToCreate.isEmpty()
                         ? ProgressEvent.progress(resourceModel, callbackContext)
-                        : createTags(proxy, proxyClient, resourceModel, callbackContext, request, tagsToCreate));
+                        : createTags(proxy, proxyClient, resourceModel, callbackContext, request, tagsToCreate, logger));
 
     }
 
@@ -106,13 +90,15 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceModel desiredModel,
             final CallbackContext callbackContext,
             final ResourceHandlerRequest<ResourceModel> request,
-            final Map<String, String> tagsToCreate) {
+            final Map<String, String> tagsToCreate,
+            final Logger logger) {
 
-        return proxy.initiate("AWS-Glue-Trigger::CreateTags", proxyClient, desiredModel, callbackContext)
+        return HandlerTracer.span("AWS-Glue-Trigger::CreateTags", () ->
+                proxy.initiate("AWS-Glue-Trigger::CreateTags", proxyClient, desiredModel, callbackContext)
                 .translateToServiceRequest(cbRequest -> Translator.translateToCreateTagsRequest(tagsToCreate, generateArn(request, desiredModel)))
                 .makeServiceCall((cbRequest, cbProxyClient) -> cbProxyClient.injectCredentialsAndInvokeV2(cbRequest, cbProxyClient.client()::tagResource))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
-                .progress();
+                .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> deleteTags(
@@ -121,55 +107,15 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceModel desiredModel,
             final CallbackContext callbackContext,
             final ResourceHandlerRequest<ResourceModel> request,
-            final Map<String, String> tagsToDelete) {
+            final Map<String, String> tagsToDelete,
+            final Logger logger) {
 
-        return proxy.initiate("AWS-Glue-Trigger::DeleteTags", proxyClient, desiredModel, callbackContext)
+        return HandlerTracer.span("AWS-Glue-Trigger::DeleteTags", () ->
+                proxy.initiate("AWS-Glue-Trigger::DeleteTags", proxyClient, desiredModel, callbackContext)
                 .translateToServiceRequest(cbRequest -> Translator.translateToRemoveTagsRequest(tagsToDelete, generateArn(request, desiredModel)))
                 .makeServiceCall((cbRequest, cbProxyClient) -> cbProxyClient.injectCredentialsAndInvokeV2(cbRequest, cbProxyClient.client()::untagResource))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
-                .progress();
-    }
-
-    private static Map<String, String> getTagsToDelete(
-            final Map<String, String> oldTags,
-            final Map<String, String> newTags) {
-
-        final Map<String, String> tags = new HashMap<>();
-        if (oldTags != null && newTags != null) {
-            if (newTags.isEmpty()) {
-                return oldTags;
-            } else if (oldTags.isEmpty()) {
-                return newTags;
-            }
-            final Set<String> removedKeys = Sets.difference(oldTags.keySet(), newTags.keySet());
-            for (String key : removedKeys) {
-                if (oldTags.get(key) != null) {
-                    tags.put(key, oldTags.get(key));
-                }
-            }
-        }
-        return tags;
-    }
-
-    private static Map<String, String> getTagsToCreate(
-            final Map<String, String> oldTags,
-            final Map<String, String> newTags) {
-
-        final Map<String, String> tags = new HashMap<>();
-        if (oldTags != null && newTags != null) {
-            if (newTags.isEmpty()) {
-                return Collections.emptyMap();
-            } else if (oldTags.isEmpty()) {
-                return newTags;
-            }
-            final Set<Map.Entry<String, String>> entriesToCreate = Sets.difference(newTags.entrySet(), oldTags.entrySet());
-            for (Map.Entry<String, String> entry : entriesToCreate) {
-                if (entry.getKey() != null && entry.getValue() != null) {
-                    tags.put(entry.getKey(), entry.getValue());
-                }
-            }
-        }
-        return tags;
+                .progress());
     }
 
     private String generateArn(final ResourceHandlerRequest<ResourceModel> request,
@@ -2,6 +2,7 @@ package software.amazon.glue.trigger;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import org.junit.jupiter.api.extension.ExtendWith;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
@@ -16,6 +17,7 @@ import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+@ExtendWith(GlueCallBudgetExtension.class)
 public class AbstractTestBase {
     protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy logger;
@@ -52,6 +54,7 @@ public class AbstractTestBase {
     static ProxyClient<GlueClient> MOCK_PROXY(
             final AmazonWebServicesClientProxy proxy,
             final GlueClient glueClient) {
+        GlueCallBudgetExtension.track(glueClient);
         return new ProxyClient<GlueClient>() {
             @Override
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
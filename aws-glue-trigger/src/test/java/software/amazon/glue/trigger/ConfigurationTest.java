@@ -0,0 +1,84 @@
+package software.amazon.glue.trigger;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.IoUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigurationTest {
+
+    @Test
+    public void resourceSchemaJsonObject_EqualsParsedSchemaFile() throws Exception {
+        final JSONObject parsed = TestData.parseSchemaFile();
+
+        final JSONObject schema = new Configuration().resourceSchemaJsonObject();
+
+        assertThat(schema.similar(parsed)).isTrue();
+        assertThat(new Configuration().resourceSchemaJsonObject()).isNotSameAs(schema);
+    }
+
+    @Test
+    public void resourceSchemaConstants_AreGeneratedFromCurrentSchemaFile() throws Exception {
+        final byte[] schemaFile = TestData.readSchemaFile();
+
+        //A stale hash means the constants were compiled without running generate-sources.
+        assertThat(BinaryUtils.toHex(MessageDigest.getInstance("SHA-256").digest(schemaFile)))
+                .isEqualTo(ResourceSchemaConstants.SCHEMA_SHA256);
+    }
+
+    @Test
+    public void resourceSchemaConstants_MatchTaggingAndIdentifiers() throws Exception {
+        final JSONObject parsed = TestData.parseSchemaFile();
+        final JSONObject tagging = parsed.getJSONObject("tagging");
+
+        assertThat(ResourceSchemaConstants.TYPE_NAME).isEqualTo(ResourceModel.TYPE_NAME);
+        assertThat(ResourceSchemaConstants.TAGGABLE).isEqualTo(tagging.getBoolean("taggable"));
+        assertThat(ResourceSchemaConstants.TAG_ON_CREATE).isEqualTo(tagging.getBoolean("tagOnCreate"));
+        assertThat(ResourceSchemaConstants.TAG_UPDATABLE).isEqualTo(tagging.getBoolean("tagUpdatable"));
+        assertThat(ResourceSchemaConstants.CLOUD_FORMATION_SYSTEM_TAGS)
+                .isEqualTo(tagging.getBoolean("cloudFormationSystemTags"));
+        assertThat(ResourceSchemaConstants.TAG_PROPERTY).isEqualTo(tagging.getString("tagProperty"));
+        assertThat(ResourceSchemaConstants.REQUIRED).isEqualTo(TestData.strings(parsed.getJSONArray("required")));
+        assertThat(ResourceSchemaConstants.PRIMARY_IDENTIFIER)
+                .isEqualTo(TestData.strings(parsed.getJSONArray("primaryIdentifier")));
+        assertThat(ResourceSchemaConstants.CREATE_ONLY_PROPERTIES)
+                .isEqualTo(TestData.strings(parsed.getJSONArray("createOnlyProperties")));
+        assertThat(ResourceSchemaConstants.WRITE_ONLY_PROPERTIES)
+                .isEqualTo(TestData.strings(parsed.getJSONArray("writeOnlyProperties")));
+        assertThat(ResourceSchemaConstants.READ_ONLY_PROPERTIES).isEmpty();
+    }
+
+    private static class TestData {
+        private static byte[] readSchemaFile() throws Exception {
+            try (InputStream schema = ConfigurationTest.class.getClassLoader()
+                    .getResourceAsStream(ResourceSchemaConstants.SCHEMA_FILENAME)) {
+                return IoUtils.toByteArray(schema);
+            }
+        }
+
+        /**
+         * Parses the schema the way BaseConfiguration does.
+         */
+        private static JSONObject parseSchemaFile() throws Exception {
+            return new JSONObject(new JSONTokener(new ByteArrayInputStream(readSchemaFile())));
+        }
+
+        private static List<String> strings(final JSONArray array) {
+            final List<String> strings = new ArrayList<>(array.length());
+            for (int i = 0; i < array.length(); i++) {
+                strings.add(array.getString(i));
+            }
+            return strings;
+        }
+    }
+}
@@ -90,6 +90,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     }
 
     @Test
+    @GlueCallBudget(2)
     public void handleRequest_SimpleSuccess() {
 
         final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(generateStandardValidResourceModel(), null);
@@ -0,0 +1,135 @@
+package software.amazon.glue.trigger;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchGetTriggersRequest;
+import software.amazon.awssdk.services.glue.model.BatchGetTriggersResponse;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsResponse;
+import software.amazon.awssdk.services.glue.model.GetTriggerRequest;
+import software.amazon.awssdk.services.glue.model.GetTriggerResponse;
+import software.amazon.awssdk.services.glue.model.InternalServiceException;
+import software.amazon.awssdk.services.glue.model.Trigger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory triggers and tags behind a GlueClient, answering GetTrigger, BatchGetTriggers and
+ * GetTags after a fixed latency per call so that round trips can be compared locally.
+ *
+ * Tags are looked up by the trigger name at the end of the ARN, whatever the region and account.
+ */
+final class FakeGlueTriggerClient implements InvocationHandler {
+    private final Duration latency;
+    private final Map<String, Trigger> triggers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> tags = new ConcurrentHashMap<>();
+    private final Set<String> failingTags = ConcurrentHashMap.newKeySet();
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    private FakeGlueTriggerClient(final Duration latency) {
+        this.latency = latency;
+    }
+
+    static FakeGlueTriggerClient create(final Duration latency) {
+        return new FakeGlueTriggerClient(latency);
+    }
+
+    GlueClient client() {
+        return (GlueClient) Proxy.newProxyInstance(
+                GlueClient.class.getClassLoader(),
+                new Class<?>[] {GlueClient.class},
+                this);
+    }
+
+    FakeGlueTriggerClient put(final Trigger trigger, final Map<String, String> triggerTags) {
+        triggers.put(trigger.name(), trigger);
+        tags.put(trigger.name(), triggerTags);
+        return this;
+    }
+
+    /**
+     * Makes every GetTags of the trigger fail.
+     */
+    void failTags(final String triggerName) {
+        failingTags.add(triggerName);
+    }
+
+    /**
+     * @return how many names each BatchGetTriggers call asked for
+     */
+    List<Integer> batchSizes() {
+        synchronized (batchSizes) {
+            return new ArrayList<>(batchSizes);
+        }
+    }
+
+    @Override
+    public Object invoke(
+            final Object proxy,
+            final Method method,
+            final Object[] args) throws InterruptedException {
+
+        switch (method.getName()) {
+            case "serviceName":
+                return GlueClient.SERVICE_NAME;
+            case "close":
+                return null;
+            case "getTrigger":
+                Thread.sleep(latency.toMillis());
+                return getTrigger((GetTriggerRequest) args[0]);
+            case "batchGetTriggers":
+                Thread.sleep(latency.toMillis());
+                return batchGetTriggers((BatchGetTriggersRequest) args[0]);
+            case "getTags":
+                Thread.sleep(latency.toMillis());
+                return getTags((GetTagsRequest) args[0]);
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    private GetTriggerResponse getTrigger(final GetTriggerRequest request) {
+        final Trigger trigger = triggers.get(request.name());
+        if (trigger == null) {
+            throw EntityNotFoundException.builder().message("Trigger not found").build();
+        }
+        return GetTriggerResponse.builder().trigger(trigger).build();
+    }
+
+    private BatchGetTriggersResponse batchGetTriggers(final BatchGetTriggersRequest request) {
+        batchSizes.add(request.triggerNames().size());
+        final List<Trigger> found = new ArrayList<>();
+        final List<String> notFound = new ArrayList<>();
+        for (final String name : request.triggerNames()) {
+            final Trigger trigger = triggers.get(name);
+            if (trigger == null) {
+                notFound.add(name);
+            } else {
+                found.add(trigger);
+            }
+        }
+        return BatchGetTriggersResponse.builder().triggers(found).triggersNotFound(notFound).build();
+    }
+
+    private GetTagsResponse getTags(final GetTagsRequest request) {
+        final String arn = request.resourceArn();
+        final String name = arn.substring(arn.lastIndexOf('/') + 1);
+        if (failingTags.contains(name)) {
+            throw InternalServiceException.builder().message("Internal service error").build();
+        }
+        final Map<String, String> triggerTags = tags.get(name);
+        if (triggerTags == null) {
+            throw EntityNotFoundException.builder().message("Resource not found").build();
+        }
+        return GetTagsResponse.builder().tags(triggerTags).build();
+    }
+}
@@ -0,0 +1,146 @@
+package software.amazon.glue.trigger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GlueClientMetricsTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final GlueClientMetrics metrics = new GlueClientMetrics();
+
+    @Test
+    public void drain_AggregatesCallsIntoOneEmfLine() throws Exception {
+        metrics.publish(TestData.apiCall(Duration.ofMillis(120), 0, 3, 7));
+        metrics.publish(TestData.apiCall(Duration.ofMillis(480), 2, 5, 5));
+
+        final JsonNode line = MAPPER.readTree(metrics.drain("ReadHandler").get());
+
+        final JsonNode directive = line.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(directive.get("Namespace").asText()).isEqualTo(GlueClientMetrics.NAMESPACE);
+        assertThat(directive.get("Dimensions").get(0).get(1).asText()).isEqualTo("Handler");
+        assertThat(line.get("Handler").asText()).isEqualTo("ReadHandler");
+        assertThat(line.get("ResourceType").asText()).isEqualTo(ResourceModel.TYPE_NAME);
+
+        assertThat(line.get("ApiCallDurationCount").asDouble()).isEqualTo(2.0);
+        //Percentiles are the upper bound of their power-of-two bucket, capped at the max.
+        assertThat(line.get("ApiCallDurationP50").asDouble()).isEqualTo(131.072);
+        assertThat(line.get("ApiCallDurationP99").asDouble()).isEqualTo(480.0);
+        assertThat(line.get("ApiCallDurationMax").asDouble()).isEqualTo(480.0);
+        assertThat(line.get("ServiceCallDurationCount").asDouble()).isEqualTo(2.0);
+        assertThat(line.get("BackoffDelayDurationMax").asDouble()).isEqualTo(10.0);
+        assertThat(line.get("ConcurrencyAcquireDurationCount").asDouble()).isEqualTo(2.0);
+        assertThat(line.get("LeasedConcurrencyMax").asDouble()).isEqualTo(5.0);
+        assertThat(line.get("AvailableConcurrencyP50").asDouble()).isEqualTo(7.0);
+        assertThat(line.get("RetryCount").asDouble()).isEqualTo(2.0);
+        assertThat(line.get("Histograms").get("ApiCallDuration").get("131.072").asLong()).isEqualTo(1L);
+        assertThat(line.get("Histograms").get("ApiCallDuration").get("524.288").asLong()).isEqualTo(1L);
+
+        final List<String> names = new ArrayList<>();
+        directive.get("Metrics").forEach(metric -> names.add(metric.get("Name").asText()));
+        line.fieldNames().forEachRemaining(field -> {
+            if (line.get(field).isNumber()) {
+                assertThat(names).contains(field);
+            }
+        });
+    }
+
+    @Test
+    public void drain_WhenNoCallCompletedSinceLastDrain_ReturnsNothing() {
+        assertThat(metrics.drain("ReadHandler")).isEmpty();
+
+        metrics.publish(TestData.apiCall(Duration.ofMillis(5), 0, 1, 9));
+
+        assertThat(metrics.drain("ReadHandler")).isPresent();
+        assertThat(metrics.drain("ReadHandler")).isEmpty();
+    }
+
+    @Test
+    public void publish_WhenRecordedConcurrently_CountsEveryCall() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        metrics.publish(TestData.apiCall(Duration.ofMillis(i), 1, 1, 1));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final JsonNode line = MAPPER.readTree(metrics.drain("ReadHandler").get());
+
+        assertThat(line.get("ApiCallDurationCount").asDouble()).isEqualTo(8000.0);
+        assertThat(line.get("RetryCount").asDouble()).isEqualTo(8000.0);
+        assertThat(line.get("ApiCallDurationMax").asDouble()).isEqualTo(999.0);
+    }
+
+    @Test
+    public void publish_WhenCollectionCannotBeRead_DoesNotThrow() {
+        final MetricCollection broken = mock(MetricCollection.class);
+        when(broken.metricValues(any())).thenThrow(new IllegalStateException("broken"));
+
+        metrics.publish(broken);
+
+        assertThat(metrics.drain("ReadHandler")).isEmpty();
+    }
+
+    @Test
+    public void bucket_UsesPowerOfTwoUpperBounds() {
+        assertThat(GlueClientMetrics.Histogram.bucket(0L)).isEqualTo(0);
+        assertThat(GlueClientMetrics.Histogram.bucket(1L)).isEqualTo(1);
+        assertThat(GlueClientMetrics.Histogram.bucket(2L)).isEqualTo(2);
+        assertThat(GlueClientMetrics.Histogram.bucket(3L)).isEqualTo(3);
+        assertThat(GlueClientMetrics.Histogram.bucket(4L)).isEqualTo(3);
+        assertThat(GlueClientMetrics.Histogram.bucket(5L)).isEqualTo(4);
+        assertThat(GlueClientMetrics.Histogram.bucket(Long.MAX_VALUE)).isEqualTo(63);
+        assertThat(GlueClientMetrics.Histogram.upperBound(3)).isEqualTo(4L);
+        assertThat(GlueClientMetrics.Histogram.upperBound(63)).isEqualTo(1L << 62);
+    }
+
+    private static class TestData {
+        /**
+         * The metrics the SDK reports for one API call: the call itself, its attempt and the HTTP
+         * client metrics of the attempt.
+         */
+        private static MetricCollection apiCall(
+                final Duration duration,
+                final int retries,
+                final int leased,
+                final int available) {
+            final MetricCollector apiCall = MetricCollector.create("ApiCall");
+            apiCall.reportMetric(CoreMetric.API_CALL_DURATION, duration);
+            apiCall.reportMetric(CoreMetric.RETRY_COUNT, retries);
+            final MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+            attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, duration);
+            attempt.reportMetric(CoreMetric.BACKOFF_DELAY_DURATION, Duration.ofMillis(retries * 5L));
+            final MetricCollector httpClient = attempt.createChild("HttpClient");
+            httpClient.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofNanos(1500));
+            httpClient.reportMetric(HttpMetric.LEASED_CONCURRENCY, leased);
+            httpClient.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, available);
+            return apiCall.collect();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package software.amazon.glue.trigger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GlueRequest;
+import software.amazon.awssdk.services.glue.model.Trigger;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Runs many invocations of one shared handler instance at once through its public entry point,
+ * the way a warm Lambda container may be reused, and checks that nothing of one invocation leaks
+ * into another.
+ */
+public class HandlerConcurrencyTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @BeforeEach
+    public void setup() {
+        System.setProperty("glue.client.metrics", "true");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("glue.client.metrics");
+    }
+
+    @Test
+    public void handleRequest_WhenSharedAcrossThreads_AttributesResultsLogsAndMetricsToTheirInvocation()
+            throws Exception {
+        final FakeGlueTriggerClient glue = FakeGlueTriggerClient.create(Duration.ofMillis(1));
+        for (int i = 0; i < TestData.TRIGGERS; i++) {
+            glue.put(TestData.trigger(i), ImmutableMap.of("index", String.valueOf(i)));
+        }
+        final ReadHandler handler = new ReadHandler(TestData.publishingMetrics(glue.client()));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(TestData.THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Invocation>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < TestData.INVOCATIONS; i++) {
+                final int index = i % TestData.TRIGGERS;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return Invocation.run(handler, index);
+                }));
+            }
+            start.countDown();
+
+            for (final Future<Invocation> future : futures) {
+                final Invocation invocation = future.get(30, TimeUnit.SECONDS);
+                final String name = TestData.name(invocation.index);
+
+                assertThat(invocation.event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+                assertThat(invocation.event.getResourceModel().getName()).isEqualTo(name);
+                assertThat(invocation.event.getResourceModel().getTags())
+                        .containsExactly(entry("index", String.valueOf(invocation.index)));
+                assertThat(invocation.lines).anyMatch(line -> line.contains("Reading Trigger " + name + "."));
+                assertThat(invocation.lines)
+                        .filteredOn(line -> line.contains(TestData.NAME_PREFIX))
+                        .allMatch(line -> line.contains(name), "only mention " + name);
+
+                //GetTrigger and GetTags, whatever the other invocations called meanwhile.
+                final List<String> emfLines = invocation.emfLines();
+                assertThat(emfLines).hasSize(1);
+                final JsonNode emf = MAPPER.readTree(emfLines.get(0));
+                assertThat(emf.get("Handler").asText()).isEqualTo("ReadHandler");
+                assertThat(emf.get("ApiCallDurationCount").asDouble()).isEqualTo(2.0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void forInvocation_WhenMetricsAreNotConfigured_RecordsNothing() {
+        System.clearProperty("glue.client.metrics");
+        if (System.getenv(GlueClientMetrics.CLIENT_METRICS_ENV) == null) {
+            final GlueClientMetrics metrics = GlueClientMetrics.forInvocation();
+
+            assertThat(metrics.isEnabled()).isFalse();
+            assertThat(GlueClientMetrics.publisherIfEnabled()).isEmpty();
+            assertThat(metrics.drain("ReadHandler")).isEmpty();
+        }
+    }
+
+    /**
+     * One invocation with its own proxy, callback context and logger, as the handler wrapper sets up.
+     */
+    private static final class Invocation {
+        private final int index;
+        private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        private ProgressEvent<ResourceModel, CallbackContext> event;
+
+        private Invocation(final int index) {
+            this.index = index;
+        }
+
+        private static Invocation run(
+                final ReadHandler handler,
+                final int index) {
+            final Invocation invocation = new Invocation(index);
+            final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+                    invocation.lines::add, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+            invocation.event = handler.handleRequest(
+                    proxy,
+                    TestData.request(index),
+                    new CallbackContext(),
+                    invocation.lines::add);
+            return invocation;
+        }
+
+        private List<String> emfLines() {
+            final List<String> emfLines = new ArrayList<>();
+            synchronized (lines) {
+                for (final String line : lines) {
+                    if (line.startsWith("{\"_aws\"")) {
+                        emfLines.add(line);
+                    }
+                }
+            }
+            return emfLines;
+        }
+    }
+
+    private static class TestData {
+        private static final String NAME_PREFIX = "trigger-";
+        private static final int TRIGGERS = 64;
+        private static final int INVOCATIONS = 512;
+        private static final int THREADS = 32;
+
+        //Zero padded, so that no name contains another.
+        private static String name(final int index) {
+            return String.format("%s%03d", NAME_PREFIX, index);
+        }
+
+        private static Trigger trigger(final int index) {
+            return Trigger.builder()
+                    .name(name(index))
+                    .type("ON_DEMAND")
+                    .actions(software.amazon.awssdk.services.glue.model.Action.builder().jobName("job").build())
+                    .build();
+        }
+
+        private static ResourceHandlerRequest<ResourceModel> request(final int index) {
+            return ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(ResourceModel.builder().name(name(index)).build())
+                    .region("us-east-1")
+                    .awsAccountId("123456789012")
+                    .build();
+        }
+
+        /**
+         * Publishes the metrics of every call to the client's publisher on the calling thread, once
+         * the call completed, the way the SDK does for a synchronous client.
+         */
+        private static GlueClient publishingMetrics(final GlueClient client) {
+            return (GlueClient) Proxy.newProxyInstance(
+                    GlueClient.class.getClassLoader(),
+                    new Class<?>[] {GlueClient.class},
+                    (proxy, method, args) -> {
+                        try {
+                            return method.invoke(client, args);
+                        } catch (final InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            if (args != null && args.length == 1 && args[0] instanceof GlueRequest) {
+                                final MetricCollector apiCall = MetricCollector.create("ApiCall");
+                                apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(1));
+                                GlueClientMetrics.publisherIfEnabled()
+                                        .ifPresent(publisher -> publisher.publish(apiCall.collect()));
+                            }
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package software.amazon.glue.trigger;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlerLoggerTest extends AbstractTestBase {
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    public void log_WhenLevelIsDisabled_DoesNotBuildMessage() {
+        final HandlerLogger handlerLogger = new HandlerLogger(lines::add, HandlerLogger.Level.INFO, 10);
+
+        handlerLogger.debug(() -> {
+            throw new AssertionError("Message should not be built");
+        });
+        handlerLogger.info(() -> "Visible");
+
+        assertThat(lines).containsExactly("Visible");
+        assertThat(handlerLogger.getDroppedBelowLevel()).isEqualTo(1L);
+    }
+
+    @Test
+    public void sampled_WhenPollRepeats_LogsEveryNthLine() {
+        final HandlerLogger handlerLogger = new HandlerLogger(lines::add, HandlerLogger.Level.INFO, 10);
+        final CallbackContext callbackContext = new CallbackContext();
+
+        for (int i = 0; i < 25; i++) {
+            handlerLogger.sampled("CallGraph", callbackContext, () -> "Still pending");
+        }
+        handlerLogger.sampled("OtherCallGraph", new CallbackContext(), () -> "Other poll");
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).isEqualTo("Still pending");
+        assertThat(lines.get(1)).contains("occurrence 11");
+        assertThat(lines.get(3)).isEqualTo("Other poll");
+        assertThat(handlerLogger.getDroppedBySampling()).isEqualTo(22L);
+
+        handlerLogger.logDroppedLines();
+        assertThat(lines.get(4)).contains("22 sampled poll lines");
+        assertThat(handlerLogger.getDroppedBySampling()).isZero();
+    }
+
+    @Test
+    public void sampled_WhenPollContinuesInCallback_KeepsCountingFromCallbackContext() {
+        final CallbackContext callbackContext = new CallbackContext();
+        for (int i = 0; i < 10; i++) {
+            new HandlerLogger(lines::add, HandlerLogger.Level.INFO, 10)
+                .sampled("CallGraph", callbackContext, () -> "Still pending");
+        }
+
+        final HandlerLogger callbackLogger = new HandlerLogger(lines::add, HandlerLogger.Level.INFO, 10);
+        callbackLogger.sampled("CallGraph", callbackContext, () -> "Still pending");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).contains("occurrence 11");
+        assertThat(callbackContext.getSampledLogLines()).isEqualTo(11);
+    }
+
+    @Test
+    public void truncate_WhenValueIsLong_KeepsPrefixAndLength() {
+        final StringBuilder definition = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            definition.append('x');
+        }
+
+        assertThat(HandlerLogger.truncate(definition, 10)).isEqualTo("xxxxxxxxxx...(1990 more chars)");
+        assertThat(HandlerLogger.truncate("short")).isEqualTo("short");
+        assertThat(HandlerLogger.truncate(null)).isEqualTo("null");
+    }
+
+    @Test
+    public void of_WhenAlreadyHandlerLogger_ReturnsSameInstance() {
+        final HandlerLogger handlerLogger = HandlerLogger.of(logger);
+
+        assertThat(HandlerLogger.of(handlerLogger)).isSameAs(handlerLogger);
+    }
+}
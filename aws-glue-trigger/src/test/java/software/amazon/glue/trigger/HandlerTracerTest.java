@@ -0,0 +1,155 @@
+package software.amazon.glue.trigger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.Trigger;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HandlerTracerTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path traceDirectory;
+
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<GlueClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        System.setProperty("glue.trace.dir", traceDirectory.toString());
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(
+                proxy,
+                FakeGlueTriggerClient.create(Duration.ofMillis(2))
+                        .put(TestData.TRIGGER, ImmutableMap.of("team", "data-platform"))
+                        .client());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("glue.trace.dir");
+    }
+
+    @Test
+    public void finish_WhenCalledBack_AppendsEveryInvocationToOneChromeTrace() throws Exception {
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final HandlerTracer first = HandlerTracer.start("ReadHandler", callbackContext);
+        final ProgressEvent<ResourceModel, CallbackContext> event = new ReadHandler().handleRequest(
+                proxy, TestData.REQUEST, callbackContext, first.traceCalls(proxyClient), logger);
+        first.finish(String.valueOf(event.getStatus()));
+
+        final HandlerTracer second = HandlerTracer.start("ReadHandler", callbackContext);
+        second.finish("SUCCESS");
+
+        final List<JsonNode> events =
+                TestData.readTrace(traceDirectory.resolve(callbackContext.getTraceId() + ".json"));
+        assertThat(callbackContext.getTraceInvocations()).isEqualTo(2);
+        assertThat(events).extracting(node -> node.get("name").asText()).containsExactly(
+                "thread_name", "GetTrigger", "AWS-Glue-Trigger::ReadHandler",
+                "GetTags", "AWS-Glue-Trigger::GetTagsReadHandler", "ReadHandler",
+                "thread_name", "ReadHandler");
+        assertThat(events.get(6).get("args").get("name").asText()).isEqualTo("ReadHandler #2");
+        assertThat(events.get(7).get("tid").asInt()).isEqualTo(2);
+        for (final JsonNode span : events) {
+            if ("X".equals(span.get("ph").asText())) {
+                assertThat(span.get("args").get("traceId").asText()).isEqualTo(callbackContext.getTraceId());
+            }
+        }
+
+        //Glue calls nest in their call graph, and call graphs in the invocation.
+        TestData.assertWithin(events.get(1), events.get(2));
+        TestData.assertWithin(events.get(3), events.get(4));
+        TestData.assertWithin(events.get(2), events.get(5));
+        assertThat(events.get(1).get("cat").asText()).isEqualTo(HandlerTracer.GLUE_CALL);
+        assertThat(events.get(2).get("cat").asText()).isEqualTo(HandlerTracer.CALL_GRAPH);
+        assertThat(events.get(5).get("args").get("outcome").asText()).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    public void span_WhenCallGraphThrows_RecordsExceptionAsOutcome() {
+        final HandlerTracer tracer = HandlerTracer.start("ReadHandler", new CallbackContext());
+
+        assertThrows(CfnNotFoundException.class, () -> HandlerTracer.span("AWS-Glue-Trigger::ReadHandler", () -> {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, "trigger");
+        }));
+        tracer.finish("EXCEPTION");
+
+        assertThat(tracer.getEvents()).hasSize(2);
+        assertThat(tracer.getEvents().get(0).get("args").get("outcome").asText()).isEqualTo("CfnNotFoundException");
+        assertThat(HandlerTracer.span("AfterFinish", () -> "untraced")).isEqualTo("untraced");
+        assertThat(tracer.getEvents()).hasSize(2);
+    }
+
+    @Test
+    public void start_WhenTraceDirectoryIsNotConfigured_TracesNothing() {
+        System.clearProperty("glue.trace.dir");
+        if (System.getenv(HandlerTracer.TRACE_DIR_ENV) == null) {
+            final CallbackContext callbackContext = new CallbackContext();
+            final HandlerTracer tracer = HandlerTracer.start("ReadHandler", callbackContext);
+
+            assertThat(tracer.isEnabled()).isFalse();
+            assertThat(tracer.traceCalls(proxyClient)).isSameAs(proxyClient);
+            assertThat(HandlerTracer.span("AWS-Glue-Trigger::ReadHandler", () -> "value")).isEqualTo("value");
+            tracer.finish("SUCCESS");
+            assertThat(callbackContext.getTraceId()).isNull();
+            assertThat(tracer.getEvents()).isEmpty();
+        }
+    }
+
+    private static class TestData {
+        private static final Trigger TRIGGER = Trigger.builder()
+                .name("trigger")
+                .type("ON_DEMAND")
+                .actions(software.amazon.awssdk.services.glue.model.Action.builder().jobName("job").build())
+                .build();
+
+        private static final ResourceHandlerRequest<ResourceModel> REQUEST =
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder().name("trigger").build())
+                        .region("us-east-1")
+                        .awsAccountId("123456789012")
+                        .build();
+
+        /**
+         * Reads an unterminated Chrome trace the way the trace viewers do.
+         */
+        private static List<JsonNode> readTrace(final Path trace) throws Exception {
+            final String content = new String(Files.readAllBytes(trace), StandardCharsets.UTF_8).trim();
+            assertThat(content).startsWith("[").endsWith(",");
+            final List<JsonNode> events = new ArrayList<>();
+            MAPPER.readTree(content.substring(0, content.length() - 1) + "]").forEach(events::add);
+            return events;
+        }
+
+        private static void assertWithin(
+                final JsonNode inner,
+                final JsonNode outer) {
+            final long innerStart = inner.get("ts").asLong();
+            final long outerStart = outer.get("ts").asLong();
+            assertThat(innerStart).isGreaterThanOrEqualTo(outerStart);
+            assertThat(innerStart + inner.get("dur").asLong())
+                    .isLessThanOrEqualTo(outerStart + outer.get("dur").asLong());
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package software.amazon.glue.trigger;
 
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchGetTriggersRequest;
+import software.amazon.awssdk.services.glue.model.BatchGetTriggersResponse;
 import software.amazon.awssdk.services.glue.model.ListTriggersRequest;
 import software.amazon.awssdk.services.glue.model.ListTriggersResponse;
+import software.amazon.awssdk.services.glue.model.Trigger;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -11,19 +15,25 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import com.google.common.collect.ImmutableMap;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -137,6 +147,162 @@ public class ListHandlerTest extends AbstractTestBase {
         tear_down();
     }
 
+    @Test
+    public void handleRequest_WhenFiltered_SendsDependentJobAndTagsToGlue() {
+        final ResourceModel filter = ResourceModel.builder()
+                .actions(Arrays.asList(
+                        Action.builder().jobName("orders-job").build(),
+                        Action.builder().jobName("orders-job").timeout(10).build()))
+                .tags(ImmutableMap.of("team", "data-platform"))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(filter, null);
+
+        when(proxyClient.client().listTriggers(any(ListTriggersRequest.class)))
+                .thenReturn(ListTriggersResponse.builder().triggerNames(names).build());
+        when(proxyClient.client().batchGetTriggers(any(BatchGetTriggersRequest.class)))
+                .thenReturn(BatchGetTriggersResponse.builder()
+                        .triggers(trigger("test1", "orders-job"), trigger("test2", "orders-job"))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<ListTriggersRequest> listTriggersRequest = ArgumentCaptor.forClass(ListTriggersRequest.class);
+        verify(glueClient).listTriggers(listTriggersRequest.capture());
+        verify(glueClient).batchGetTriggers(any(BatchGetTriggersRequest.class));
+        assertThat(listTriggersRequest.getValue().dependentJobName()).isEqualTo("orders-job");
+        assertThat(listTriggersRequest.getValue().tags()).containsOnly(entry("team", "data-platform"));
+        assertThat(listTriggersRequest.getValue().maxResults()).isEqualTo(Translator.LIST_MAX_RESULTS);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(resourceModels);
+
+        tear_down();
+    }
+
+    @Test
+    public void handleRequest_WhenPagesAreSparse_AggregatesThemInOneInvocation() {
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(generateStandardValidResourceModel(), null);
+
+        when(proxyClient.client().listTriggers(any(ListTriggersRequest.class)))
+                .thenReturn(
+                        ListTriggersResponse.builder().triggerNames("test1").nextToken("page2").build(),
+                        ListTriggersResponse.builder().triggerNames(Collections.emptyList()).nextToken("page3").build(),
+                        ListTriggersResponse.builder().triggerNames("test2").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<ListTriggersRequest> listTriggersRequest = ArgumentCaptor.forClass(ListTriggersRequest.class);
+        verify(glueClient, times(3)).listTriggers(listTriggersRequest.capture());
+        assertThat(listTriggersRequest.getAllValues())
+                .extracting(ListTriggersRequest::nextToken)
+                .containsExactly(null, "page2", "page3");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(resourceModels);
+        assertThat(response.getNextToken()).isNull();
+
+        tear_down();
+    }
+
+    @Test
+    public void handleRequest_WhenTimeBudgetRunsOut_ReturnsNextTokenOfLastPageRead() {
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(generateStandardValidResourceModel(), null);
+
+        when(proxyClient.client().listTriggers(any(ListTriggersRequest.class)))
+                .thenReturn(ListTriggersResponse.builder().triggerNames("test1").nextToken("page2").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler(Duration.ZERO)
+                .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        verify(glueClient).listTriggers(any(ListTriggersRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(resourceModels.subList(0, 1));
+        assertThat(response.getNextToken()).isEqualTo("page2");
+
+        tear_down();
+    }
+
+    @Test
+    public void handleRequest_WhenActionsStartSeveralJobs_FailsWithInvalidRequest() {
+        final ResourceModel filter = ResourceModel.builder()
+                .actions(Arrays.asList(
+                        Action.builder().jobName("orders-job").build(),
+                        Action.builder().jobName("returns-job").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(filter, null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        verifyNoMoreInteractions(glueClient);
+    }
+
+    @Test
+    public void handleRequest_WhenListedTriggersDoNotStartDependentJob_KeepsOnlyConfirmedTriggers() {
+        //Glue ignores a DependentJobName that no trigger starts and lists every trigger instead.
+        final ResourceModel filter = ResourceModel.builder()
+                .actions(Arrays.asList(
+                        Action.builder().jobName("orders-job").build(),
+                        Action.builder().crawlerName("orders-crawler").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(filter, null);
+
+        when(proxyClient.client().listTriggers(any(ListTriggersRequest.class)))
+                .thenReturn(ListTriggersResponse.builder().triggerNames("test1", "test2", "test3").build());
+        when(proxyClient.client().batchGetTriggers(any(BatchGetTriggersRequest.class)))
+                .thenReturn(BatchGetTriggersResponse.builder()
+                        .triggers(
+                                trigger("test1", "returns-job"),
+                                Trigger.builder()
+                                        .name("test2")
+                                        .actions(
+                                                software.amazon.awssdk.services.glue.model.Action.builder()
+                                                        .jobName("orders-job").build(),
+                                                software.amazon.awssdk.services.glue.model.Action.builder()
+                                                        .crawlerName("orders-crawler").build())
+                                        .build(),
+                                trigger("test3", "orders-job"))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<BatchGetTriggersRequest> batchGetTriggersRequest =
+                ArgumentCaptor.forClass(BatchGetTriggersRequest.class);
+        verify(glueClient).listTriggers(any(ListTriggersRequest.class));
+        verify(glueClient).batchGetTriggers(batchGetTriggersRequest.capture());
+        assertThat(batchGetTriggersRequest.getValue().triggerNames()).containsExactly("test1", "test2", "test3");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(resourceModels.subList(1, 2));
+
+        tear_down();
+    }
+
+    @Test
+    public void handleRequest_WhenActionsOnlyStartCrawlers_FailsWithInvalidRequest() {
+        final ResourceModel filter = ResourceModel.builder()
+                .actions(Collections.singletonList(Action.builder().crawlerName("orders-crawler").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(filter, null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("orders-crawler");
+        verifyNoMoreInteractions(glueClient);
+    }
+
+    private static Trigger trigger(final String name, final String jobName) {
+        return Trigger.builder()
+                .name(name)
+                .actions(software.amazon.awssdk.services.glue.model.Action.builder().jobName(jobName).build())
+                .build();
+    }
+
     private ResourceModel generateStandardValidResourceModel() {
         return ResourceModel.builder()
                 .build();
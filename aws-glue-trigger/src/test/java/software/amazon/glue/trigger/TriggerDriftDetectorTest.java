@@ -0,0 +1,137 @@
+package software.amazon.glue.trigger;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.Trigger;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TriggerDriftDetectorTest extends AbstractTestBase {
+    private FakeGlueTriggerClient glue;
+    private TriggerDriftDetector detector;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glue = FakeGlueTriggerClient.create(Duration.ZERO);
+        detector = new TriggerDriftDetector(
+                MOCK_PROXY(proxy, glue.client()),
+                logger,
+                "us-east-1",
+                "123456789012",
+                Executors.newFixedThreadPool(4));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        detector.close();
+    }
+
+    @Test
+    public void detect_ReadsTriggersInBatchesOf100() {
+        final List<ResourceModel> desired = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            glue.put(TestData.trigger("trigger-" + i, "description"), TestData.TAGS);
+            desired.add(TestData.model("trigger-" + i, "description"));
+        }
+
+        final List<TriggerDriftDetector.Drift> drifts = detector.detect(desired);
+
+        assertThat(glue.batchSizes()).containsExactlyInAnyOrder(100, 100, 50);
+        assertThat(drifts).hasSize(250);
+        for (int i = 0; i < 250; i++) {
+            assertThat(drifts.get(i).getName()).isEqualTo("trigger-" + i);
+            assertThat(drifts.get(i).getStatus()).isEqualTo(TriggerDriftDetector.Drift.Status.IN_SYNC);
+        }
+    }
+
+    @Test
+    public void detect_ReportsModifiedAndDeletedTriggers() {
+        glue.put(TestData.trigger("modified", "changed out of band"), ImmutableMap.of("team", "other-team"));
+
+        final List<TriggerDriftDetector.Drift> drifts = detector.detect(Arrays.asList(
+                TestData.model("modified", "description"),
+                TestData.model("deleted", "description")));
+
+        assertThat(drifts.get(0).getStatus()).isEqualTo(TriggerDriftDetector.Drift.Status.MODIFIED);
+        assertThat(drifts.get(0).getDifferences()).containsExactly(
+                new TriggerDriftDetector.PropertyDifference("/Description", "description", "changed out of band"),
+                new TriggerDriftDetector.PropertyDifference(
+                        "/Tags",
+                        Translator.convertStringMapToObjectMap(TestData.TAGS),
+                        Translator.convertStringMapToObjectMap(ImmutableMap.of("team", "other-team"))));
+        assertThat(drifts.get(1).getStatus()).isEqualTo(TriggerDriftDetector.Drift.Status.DELETED);
+    }
+
+    @Test
+    public void detect_WhenTagsCannotBeRead_ReportsThatTriggerAsUnknown() {
+        glue.put(TestData.trigger("healthy", "description"), TestData.TAGS);
+        glue.put(TestData.trigger("unreadable", "description"), TestData.TAGS);
+        glue.failTags("unreadable");
+
+        final List<TriggerDriftDetector.Drift> drifts = detector.detect(Arrays.asList(
+                TestData.model("healthy", "description"),
+                TestData.model("unreadable", "description"),
+                ResourceModel.builder().build()));
+
+        assertThat(drifts.get(0).getStatus()).isEqualTo(TriggerDriftDetector.Drift.Status.IN_SYNC);
+        assertThat(drifts.get(1).getStatus()).isEqualTo(TriggerDriftDetector.Drift.Status.UNKNOWN);
+        assertThat(drifts.get(1).getMessage()).contains("Internal service error");
+        assertThat(drifts.get(2).getStatus()).isEqualTo(TriggerDriftDetector.Drift.Status.UNKNOWN);
+        assertThat(drifts.get(2).getMessage()).isEqualTo(BaseHandlerStd.NAME_CANNOT_BE_EMPTY);
+    }
+
+    @Test
+    public void compare_NormalizesDesiredArgumentsLikeCreate() {
+        final ResourceModel desired = ResourceModel.builder()
+                .name("trigger")
+                .actions(Collections.singletonList(Action.builder()
+                        .jobName("job")
+                        .arguments(ImmutableMap.<String, Object>of("--retries", 3))
+                        .build()))
+                .build();
+        final ResourceModel actual = Translator.translateFromTrigger(
+                Trigger.builder()
+                        .name("trigger")
+                        .actions(Translator.translateToSDKActions(desired.getActions()))
+                        .build(),
+                TestData.TAGS);
+
+        assertThat(TriggerDriftDetector.compare(desired, actual).getStatus())
+                .isEqualTo(TriggerDriftDetector.Drift.Status.IN_SYNC);
+    }
+
+    private static class TestData {
+        private static final ImmutableMap<String, String> TAGS = ImmutableMap.of("team", "data-platform");
+
+        private static Trigger trigger(final String name, final String description) {
+            return Trigger.builder()
+                    .name(name)
+                    .type("ON_DEMAND")
+                    .description(description)
+                    .actions(software.amazon.awssdk.services.glue.model.Action.builder().jobName("job").build())
+                    .build();
+        }
+
+        private static ResourceModel model(final String name, final String description) {
+            return ResourceModel.builder()
+                    .name(name)
+                    .type("ON_DEMAND")
+                    .description(description)
+                    .actions(Collections.singletonList(Action.builder().jobName("job").build()))
+                    .tags(ImmutableMap.<String, Object>copyOf(TAGS))
+                    .build();
+        }
+    }
+}
@@ -31,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -361,12 +362,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().tagResource(any(TagResourceRequest.class)))
                 .thenReturn(tagResourceResponse);
 
-        final UntagResourceResponse untagResourceResponse = UntagResourceResponse.builder()
-                .build();
-
-        when(proxyClient.client().untagResource(any(UntagResourceRequest.class)))
-                .thenReturn(untagResourceResponse);
-
         final UpdateTriggerResponse updateTriggerResponse = UpdateTriggerResponse.builder()
                 .trigger(Trigger.builder()
                         .name(name)
@@ -392,6 +387,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
+        verify(glueClient, never()).untagResource(any(UntagResourceRequest.class));
         tear_down();
 
     }
@@ -0,0 +1,176 @@
+#!/usr/bin/env python3
+"""Generates ResourceSchemaConstants.java from the resource schema.
+
+The class holds the tagging and identifier metadata as constants, and builds the
+schema as a JSONObject without parsing the schema file, so that Configuration
+does not have to parse it from the classpath during cold start.
+
+Shared by every resource module, and run by the generate-schema-constants
+execution in each module's pom.xml from the module directory:
+
+    python3 ../codegen/generate_schema_constants.py <schema.json> <package> <output directory>
+"""
+
+import hashlib
+import json
+import os
+import sys
+
+CLASS_NAME = "ResourceSchemaConstants"
+
+# Keys whose values are JSON pointer lists in the resource schema.
+POINTER_LISTS = [
+    ("REQUIRED", "required"),
+    ("PRIMARY_IDENTIFIER", "primaryIdentifier"),
+    ("CREATE_ONLY_PROPERTIES", "createOnlyProperties"),
+    ("READ_ONLY_PROPERTIES", "readOnlyProperties"),
+    ("WRITE_ONLY_PROPERTIES", "writeOnlyProperties"),
+]
+
+
+def literal(value):
+    """Returns the Java expression for a JSON value."""
+    if value is None:
+        return "JSONObject.NULL"
+    if isinstance(value, bool):
+        return "true" if value else "false"
+    if isinstance(value, int):
+        return str(value) if -2 ** 31 <= value < 2 ** 31 else "{}L".format(value)
+    if isinstance(value, float):
+        return repr(value)
+    if isinstance(value, str):
+        # JSON string escapes are valid Java string escapes.
+        return json.dumps(value)
+    raise ValueError("Unsupported schema value: {!r}".format(value))
+
+
+def expression(value, indent):
+    """Returns the Java expression building a JSON value, one entry per line."""
+    padding = " " * indent
+    if isinstance(value, dict):
+        if not value:
+            return "object()"
+        entries = [
+            "{}    {}, {}".format(padding, literal(key), expression(item, indent + 4))
+            for key, item in value.items()
+        ]
+        return "object(\n{})".format(",\n".join(entries))
+    if isinstance(value, list):
+        if not value:
+            return "array()"
+        entries = ["{}    {}".format(padding, expression(item, indent + 4)) for item in value]
+        return "array(\n{})".format(",\n".join(entries))
+    return literal(value)
+
+
+def method_name(key):
+    return "".join(c for c in key if c.isalnum()) + "Schema"
+
+
+def generate(schema_path, package, data):
+    schema = json.loads(data.decode("utf-8"))
+    tagging = schema.get("tagging", {})
+    lines = [
+        "// This is a generated file. Modifications will be overwritten.",
+        "package {};".format(package),
+        "",
+        "import org.json.JSONArray;",
+        "import org.json.JSONObject;",
+        "",
+        "import java.util.Arrays;",
+        "import java.util.Collections;",
+        "import java.util.List;",
+        "",
+        "/**",
+        " * The resource schema as constants, generated from {} by".format(os.path.basename(schema_path)),
+        " * codegen/generate_schema_constants.py.",
+        " */",
+        "final class {} {{".format(CLASS_NAME),
+        "    static final String SCHEMA_FILENAME = {};".format(literal(os.path.basename(schema_path))),
+        "    static final String SCHEMA_SHA256 = {};".format(
+            literal(hashlib.sha256(data).hexdigest())),
+        "    static final String TYPE_NAME = {};".format(literal(schema["typeName"])),
+        "",
+        "    static final boolean TAGGABLE = {};".format(
+            literal(tagging.get("taggable", schema.get("taggable", True)))),
+        "    static final boolean TAG_ON_CREATE = {};".format(literal(tagging.get("tagOnCreate", True))),
+        "    static final boolean TAG_UPDATABLE = {};".format(literal(tagging.get("tagUpdatable", True))),
+        "    static final boolean CLOUD_FORMATION_SYSTEM_TAGS = {};".format(
+            literal(tagging.get("cloudFormationSystemTags", True))),
+        "    static final String TAG_PROPERTY = {};".format(literal(tagging.get("tagProperty", "/properties/Tags"))),
+        "",
+    ]
+    for constant, key in POINTER_LISTS:
+        pointers = ", ".join(literal(pointer) for pointer in schema.get(key, []))
+        lines.append("    static final List<String> {} = list({});".format(constant, pointers))
+    lines += [
+        "",
+        "    private {}() {{".format(CLASS_NAME),
+        "    }",
+        "",
+        "    /**",
+        "     * @return a new JSONObject equal to the parsed schema file.",
+        "     */",
+        "    static JSONObject schema() {",
+        "        final JSONObject schema = new JSONObject();",
+    ]
+    # One method per top-level key keeps every method well below the 64KB bytecode limit.
+    for key, value in schema.items():
+        if isinstance(value, (dict, list)) and value:
+            lines.append("        schema.put({}, {}());".format(literal(key), method_name(key)))
+        else:
+            lines.append("        schema.put({}, {});".format(literal(key), expression(value, 8)))
+    lines += [
+        "        return schema;",
+        "    }",
+    ]
+    for key, value in schema.items():
+        if isinstance(value, (dict, list)) and value:
+            lines += [
+                "",
+                "    private static {} {}() {{".format("JSONObject" if isinstance(value, dict) else "JSONArray",
+                                                    method_name(key)),
+                "        return {};".format(expression(value, 8)),
+                "    }",
+            ]
+    lines += [
+        "",
+        "    private static JSONObject object(final Object... keysAndValues) {",
+        "        final JSONObject object = new JSONObject();",
+        "        for (int i = 0; i < keysAndValues.length; i += 2) {",
+        "            object.put((String) keysAndValues[i], keysAndValues[i + 1]);",
+        "        }",
+        "        return object;",
+        "    }",
+        "",
+        "    private static JSONArray array(final Object... values) {",
+        "        final JSONArray array = new JSONArray();",
+        "        for (final Object value : values) {",
+        "            array.put(value);",
+        "        }",
+        "        return array;",
+        "    }",
+        "",
+        "    private static List<String> list(final String... values) {",
+        "        return Collections.unmodifiableList(Arrays.asList(values));",
+        "    }",
+        "}",
+        "",
+    ]
+    return "\n".join(lines)
+
+
+def main(schema_path, package, output_directory):
+    # Read as bytes, so the hash matches the schema resource on the classpath.
+    with open(schema_path, "rb") as schema_file:
+        data = schema_file.read()
+    directory = os.path.join(output_directory, *package.split("."))
+    os.makedirs(directory, exist_ok=True)
+    with open(os.path.join(directory, CLASS_NAME + ".java"), "w", encoding="utf-8") as java_file:
+        java_file.write(generate(schema_path, package, data))
+
+
+if __name__ == "__main__":
+    if len(sys.argv) != 4:
+        sys.exit(__doc__)
+    main(*sys.argv[1:])